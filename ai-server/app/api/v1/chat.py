@@ -1,14 +1,22 @@
-from fastapi import APIRouter, HTTPException, Depends
+from fastapi import APIRouter, HTTPException, Depends, Request
 from fastapi.responses import StreamingResponse
 from typing import AsyncGenerator
+import asyncio
 import json
 
+from app.core import deadline
+from app.core.codec import negotiate, negotiated_body
 from app.services.clova_studio import clova_service
 from app.schemas.chat import (
     ChatCompletionRequest,
     ChatCompletionResponse,
     SimpleChatRequest,
-    SimpleChatResponse
+    SimpleChatResponse,
+    ConversationChatRequest,
+    BatchChatItem,
+    BatchChatRequest,
+    BatchChatResult,
+    BatchChatResponse
 )
 from app.schemas.common import APIResponse, ErrorResponse
 import structlog
@@ -18,22 +26,116 @@ router = APIRouter(prefix="/chat", tags=["Chat"])
 
 
 @router.post("/simple", response_model=SimpleChatResponse)
-async def simple_chat(request: SimpleChatRequest):
+async def simple_chat(http_request: Request,
+                      request: SimpleChatRequest = Depends(negotiated_body(SimpleChatRequest))):
     """
     간단한 채팅 API (Function Calling 없이)
     - 오디 서비스 메인 페이지에서 사용
+    - 요청/응답 본문은 JSON 또는 CBOR (app.core.codec)
+    - 요청 기한이 지나면 504, api-server가 연결을 끊으면 클로바스튜디오 호출 취소 (app.core.deadline)
     """
     try:
         logger.info("Simple chat request received", message_length=len(request.message))
 
-        response_text = await clova_service.simple_chat(
+        response_text, usage = await deadline.guard(http_request, clova_service.simple_chat_with_usage(
             message=request.message,
             max_tokens=request.max_tokens or 1024,
             temperature=request.temperature or 0.5
-        )
+        ))
 
-        return SimpleChatResponse(response=response_text)
+        return negotiate(http_request, SimpleChatResponse(response=response_text, usage=usage))
 
+    except HTTPException:
+        raise
     except Exception as e:
         logger.error("Simple chat failed", error=str(e))
-        raise HTTPException(status_code=500, detail=str(e))
\ No newline at end of file
+        raise HTTPException(status_code=500, detail=str(e))
+
+@router.post("/conversation", response_model=SimpleChatResponse)
+async def conversation_chat(http_request: Request,
+                            request: ConversationChatRequest = Depends(negotiated_body(ConversationChatRequest))):
+    """
+    세션 대화 API
+    - api-server가 세션에 보관한 이전 대화를 토큰 예산에 맞춰 잘라 messages로 전달 (마지막이 이번 사용자 메시지)
+    """
+    try:
+        logger.info("Conversation chat request received", message_count=len(request.messages))
+
+        response_text, usage = await deadline.guard(http_request, clova_service.conversation_chat_with_usage(
+            messages=request.messages,
+            max_tokens=request.max_tokens or 1024,
+            temperature=request.temperature or 0.5
+        ))
+
+        return negotiate(http_request, SimpleChatResponse(response=response_text, usage=usage))
+
+    except HTTPException:
+        raise
+    except Exception as e:
+        logger.error("Conversation chat failed", error=str(e))
+        raise HTTPException(status_code=500, detail=str(e))
+
+@router.post("/batch", response_model=BatchChatResponse)
+async def batch_chat(http_request: Request,
+                     request: BatchChatRequest = Depends(negotiated_body(BatchChatRequest))):
+    """
+    배치 채팅 API
+    - api-server가 짧은 시간 동안 모은 요청을 한 번에 전달
+    - 항목별로 동시에 클로바스튜디오를 호출하고, 실패는 항목 단위로 error에 담아 반환
+    """
+    logger.info("Batch chat request received", size=len(request.items))
+
+    async def run(item: BatchChatItem) -> BatchChatResult:
+        try:
+            response_text, usage = await clova_service.simple_chat_with_usage(
+                message=item.message,
+                max_tokens=item.max_tokens or 1024,
+                temperature=item.temperature or 0.5
+            )
+            return BatchChatResult(request_id=item.request_id, response=response_text, usage=usage)
+        except Exception as e:
+            logger.error("Batch chat item failed", request_id=item.request_id, error=str(e))
+            return BatchChatResult(request_id=item.request_id, error=str(e))
+
+    results = await deadline.guard(http_request, asyncio.gather(*(run(item) for item in request.items)))
+    return negotiate(http_request, BatchChatResponse(results=list(results)))
+
+
+def _sse(event: str, data: dict) -> str:
+    """SSE 이벤트 한 건을 직렬화"""
+    return f"event: {event}\ndata: {json.dumps(data, ensure_ascii=False)}\n\n"
+
+
+@router.post("/simple/stream")
+async def simple_chat_stream(request: SimpleChatRequest):
+    """
+    간단한 채팅 스트리밍 API (text/event-stream)
+    - token 이벤트로 생성된 조각을 즉시 전달하고, 끝나면 done 이벤트 전송
+    - 클라이언트 연결이 끊기면 제너레이터가 취소되어 클로바스튜디오 호출도 함께 중단됨
+    - 요청 기한은 스트림 전체에 적용: 시작 전에 지났으면 504, 도중에 지나면 error 이벤트 후 종료
+    """
+    logger.info("Simple chat stream request received", message_length=len(request.message))
+    if deadline.expired():
+        raise HTTPException(status_code=504, detail=deadline.DEADLINE_EXCEEDED_MESSAGE)
+
+    async def event_generator() -> AsyncGenerator[str, None]:
+        try:
+            async for token in clova_service.simple_chat_stream(
+                    message=request.message,
+                    max_tokens=request.max_tokens or 1024,
+                    temperature=request.temperature or 0.5
+            ):
+                yield _sse("token", {"content": token})
+            yield _sse("done", {})
+        except deadline.DeadlineExceeded as e:
+            logger.warning("Simple chat stream exceeded request deadline")
+            yield _sse("error", {"message": str(e)})
+        except Exception as e:
+            logger.error("Simple chat stream failed", error=str(e))
+            yield _sse("error", {"message": str(e)})
+
+    return StreamingResponse(
+        event_generator(),
+        media_type="text/event-stream",
+        headers={"Cache-Control": "no-cache", "X-Accel-Buffering": "no"}
+    )
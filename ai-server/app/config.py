@@ -23,6 +23,8 @@ class Settings(BaseSettings):
     port: int = 8000
     debug: bool = False
     log_level: str = "INFO"
+    # h2c(HTTP/2 cleartext) 서비스 여부 - api-server의 external.chat.http2.mode와 맞춰야 함
+    http2: bool = False
 
     model_config = SettingsConfigDict(env_file=os.path.join(BASE_DIR, "../.env"))
 
@@ -0,0 +1,82 @@
+"""
+api-server ↔ ai-server 본문 인코딩 협상 (CBOR, 없으면 JSON)
+- 요청: Content-Type이 application/cbor면 CBOR, 그 밖에는 JSON으로 읽음
+- 응답: Accept에서 application/cbor가 application/json보다 우선이면 CBOR, 아니면 JSON (기존 클라이언트는 그대로 JSON)
+- api-server는 CBOR 응답을 받은 뒤부터 요청 본문도 CBOR로 보냄 (스트리밍 SSE는 항상 JSON)
+"""
+import json
+from typing import Any, Awaitable, Callable, Optional, Type, TypeVar, Union
+
+import cbor2
+from fastapi import HTTPException, Request
+from fastapi.exceptions import RequestValidationError
+from fastapi.responses import Response
+from pydantic import BaseModel, ValidationError
+
+CBOR_MEDIA_TYPE = "application/cbor"
+JSON_MEDIA_TYPE = "application/json"
+
+T = TypeVar("T", bound=BaseModel)
+
+
+class CBORResponse(Response):
+    media_type = CBOR_MEDIA_TYPE
+
+    def render(self, content: Any) -> bytes:
+        return cbor2.dumps(content)
+
+
+def _media_type(value: str) -> str:
+    return value.split(";", 1)[0].strip().lower()
+
+
+def prefers_cbor(accept: Optional[str]) -> bool:
+    """Accept에서 CBOR 품질값이 JSON보다 높거나, 같으면 먼저 나온 경우 True"""
+    if not accept:
+        return False
+    ranks = {}
+    for index, part in enumerate(accept.split(",")):
+        media_type, *params = part.split(";")
+        media_type = _media_type(media_type)
+        if media_type not in (CBOR_MEDIA_TYPE, JSON_MEDIA_TYPE) or media_type in ranks:
+            continue
+        quality = 1.0
+        for param in params:
+            name, _, value = param.partition("=")
+            if name.strip() == "q":
+                try:
+                    quality = float(value)
+                except ValueError:
+                    quality = 0.0
+        ranks[media_type] = (quality, -index)
+    cbor = ranks.get(CBOR_MEDIA_TYPE)
+    if cbor is None or cbor[0] <= 0:
+        return False
+    json_rank = ranks.get(JSON_MEDIA_TYPE)
+    return json_rank is None or cbor > json_rank
+
+
+def negotiated_body(model: Type[T]) -> Callable[[Request], Awaitable[T]]:
+    """요청 본문을 Content-Type에 맞게 읽어 model로 검증하는 의존성 (검증 실패는 JSON 본문과 같은 422)"""
+    async def dependency(request: Request) -> T:
+        raw = await request.body()
+        try:
+            if _media_type(request.headers.get("content-type", "")) == CBOR_MEDIA_TYPE:
+                payload = cbor2.loads(raw)
+            else:
+                payload = json.loads(raw)
+        except (ValueError, cbor2.CBORDecodeError) as e:
+            raise HTTPException(status_code=400, detail=f"요청 본문을 해석할 수 없습니다: {e}")
+        try:
+            return model.model_validate(payload)
+        except ValidationError as e:
+            raise RequestValidationError(e.errors())
+
+    return dependency
+
+
+def negotiate(request: Request, content: BaseModel) -> Union[BaseModel, Response]:
+    """Accept가 CBOR를 우선하면 CBOR 응답, 아니면 모델을 그대로 반환 (FastAPI가 JSON으로 직렬화)"""
+    if prefers_cbor(request.headers.get("accept")):
+        return CBORResponse(content=content.model_dump())
+    return content
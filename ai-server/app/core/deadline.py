@@ -0,0 +1,111 @@
+"""
+api-server가 보낸 요청 처리 기한(X-Request-Timeout-Ms: 남은 밀리초) 적용
+- 미들웨어가 요청마다 절대 시각으로 바꿔 contextvar에 보관 (헤더가 없으면 기한 없음)
+- 이미 지난 요청은 클로바스튜디오를 호출하지 않고 504
+- httpx timeout은 연결/읽기 단계마다 따로 적용되므로, 호출 전체(스트리밍은 조각 읽기마다 남은 시간)를 within으로 묶어 기한을 넘기면 504
+- api-server가 연결을 끊으면(클라이언트 이탈, 기한 초과) 진행 중인 클로바스튜디오 호출을 취소
+"""
+import asyncio
+import time
+from contextvars import ContextVar
+from typing import Awaitable, Optional, TypeVar
+
+import structlog
+from fastapi import HTTPException, Request
+
+logger = structlog.get_logger()
+
+HEADER = "x-request-timeout-ms"
+DEADLINE_EXCEEDED_MESSAGE = "요청 처리 기한이 지났습니다."
+# 연결 종료 확인 주기 (초)
+DISCONNECT_POLL_INTERVAL = 0.1
+
+# time.monotonic() 기준 절대 시각
+_deadline: ContextVar[Optional[float]] = ContextVar("request_deadline", default=None)
+
+T = TypeVar("T")
+
+
+class DeadlineExceeded(Exception):
+    """요청 처리 기한 초과"""
+
+    def __init__(self):
+        super().__init__(DEADLINE_EXCEEDED_MESSAGE)
+
+
+def start(header_value: Optional[str]) -> Optional[float]:
+    """헤더 값으로 이번 요청의 기한을 정하고 남은 시간(초)을 반환 (헤더가 없거나 숫자가 아니면 None)"""
+    if header_value is None:
+        _deadline.set(None)
+        return None
+    try:
+        budget = int(header_value.strip()) / 1000
+    except ValueError:
+        _deadline.set(None)
+        return None
+    _deadline.set(time.monotonic() + budget)
+    return budget
+
+
+def remaining() -> Optional[float]:
+    """남은 시간(초), 기한이 없으면 None"""
+    deadline = _deadline.get()
+    if deadline is None:
+        return None
+    return deadline - time.monotonic()
+
+
+def expired() -> bool:
+    left = remaining()
+    return left is not None and left <= 0
+
+
+def timeout(default: float) -> float:
+    """httpx timeout - 기본값과 남은 시간 중 작은 값 (이미 지났으면 DeadlineExceeded)"""
+    left = remaining()
+    if left is None:
+        return default
+    if left <= 0:
+        raise DeadlineExceeded()
+    return min(default, left)
+
+
+async def within(awaitable: Awaitable[T]) -> T:
+    """남은 시간 안에 끝나지 않으면 취소하고 DeadlineExceeded (기한이 없으면 그대로 대기)
+
+    - 스트리밍은 조각을 읽을 때마다 호출 - 매번 남은 시간만 주므로 전체가 기한 안으로 제한됨
+    """
+    left = remaining()
+    if left is not None and left <= 0:
+        if asyncio.iscoroutine(awaitable):
+            awaitable.close()
+        raise DeadlineExceeded()
+    try:
+        async with asyncio.timeout(left) as scope:
+            return await awaitable
+    except TimeoutError as e:
+        if scope.expired():
+            raise DeadlineExceeded() from e
+        raise
+
+
+async def guard(request: Request, awaitable: Awaitable[T]) -> T:
+    """클로바스튜디오 호출을 기한/연결 종료와 함께 실행
+
+    - 기한 초과는 504, 연결이 끊기면 호출을 취소하고 499 (응답은 전달되지 않음)
+    - 스트리밍 응답은 StreamingResponse가 연결 종료 시 제너레이터를 취소하므로 사용하지 않음
+    """
+    task = asyncio.ensure_future(awaitable)
+    try:
+        while True:
+            done, _ = await asyncio.wait({task}, timeout=DISCONNECT_POLL_INTERVAL)
+            if done:
+                return task.result()
+            if await request.is_disconnected():
+                logger.info("Client disconnected, cancelling Clova Studio call")
+                raise HTTPException(status_code=499, detail="클라이언트가 연결을 종료했습니다.")
+    except DeadlineExceeded:
+        raise HTTPException(status_code=504, detail=DEADLINE_EXCEEDED_MESSAGE)
+    finally:
+        if not task.done():
+            task.cancel()
@@ -1,15 +1,20 @@
-from fastapi import FastAPI, HTTPException
+import time
+
+from fastapi import FastAPI, HTTPException, Request
 from fastapi.middleware.cors import CORSMiddleware
 from fastapi.responses import JSONResponse
 import structlog
 
 from app.config import settings
 from app.api.v1.router import router as v1_router
+from app.core import deadline
 from app.schemas.common import ErrorResponse
+from app.services.clova_studio import clova_elapsed_ms
 
 # 로깅 설정
 structlog.configure(
     processors=[
+        structlog.contextvars.merge_contextvars,
         structlog.stdlib.filter_by_level,
         structlog.stdlib.add_logger_name,
         structlog.stdlib.add_log_level,
@@ -45,6 +50,36 @@ app.add_middleware(
     allow_headers=["*"],
 )
 
+# api-server가 보낸 X-Request-Id를 로그 컨텍스트에 묶고 응답 헤더로 되돌려줌
+# Server-Timing: app(이 서버 전체) / clova(클로바스튜디오 호출) - api-server가 ai-* 구간으로 이어 붙임
+# X-Request-Timeout-Ms(남은 처리 시간)로 요청 기한을 정하고, 이미 지났으면 본문을 읽지 않고 504
+@app.middleware("http")
+async def bind_request_id(request: Request, call_next):
+    started = time.perf_counter()
+    request_id = request.headers.get("x-request-id")
+    structlog.contextvars.clear_contextvars()
+    if request_id:
+        structlog.contextvars.bind_contextvars(request_id=request_id)
+    clova_elapsed = [0.0]
+    clova_elapsed_ms.set(clova_elapsed)
+    budget = deadline.start(request.headers.get(deadline.HEADER))
+    if budget is not None and budget <= 0:
+        logger.info("Request deadline already exceeded", budget_ms=int(budget * 1000))
+        response = JSONResponse(
+            status_code=504,
+            content=ErrorResponse(
+                message=deadline.DEADLINE_EXCEEDED_MESSAGE,
+                error_code="DEADLINE_EXCEEDED"
+            ).dict()
+        )
+    else:
+        response = await call_next(request)
+    if request_id:
+        response.headers["X-Request-Id"] = request_id
+    app_ms = (time.perf_counter() - started) * 1000
+    response.headers["Server-Timing"] = f"app;dur={app_ms:.3f}, clova;dur={clova_elapsed[0]:.3f}"
+    return response
+
 # 라우터 등록
 app.include_router(v1_router, prefix="/api")
 
@@ -52,11 +87,13 @@ app.include_router(v1_router, prefix="/api")
 @app.exception_handler(HTTPException)
 async def http_exception_handler(request, exc):
     logger.error("HTTP exception occurred", status_code=exc.status_code, detail=exc.detail)
+    # 기한 초과 504는 api-server가 재시도/서킷 브레이커 집계에서 뺄 수 있도록 미들웨어와 같은 error_code 사용
+    deadline_exceeded = exc.status_code == 504 and exc.detail == deadline.DEADLINE_EXCEEDED_MESSAGE
     return JSONResponse(
         status_code=exc.status_code,
         content=ErrorResponse(
             message=exc.detail,
-            error_code=str(exc.status_code)
+            error_code="DEADLINE_EXCEEDED" if deadline_exceeded else str(exc.status_code)
         ).dict()
     )
 
@@ -82,11 +119,23 @@ async def root():
     }
 
 if __name__ == "__main__":
-    import uvicorn
-    uvicorn.run(
-        "app.main:app",
-        host=settings.host,
-        port=settings.port,
-        reload=settings.debug,
-        log_level=settings.log_level.lower()
-    )
\ No newline at end of file
+    if settings.http2:
+        # uvicorn은 HTTP/2를 지원하지 않으므로 hypercorn으로 실행 (h2c prior knowledge/upgrade + HTTP/1.1 동시 지원)
+        import asyncio
+        from hypercorn.asyncio import serve
+        from hypercorn.config import Config
+
+        config = Config()
+        config.bind = [f"{settings.host}:{settings.port}"]
+        config.loglevel = settings.log_level.lower()
+        config.use_reloader = settings.debug
+        asyncio.run(serve(app, config))
+    else:
+        import uvicorn
+        uvicorn.run(
+            "app.main:app",
+            host=settings.host,
+            port=settings.port,
+            reload=settings.debug,
+            log_level=settings.log_level.lower()
+        )
\ No newline at end of file
@@ -1,5 +1,5 @@
 from enum import Enum
-from typing import Any, Dict, List, Optional, Union
+from typing import Any, Dict, List, Literal, Optional, Union
 from pydantic import BaseModel, Field
 
 
@@ -71,4 +71,34 @@ class SimpleChatRequest(BaseModel):
 
 class SimpleChatResponse(BaseModel):
     response: str
-    usage: Optional[Dict[str, int]] = None
\ No newline at end of file
+    usage: Optional[Dict[str, int]] = None
+
+# 세션 대화 요청 (api-server가 토큰 예산에 맞춰 잘라낸 이전 대화 + 이번 메시지)
+# - system 프롬프트는 ai-server가 붙이므로 클라이언트 메시지는 user/assistant만 허용
+class ConversationMessage(BaseModel):
+    role: Literal["user", "assistant"]
+    content: str
+
+class ConversationChatRequest(BaseModel):
+    messages: List[ConversationMessage] = Field(..., min_length=1)
+    max_tokens: Optional[int] = 1024
+    temperature: Optional[float] = 0.5
+
+# 배치 채팅 요청/응답 (api-server의 마이크로 배칭용)
+class BatchChatItem(BaseModel):
+    request_id: str
+    message: str
+    max_tokens: Optional[int] = 1024
+    temperature: Optional[float] = 0.5
+
+class BatchChatRequest(BaseModel):
+    items: List[BatchChatItem] = Field(..., min_length=1, max_length=64)
+
+class BatchChatResult(BaseModel):
+    request_id: str
+    response: Optional[str] = None
+    usage: Optional[Dict[str, int]] = None
+    error: Optional[str] = None
+
+class BatchChatResponse(BaseModel):
+    results: List[BatchChatResult]
@@ -1,20 +1,37 @@
+import json
+import time
 import uuid
+from contextvars import ContextVar
 from enum import Enum
-from typing import Optional, Dict, Any
+from typing import Optional, Dict, Any, AsyncGenerator, List, Tuple
 
 import httpx
 import structlog
 from app.config import settings
-from app.schemas.chat import ChatCompletionRequest, ChatCompletionResponse
+from app.core import deadline
+from app.core.deadline import DeadlineExceeded
+from app.schemas.chat import ChatCompletionRequest, ChatCompletionResponse, ConversationMessage
 
 logger = structlog.get_logger()
 
+# 요청 단위 클로바스튜디오 호출 누적 시간(ms) - main의 Server-Timing 미들웨어가 list를 넣어두고 읽음
+clova_elapsed_ms: ContextVar[Optional[list]] = ContextVar("clova_elapsed_ms", default=None)
+
+
+def _record_clova_elapsed(started: float) -> None:
+    holder = clova_elapsed_ms.get()
+    if holder is not None:
+        holder[0] += (time.perf_counter() - started) * 1000
+
 class RequestType(str, Enum):
     """요청 타입 분류"""
     GREETING = "greeting"
     FUNCTION_CALL = "function_call"
     GENERAL_CHAT = "general_chat"
 
+CONVERSATION_SYSTEM_PROMPT = "너는 오디 서비스의 친근한 대화 상대야. 이전 대화 맥락을 이어서 한국어로 간결하게 답해."
+
+
 class ClovaStudioService:
     def __init__(self):
         self.base_url = settings.clova_studio_base_url
@@ -121,9 +138,14 @@ class ClovaStudioService:
 
         logger.info("Calling Clova Studio API", url=url, model=self.model_name)
 
-        async with httpx.AsyncClient(timeout=30.0) as client:
+        # api-server가 보낸 기한이 있으면 호출 전체를 남은 시간까지만 기다림 (이미 지났으면 호출하지 않음)
+        async with httpx.AsyncClient(timeout=deadline.timeout(30.0)) as client:
             try:
-                response = await client.post(url, headers=headers, json=data)
+                started = time.perf_counter()
+                try:
+                    response = await deadline.within(client.post(url, headers=headers, json=data))
+                finally:
+                    _record_clova_elapsed(started)
                 response.raise_for_status()
 
                 result = response.json()
@@ -134,18 +156,27 @@ class ClovaStudioService:
             except httpx.HTTPStatusError as e:
                 logger.error("HTTP error occurred", status_code=e.response.status_code, response=e.response.text)
                 raise Exception(f"API 호출 실패: {e.response.status_code} - {e.response.text}")
+            except DeadlineExceeded:
+                logger.warning("Clova Studio call exceeded request deadline")
+                raise
+            except httpx.TimeoutException as e:
+                if deadline.expired():
+                    logger.warning("Clova Studio call exceeded request deadline")
+                    raise DeadlineExceeded() from e
+                logger.error("Unexpected error occurred", error=str(e))
+                raise Exception(f"예상치 못한 오류: {str(e)}")
             except Exception as e:
                 logger.error("Unexpected error occurred", error=str(e))
                 raise Exception(f"예상치 못한 오류: {str(e)}")
 
-    async def simple_chat(self, message: str, max_tokens: int = 1024, temperature: float = 0.5) -> str:
-        """간단한 채팅 (Function Calling 없이)"""
+    def _build_greeting_request(self, max_tokens: int, temperature: float) -> ChatCompletionRequest:
+        """인사말 생성용 요청 구성 (일반/스트리밍 공용)"""
         # 현재 시간 문자열 (예: 14:35)
         from datetime import datetime
         now_str = datetime.now().strftime("%H:%M")
         message = f"현재시간은 {now_str}이야."
 
-        request = ChatCompletionRequest(
+        return ChatCompletionRequest(
             messages=[
                 {
                     "role": "system",
@@ -192,13 +223,116 @@ class ClovaStudioService:
             temperature=temperature
         )
 
+    async def simple_chat(self, message: str, max_tokens: int = 1024, temperature: float = 0.5) -> str:
+        """간단한 채팅 (Function Calling 없이)"""
+        text, _ = await self.simple_chat_with_usage(message, max_tokens, temperature)
+        return text
+
+    async def simple_chat_with_usage(
+            self,
+            message: str,
+            max_tokens: int = 1024,
+            temperature: float = 0.5
+    ) -> Tuple[str, Optional[Dict[str, int]]]:
+        """간단한 채팅 + 토큰 사용량 (prompt_tokens, completion_tokens, total_tokens)"""
+        request = self._build_greeting_request(max_tokens, temperature)
+
         response = await self.chat_completion(request, request_type=RequestType.GREETING)
 
+        usage = self._extract_usage(response.result)
+
         # 응답에서 텍스트 추출
         if response.result and "message" in response.result:
-            return response.result["message"].get("content", "응답을 생성할 수 없습니다.")
+            return response.result["message"].get("content", "응답을 생성할 수 없습니다."), usage
+
+        return "응답을 생성할 수 없습니다.", usage
+
+    async def conversation_chat_with_usage(
+            self,
+            messages: List[ConversationMessage],
+            max_tokens: int = 1024,
+            temperature: float = 0.5
+    ) -> Tuple[str, Optional[Dict[str, int]]]:
+        """세션 대화 - 이전 대화(user/assistant)를 그대로 messages로 이어 붙여 응답 생성
+
+        - 컨텍스트 길이 조절(토큰 예산)은 api-server가 담당하고, 여기서는 system 프롬프트만 앞에 추가
+        """
+        request = ChatCompletionRequest(
+            messages=[{"role": "system", "content": CONVERSATION_SYSTEM_PROMPT}]
+                     + [{"role": message.role, "content": message.content} for message in messages],
+            max_tokens=max_tokens,
+            temperature=temperature
+        )
+
+        response = await self.chat_completion(request, request_type=RequestType.GENERAL_CHAT)
+
+        usage = self._extract_usage(response.result)
+
+        if response.result and "message" in response.result:
+            return response.result["message"].get("content", "응답을 생성할 수 없습니다."), usage
+
+        return "응답을 생성할 수 없습니다.", usage
+
+    @staticmethod
+    def _extract_usage(result: Optional[Dict[str, Any]]) -> Optional[Dict[str, int]]:
+        """클로바스튜디오 usage(camelCase)를 snake_case로 변환"""
+        usage = (result or {}).get("usage")
+        if not usage:
+            return None
+        return {
+            "prompt_tokens": usage.get("promptTokens", 0),
+            "completion_tokens": usage.get("completionTokens", 0),
+            "total_tokens": usage.get("totalTokens", 0),
+        }
+
+    async def simple_chat_stream(
+            self,
+            message: str,
+            max_tokens: int = 1024,
+            temperature: float = 0.5
+    ) -> AsyncGenerator[str, None]:
+        """간단한 채팅 스트리밍 - 클로바스튜디오 SSE의 token 이벤트를 그대로 흘려보냄
+
+        - 호출 측(클라이언트)이 연결을 끊으면 제너레이터가 닫히면서 upstream 연결도 함께 정리됨
+        - 응답 헤더 대기와 조각 읽기마다 남은 기한만 기다림 (httpx read timeout은 조각마다 다시 시작되므로)
+        """
+        request = self._build_greeting_request(max_tokens, temperature)
+        url = f"{self.base_url}/v3/chat-completions/{self.model_name}"
+        headers = self._get_headers(RequestType.GREETING, accept_type="text/event-stream")
+        data = self._prepare_request_data(request)
+
+        logger.info("Calling Clova Studio streaming API", url=url, model=self.model_name)
+
+        async with httpx.AsyncClient(timeout=deadline.timeout(30.0)) as client:
+            http_request = client.build_request("POST", url, headers=headers, json=data)
+            response = await deadline.within(client.send(http_request, stream=True))
+            try:
+                if response.is_error:
+                    await deadline.within(response.aread())
+                    logger.error("HTTP error occurred", status_code=response.status_code, response=response.text)
+                    raise Exception(f"API 호출 실패: {response.status_code} - {response.text}")
 
-        return "응답을 생성할 수 없습니다."
+                event = None
+                lines = response.aiter_lines()
+                while True:
+                    try:
+                        line = await deadline.within(anext(lines))
+                    except StopAsyncIteration:
+                        break
+                    if line.startswith("event:"):
+                        event = line[len("event:"):].strip()
+                    elif line.startswith("data:"):
+                        payload = line[len("data:"):].strip()
+                        if event == "token":
+                            content = json.loads(payload).get("message", {}).get("content")
+                            if content:
+                                yield content
+                        elif event == "result":
+                            return
+                        elif event == "error":
+                            raise Exception(f"스트리밍 오류: {payload}")
+            finally:
+                await response.aclose()
 
 # 싱글톤 인스턴스
 clova_service = ClovaStudioService()
\ No newline at end of file
@@ -4,6 +4,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.5.4"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.odi"
@@ -27,19 +28,91 @@ repositories {
 
 dependencies {
 //	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
-	implementation("org.springframework.boot:spring-boot-starter-web")
 	compileOnly("org.projectlombok:lombok")
-//	runtimeOnly("com.mysql:mysql-connector-j")
+	runtimeOnly("com.mysql:mysql-connector-j")
 	annotationProcessor("org.projectlombok:lombok")
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
+	testImplementation("org.hdrhistogram:HdrHistogram:2.2.2")
+	testRuntimeOnly("com.h2database:h2")
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 
 	implementation("org.springframework.boot:spring-boot-starter-validation")
 	implementation ("org.springframework.boot:spring-boot-starter-webflux")
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	implementation("org.springframework.boot:spring-boot-starter-jdbc")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 
-	implementation("io.netty:netty-all:4.1.107.Final")
+	implementation("com.github.ben-manes.caffeine:caffeine")
+	implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+	implementation("io.github.resilience4j:resilience4j-spring-boot3:2.3.0")
+	implementation("io.github.resilience4j:resilience4j-reactor:2.3.0")
+
+	jmhImplementation("org.springframework:spring-test")
+	jmhAnnotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:1.37")
 }
 
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+tasks.test {
+	useJUnitPlatform {
+		excludeTags("benchmark", "load")
+	}
+}
+
+// 성능 비교 하네스 (./gradlew benchmark)
+tasks.register<Test>("benchmark") {
+	description = "Runs @Tag(\"benchmark\") comparison harnesses"
+	group = "verification"
+	testClassesDirs = sourceSets.test.get().output.classesDirs
+	classpath = sourceSets.test.get().runtimeClasspath
+	useJUnitPlatform {
+		includeTags("benchmark")
+	}
+	maxHeapSize = "1g"
+	systemProperties(System.getProperties().filterKeys { it.toString().startsWith("bench.") }
+		.mapKeys { it.key.toString() })
+	testLogging {
+		showStandardStreams = true
+	}
+	outputs.upToDateWhen { false }
+}
+
+// 포화점 탐색 부하 테스트 (./gradlew loadTest, ai-server 대역 사용)
+tasks.register<Test>("loadTest") {
+	description = "Runs @Tag(\"load\") open-model load tests against a stubbed ai-server"
+	group = "verification"
+	testClassesDirs = sourceSets.test.get().output.classesDirs
+	classpath = sourceSets.test.get().runtimeClasspath
+	useJUnitPlatform {
+		includeTags("load")
+	}
+	maxHeapSize = "2g"
+	systemProperties(System.getProperties().filterKeys { it.toString().startsWith("load.") }
+		.mapKeys { it.key.toString() })
+	testLogging {
+		showStandardStreams = true
+	}
+	outputs.upToDateWhen { false }
+}
+
+// JMH 마이크로벤치마크 (src/jmh/java, ./gradlew jmh)
+// - 결과는 커밋별 파일(build/reports/jmh/results-<git sha>.json)로 남겨 커밋 간 비교
+// - 특정 벤치마크만: ./gradlew jmh -Pjmh.includes=ChatMessageBenchmark
+val gitRevision = providers.exec {
+	commandLine("git", "rev-parse", "--short", "HEAD")
+	isIgnoreExitValue = true
+}.standardOutput.asText.map { it.trim().ifEmpty { "local" } }
+
+jmh {
+	jmhVersion = "1.37"
+	fork = 1
+	warmupIterations = 3
+	iterations = 5
+	timeUnit = "us"
+	profilers.add("gc")
+	resultFormat = "JSON"
+	resultsFile = layout.buildDirectory.file(gitRevision.map { "reports/jmh/results-$it.json" })
+	providers.gradleProperty("jmh.includes").orNull?.let { includes.add(it) }
+}
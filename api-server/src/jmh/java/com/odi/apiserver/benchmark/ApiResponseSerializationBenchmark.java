@@ -0,0 +1,52 @@
+package com.odi.apiserver.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.odi.apiserver.api.v1.dto.response.ChatResponse;
+import com.odi.apiserver.common.exception.ErrorCode;
+import com.odi.apiserver.common.response.ApiResponse;
+import com.odi.apiserver.common.response.ErrorInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 응답 봉투(ApiResponse) 생성 + Jackson 직렬화 비용
+ * - ObjectMapper는 애플리케이션과 같은 방식(Jackson2ObjectMapperBuilder)으로 구성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+public class ApiResponseSerializationBenchmark {
+    private ObjectMapper objectMapper;
+    private ChatResponse chatResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        chatResponse = ChatResponse.builder()
+                .response("오늘은 기온이 낮아 가벼운 외투를 챙기세요. 오후에는 비 소식이 있으니 우산도 준비하세요.")
+                .processedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Benchmark
+    public byte[] successResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ApiResponse.success(chatResponse, "채팅 메시지가 성공적으로 처리되었습니다."));
+    }
+
+    @Benchmark
+    public byte[] failureResponse() throws JsonProcessingException {
+        ErrorInfo errorInfo = ErrorInfo.builder()
+                .errorCode(ErrorCode.EXTERNAL_API_TIMEOUT.name())
+                .errorMessage(ErrorCode.EXTERNAL_API_TIMEOUT.getMessage())
+                .timestamp(LocalDateTime.now().toString())
+                .build();
+        return objectMapper.writeValueAsBytes(ApiResponse.failure(504, errorInfo.getErrorMessage(), errorInfo));
+    }
+}
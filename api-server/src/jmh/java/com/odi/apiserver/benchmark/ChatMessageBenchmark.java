@@ -0,0 +1,48 @@
+package com.odi.apiserver.benchmark;
+
+import com.odi.apiserver.domain.ai.ChatMessage;
+import com.odi.apiserver.infrastructure.external.ai.dto.ExternalChatRequest;
+import com.odi.apiserver.infrastructure.external.ai.dto.ExternalChatResponse;
+import com.odi.apiserver.infrastructure.external.mapper.ChatMessageMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 도메인 객체 생성과 외부 DTO 매핑 비용
+ * - createRequest: 검증 + requestId 생성 + LocalDateTime.now() + builder
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+public class ChatMessageBenchmark {
+    private static final String MESSAGE = "오늘 서울 날씨에 맞는 옷차림을 추천해줘. 우산이 필요할까?";
+
+    private final ChatMessageMapper mapper = new ChatMessageMapper();
+    private ChatMessage request;
+    private ExternalChatResponse response;
+
+    @Setup
+    public void setUp() {
+        request = ChatMessage.createRequest(MESSAGE, 100);
+        response = ExternalChatResponse.of("오늘은 기온이 낮아 가벼운 외투를 챙기세요.",
+                new ExternalChatResponse.Usage(32, 18, 50));
+    }
+
+    @Benchmark
+    public ChatMessage createRequest() {
+        return ChatMessage.createRequest(MESSAGE, 100);
+    }
+
+    @Benchmark
+    public ExternalChatRequest toExternalRequest() {
+        return mapper.toExternalRequest(request);
+    }
+
+    @Benchmark
+    public ChatMessage toDomainWithResponse() {
+        return mapper.toDomainWithResponse(request, response);
+    }
+}
@@ -0,0 +1,83 @@
+package com.odi.apiserver.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.odi.apiserver.api.v1.dto.response.ChatResponse;
+import com.odi.apiserver.common.response.ApiResponse;
+import com.odi.apiserver.common.response.ApiResponseRelay;
+import com.odi.apiserver.domain.ai.ChatMessage;
+import com.odi.apiserver.infrastructure.external.ai.dto.ExternalChatResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /greeting 응답 처리 비용: 기존 경로(역직렬화 → ChatMessage → ChatResponse → ApiResponse → 직렬화) vs relay
+ * - upstream 본문은 Reactor Netty처럼 8KB 조각으로 나눠 전달
+ * - 요청당 할당량 차이는 gc 프로파일러의 gc.alloc.rate.norm (B/op)으로 비교 (./gradlew jmh -Pjmh.includes=ChatRelayBenchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChatRelayBenchmark {
+    private static final int CHUNK_BYTES = 8 * 1024;
+    private static final String MESSAGE = "채팅 메시지가 성공적으로 처리되었습니다.";
+    private static final String SENTENCE = "오늘은 비가 와서 \"실내\" 데이트를 추천해요.\n성수동 전시 → 카페 순서가 좋아요 ☔ ";
+
+    @Param({"200", "1500", "4000", "16000"})
+    private int responseChars;
+
+    private ObjectMapper objectMapper;
+    private ApiResponseRelay relay;
+    private ChatMessage chatMessage;
+    private byte[] upstreamBody;
+    private List<ByteBuffer> upstreamChunks;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        relay = new ApiResponseRelay(objectMapper);
+        chatMessage = ChatMessage.createRequest("bench-1", "비 오는 날 성수동 데이트 코스 추천해줘", 1024);
+        String text = SENTENCE.repeat(responseChars / SENTENCE.length() + 1).substring(0, responseChars);
+        upstreamBody = objectMapper.writeValueAsBytes(ExternalChatResponse.of(text,
+                new ExternalChatResponse.Usage(40, responseChars / 2, 40 + responseChars / 2)));
+        upstreamChunks = new ArrayList<>();
+        for (int offset = 0; offset < upstreamBody.length; offset += CHUNK_BYTES) {
+            upstreamChunks.add(ByteBuffer.wrap(upstreamBody, offset, Math.min(CHUNK_BYTES, upstreamBody.length - offset)));
+        }
+    }
+
+    @Benchmark
+    public byte[] materialize() throws IOException {
+        ExternalChatResponse response = objectMapper.readValue(upstreamBody, ExternalChatResponse.class);
+        ChatMessage result = chatMessage.withResponse(response.getResponse(), response.getTokensUsed());
+        return objectMapper.writeValueAsBytes(ApiResponse.success(ChatResponse.from(result), MESSAGE,
+                result.getRequestId()));
+    }
+
+    @Benchmark
+    public void relay(Blackhole blackhole) {
+        Flux<DataBuffer> upstream = Flux.fromIterable(upstreamChunks)
+                .map(chunk -> DefaultDataBufferFactory.sharedInstance.wrap(chunk.duplicate()));
+        relay.success(DefaultDataBufferFactory.sharedInstance, upstream,
+                        () -> Map.of("processedAt", LocalDateTime.now()), MESSAGE, chatMessage.getRequestId())
+                .subscribe(blackhole::consume);
+    }
+}
@@ -0,0 +1,44 @@
+package com.odi.apiserver.benchmark;
+
+import com.odi.apiserver.common.exception.BusinessException;
+import com.odi.apiserver.common.exception.ErrorCode;
+import com.odi.apiserver.common.exception.GlobalExceptionHandler;
+import com.odi.apiserver.common.response.ApiResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 실패 응답 생성 비용 (과부하 시 초당 수천 건 발생하는 BusinessException 경로)
+ * - 예외 생성(스택 트레이스 포함)과 핸들러의 응답 조립을 분리해서 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+public class ExceptionHandlerBenchmark {
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private MockServerWebExchange exchange;
+    private BusinessException exception;
+
+    @Setup
+    public void setUp() {
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/ai/greeting"));
+        exception = new BusinessException(ErrorCode.EXTERNAL_API_OVERLOADED);
+    }
+
+    @Benchmark
+    public BusinessException createException() {
+        return new BusinessException(ErrorCode.EXTERNAL_API_OVERLOADED);
+    }
+
+    @Benchmark
+    public Mono<ResponseEntity<ApiResponse<Object>>> handleBusinessException() {
+        return handler.handleBusinessException(exception, exchange);
+    }
+}
@@ -0,0 +1,39 @@
+package com.odi.apiserver.benchmark;
+
+import com.odi.apiserver.common.id.RequestIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+
+/**
+ * 요청 ID 생성 비용 - 기존 UUID 잘라쓰기 vs Snowflake 생성기
+ * - 단일 스레드와 8스레드 동시 호출을 함께 측정 (SecureRandom / CAS 경합 비교)
+ */
+@BenchmarkMode(Mode.Throughput)
+public class RequestIdBenchmark {
+
+    @Benchmark
+    public String legacyUuid() {
+        return "chat_" + UUID.randomUUID().toString().replace("-", "").substring(0, 8);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String legacyUuidContended() {
+        return legacyUuid();
+    }
+
+    @Benchmark
+    public String snowflake() {
+        return RequestIdGenerator.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String snowflakeContended() {
+        return RequestIdGenerator.nextId();
+    }
+}
@@ -0,0 +1,77 @@
+package com.odi.apiserver.benchmark;
+
+import com.odi.apiserver.domain.ai.ChatMessage;
+import com.odi.apiserver.infrastructure.external.ai.cache.PromptSignature;
+import com.odi.apiserver.infrastructure.external.ai.cache.SimilarChatResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유사 프롬프트 캐시 조회 비용 (서명 생성 + LSH 후보 + Jaccard 판정)
+ * - 캐시 미스일 때 요청 경로에 더해지는 비용이므로 upstream 왕복(수백 ms ~ 수 초) 대비 무시할 만한지 확인
+ *   (end-to-end 비교는 SimilarityCacheBenchmark: ./gradlew benchmark --tests '*SimilarityCacheBenchmark')
+ * - entries: 캐시에 들어 있는 서로 다른 프롬프트 수
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SimilarPromptCacheBenchmark {
+    private static final String[] PLACES = {"강남역", "홍대입구역", "성수동", "잠실", "여의도", "을지로", "연남동", "판교"};
+    private static final String[] TOPICS = {"맛집", "카페", "데이트 코스", "산책로", "실내 놀거리", "술집", "브런치", "전시"};
+    private static final String[] TIMES = {"오늘", "내일", "주말에", "퇴근하고", "비 오는 날", "아침에", "저녁에", "혼자"};
+
+    @Param({"1000", "100000"})
+    private int entries;
+
+    private SimilarChatResponseCache cache;
+    private ChatMessage similar;
+    private ChatMessage unknown;
+    private PromptSignature similarSignature;
+    private PromptSignature unknownSignature;
+
+    @Setup
+    public void setUp() {
+        cache = new SimilarChatResponseCache(new SimpleMeterRegistry(), true, 0.8, 64, 16, 16, 500,
+                Long.MAX_VALUE, Duration.ofHours(1));
+        for (int i = 0; i < entries; i++) {
+            // 단어 조합 + 번호로 서로 다른 프롬프트 (공통 어휘가 많아 버킷 충돌이 실제보다 많은 조건)
+            String message = String.format("%s %s %s 추천해줘 %d", TIMES[i % 8], PLACES[i / 8 % 8], TOPICS[i / 64 % 8], i);
+            ChatMessage chatMessage = ChatMessage.createRequest(message, 100);
+            cache.put(cache.sign(chatMessage), "응답 " + i);
+        }
+        similar = ChatMessage.createRequest("오늘  강남역 맛집 추천해 줘!! 0", 100);
+        unknown = ChatMessage.createRequest("한강에서 자전거 타기 좋은 코스 알려줘", 100);
+        similarSignature = cache.sign(similar);
+        unknownSignature = cache.sign(unknown);
+    }
+
+    @Benchmark
+    public PromptSignature sign() {
+        return cache.sign(unknown);
+    }
+
+    @Benchmark
+    public String lookupHit() {
+        return cache.get(similarSignature);
+    }
+
+    @Benchmark
+    public String lookupMiss() {
+        return cache.get(unknownSignature);
+    }
+
+    @Benchmark
+    public String signAndLookupMiss() {
+        return cache.get(cache.sign(unknown));
+    }
+}
@@ -0,0 +1,114 @@
+package com.odi.apiserver.benchmark;
+
+import com.odi.apiserver.domain.location.NearbyPlace;
+import com.odi.apiserver.domain.location.entity.Place;
+import com.odi.apiserver.domain.location.entity.PlaceCategory;
+import com.odi.apiserver.infrastructure.location.GridSpatialIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주변 장소 검색 지연 (µs/query)
+ * - places개 장소를 한반도 범위(위도 33~38.6, 경도 124.6~131)에 배치 - 절반은 도시 중심 10곳 주변에 밀집, 절반은 균등 분포
+ * - 질의 좌표도 같은 분포에서 미리 뽑아 순환 사용 (밀집 지역/외곽 질의가 섞임)
+ * - 빌드(스냅샷 교체) 비용은 build()로 따로 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SpatialIndexBenchmark {
+    private static final double[][] CITY_CENTERS = {
+            {37.5665, 126.9780}, {35.1796, 129.0756}, {35.8714, 128.6014}, {37.4563, 126.7052},
+            {35.1595, 126.8526}, {36.3504, 127.3845}, {35.5384, 129.3114}, {37.2636, 127.0286},
+            {33.4996, 126.5312}, {36.6424, 127.4890}
+    };
+    private static final int QUERIES = 4096;
+
+    @Param({"1000000"})
+    private int places;
+
+    @Param({"0.01"})
+    private double cellDegrees;
+
+    private List<Place> source;
+    private GridSpatialIndex index;
+    private double[] queryLatitudes;
+    private double[] queryLongitudes;
+    private int cursor;
+    private long cafeMask;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        PlaceCategory[] categories = PlaceCategory.values();
+        source = new ArrayList<>(places);
+        for (int i = 0; i < places; i++) {
+            double[] point = samplePoint(random);
+            source.add(Place.of(i, "place-" + i, categories[random.nextInt(categories.length)], point[0], point[1]));
+        }
+        index = GridSpatialIndex.build(source, cellDegrees);
+
+        queryLatitudes = new double[QUERIES];
+        queryLongitudes = new double[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            double[] point = samplePoint(random);
+            queryLatitudes[i] = point[0];
+            queryLongitudes[i] = point[1];
+        }
+        cafeMask = PlaceCategory.CAFE.bit();
+    }
+
+    private static double[] samplePoint(Random random) {
+        if (random.nextBoolean()) {
+            double[] center = CITY_CENTERS[random.nextInt(CITY_CENTERS.length)];
+            return new double[]{center[0] + random.nextGaussian() * 0.05, center[1] + random.nextGaussian() * 0.05};
+        }
+        return new double[]{33.0 + random.nextDouble() * 5.6, 124.6 + random.nextDouble() * 6.4};
+    }
+
+    private int next() {
+        return cursor = (cursor + 1) & (QUERIES - 1);
+    }
+
+    @Benchmark
+    public List<NearbyPlace> nearest10() {
+        int i = next();
+        return index.nearest(queryLatitudes[i], queryLongitudes[i], 10, PlaceCategory.ALL, 50_000);
+    }
+
+    @Benchmark
+    public List<NearbyPlace> nearest10Cafe() {
+        int i = next();
+        return index.nearest(queryLatitudes[i], queryLongitudes[i], 10, cafeMask, 50_000);
+    }
+
+    @Benchmark
+    public List<NearbyPlace> radius1km() {
+        int i = next();
+        return index.withinRadius(queryLatitudes[i], queryLongitudes[i], 1_000, 50, PlaceCategory.ALL);
+    }
+
+    @Benchmark
+    public List<NearbyPlace> radius5kmCafe() {
+        int i = next();
+        return index.withinRadius(queryLatitudes[i], queryLongitudes[i], 5_000, 50, cafeMask);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public GridSpatialIndex build() {
+        return GridSpatialIndex.build(source, cellDegrees);
+    }
+}
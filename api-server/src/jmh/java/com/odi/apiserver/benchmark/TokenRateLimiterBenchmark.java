@@ -0,0 +1,48 @@
+package com.odi.apiserver.benchmark;
+
+import com.odi.apiserver.common.ratelimit.TokenRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 토큰 가중 요청 제한 판정 비용 (동시 8스레드)
+ * - clients=1: 모든 스레드가 같은 버킷에 CAS 경합 / clients=10000: 키 분산 + Caffeine 조회
+ * - 요청 경로에서 무시할 만한 수준(초당 수만 건 이상에서 수백 ns 이하)인지 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Threads(8)
+public class TokenRateLimiterBenchmark {
+    @Param({"1", "10000"})
+    private int clients;
+
+    private TokenRateLimiter limiter;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        limiter = new TokenRateLimiter(new SimpleMeterRegistry(), true, 1_000_000, 10_000_000, 100,
+                Duration.ofMinutes(10), List.of());
+        keys = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            keys[i] = "key:client-" + i;
+        }
+    }
+
+    @Benchmark
+    public long tryAcquire() {
+        String key = keys[ThreadLocalRandom.current().nextInt(keys.length)];
+        return limiter.tryAcquire(key, 100);
+    }
+}
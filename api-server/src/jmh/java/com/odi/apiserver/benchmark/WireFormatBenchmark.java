@@ -0,0 +1,76 @@
+package com.odi.apiserver.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.odi.apiserver.infrastructure.external.ai.codec.ExternalWireFormat;
+import com.odi.apiserver.infrastructure.external.ai.dto.ExternalChatRequest;
+import com.odi.apiserver.infrastructure.external.ai.dto.ExternalChatResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * api-server ↔ ai-server 본문 형식별 비용 (JSON vs CBOR)
+ * - roundTrip: 요청 인코딩 + 응답 디코딩 (api-server가 호출 1건마다 하는 일)
+ * - 응답 크기: 200자(인사말/짧은 답), 1500자(일반 추천), 4000자(max_tokens 1024를 거의 채운 답)
+ * - 페이로드 크기는 Setup에서 출력 (한글 본문은 UTF-8 바이트가 같아 키/따옴표/이스케이프만큼만 줄어듦)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WireFormatBenchmark {
+    private static final String SENTENCE = "오늘은 비가 와서 \"실내\" 데이트를 추천해요.\n성수동 전시 → 카페 순서가 좋아요 ☔ ";
+
+    @Param({"200", "1500", "4000"})
+    private int responseChars;
+
+    @Param({"json", "cbor"})
+    private String format;
+
+    private ObjectMapper mapper;
+    private ExternalChatRequest request;
+    private byte[] encodedResponse;
+
+    @Setup
+    public void setUp() throws IOException {
+        ExternalWireFormat wireFormat = new ExternalWireFormat(Jackson2ObjectMapperBuilder.json(),
+                Jackson2ObjectMapperBuilder.json().build(), "cbor");
+        mapper = wireFormat.mapper("cbor".equals(format) ? MediaType.APPLICATION_CBOR : MediaType.APPLICATION_JSON);
+        request = ExternalChatRequest.builder()
+                .message("비 오는 날 성수동에서 갈 만한 실내 데이트 코스 추천해줘")
+                .maxTokens(1024)
+                .build();
+        // ai-server 응답과 같은 모양 (response + usage)
+        String text = SENTENCE.repeat(responseChars / SENTENCE.length() + 1).substring(0, responseChars);
+        encodedResponse = mapper.writeValueAsBytes(ExternalChatResponse.of(text,
+                new ExternalChatResponse.Usage(40, responseChars / 2, 40 + responseChars / 2)));
+        System.out.printf("%n[wire-format] %s responseChars=%d request=%dB response=%dB%n",
+                format, responseChars, mapper.writeValueAsBytes(request).length, encodedResponse.length);
+    }
+
+    @Benchmark
+    public byte[] encodeRequest() throws IOException {
+        return mapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public ExternalChatResponse decodeResponse() throws IOException {
+        return mapper.readValue(encodedResponse, ExternalChatResponse.class);
+    }
+
+    @Benchmark
+    public ExternalChatResponse roundTrip(Blackhole blackhole) throws IOException {
+        blackhole.consume(mapper.writeValueAsBytes(request));
+        return mapper.readValue(encodedResponse, ExternalChatResponse.class);
+    }
+}
@@ -2,43 +2,188 @@ package com.odi.apiserver.api.v1.controller;
 
 
 import com.odi.apiserver.api.v1.dto.request.ChatRequest;
+import com.odi.apiserver.api.v1.dto.request.ConversationRequest;
 import com.odi.apiserver.api.v1.dto.response.ChatResponse;
+import com.odi.apiserver.api.v1.dto.response.ChatStreamResponse;
+import com.odi.apiserver.api.v1.dto.response.ConversationResponse;
+import com.odi.apiserver.application.port.in.ConversationUseCase;
 import com.odi.apiserver.application.port.in.SendChatCommand;
 import com.odi.apiserver.application.port.in.SendChatUseCase;
+import com.odi.apiserver.common.exception.BusinessException;
+import com.odi.apiserver.common.exception.ErrorCode;
+import com.odi.apiserver.common.exception.RateLimitExceededException;
+import com.odi.apiserver.common.id.RequestIdFilter;
+import com.odi.apiserver.common.logging.AccessLogRecord;
+import com.odi.apiserver.common.ratelimit.TokenRateLimiter;
 import com.odi.apiserver.common.response.ApiResponse;
+import com.odi.apiserver.common.response.ApiResponseRelay;
+import com.odi.apiserver.common.timing.ServerTimings;
+import com.odi.apiserver.common.response.ErrorInfo;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/v1/ai")
 @RequiredArgsConstructor
 @Slf4j
 public class AiController {
     private final SendChatUseCase sendChatUseCase;
+    private final ConversationUseCase conversationUseCase;
+    private final TokenRateLimiter tokenRateLimiter;
+    private final ApiResponseRelay apiResponseRelay;
 
-    @PostMapping("/greeting")
-    public Mono<ResponseEntity<ApiResponse<ChatResponse>>> sendMessage(@Valid @RequestBody ChatRequest request) {
-        log.info("Chat request received: message={}, maxTokens={}", request.getMessage(), request.getMaxTokens());
+    // true면 /greeting 응답을 ai-server 본문에 봉투만 씌워 그대로 전달 (relay)
+    @Value("${external.chat.relay.enabled:false}")
+    private boolean relayEnabled;
 
+    @PostMapping("/greeting")
+    public Mono<ResponseEntity<ApiResponse<ChatResponse>>> sendMessage(@Valid @RequestBody ChatRequest request,
+                                                                       ServerWebExchange exchange) {
         SendChatCommand command = SendChatCommand.builder()
+                .requestId(RequestIdFilter.requestId(exchange))
                 .message(request.getMessage())
                 .maxTokens(request.getMaxTokens())
                 .build();
+        if (relayEnabled) {
+            return relay(command, exchange);
+        }
 
-        return sendChatUseCase.execute(command)
+        return tokenRateLimiter.acquire(exchange, request.getMaxTokens())
+                .then(Mono.defer(() -> sendChatUseCase.execute(command)))
                 .map(chatMessage -> {
                     ChatResponse response = ChatResponse.from(chatMessage);
-                    ApiResponse<ChatResponse> apiResponse = ApiResponse.success(response, "채팅 메시지가 성공적으로 처리되었습니다.");
+                    ApiResponse<ChatResponse> apiResponse = ApiResponse.success(response,
+                            "채팅 메시지가 성공적으로 처리되었습니다.", chatMessage.getRequestId());
                     return ResponseEntity.ok(apiResponse);
                 })
-                .doOnSuccess(response -> log.info("Chat response sent successfully"))
-                .doOnError(error -> log.error("Chat request failed", error));
+                .transformDeferredContextual((result, context) ->
+                        result.doOnNext(response -> ServerTimings.current(context).handlerCompleted()));
+    }
+
+    /**
+     * relay 모드 - ai-server 응답을 ChatMessage/ChatResponse로 옮기지 않고 ApiResponse 봉투만 씌워 바로 기록
+     * - data에는 processedAt과 ai-server 응답 필드(response, usage)가 그대로 담김
+     * - 본문을 직접 쓰고 빈 결과를 반환하므로 ResponseEntity 인코딩은 건너뜀
+     * - 본문을 쓰기 전의 오류(한도 초과, upstream 오류 등)는 일반 경로와 같은 오류 응답
+     * - 응답 텍스트를 읽지 않으므로 응답 캐시/요청 병합/배치, 토큰 사용량 지표는 적용되지 않음
+     */
+    private Mono<ResponseEntity<ApiResponse<ChatResponse>>> relay(SendChatCommand command, ServerWebExchange exchange) {
+        ServerHttpResponse response = exchange.getResponse();
+        Flux<DataBuffer> body = apiResponseRelay.success(response.bufferFactory(),
+                Flux.defer(() -> sendChatUseCase.relay(command)),
+                () -> Map.of("processedAt", LocalDateTime.now()),
+                "채팅 메시지가 성공적으로 처리되었습니다.", command.getRequestId());
+
+        return tokenRateLimiter.acquire(exchange, command.getMaxTokens())
+                .then(Mono.defer(() -> {
+                    response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    return response.writeWith(body);
+                }))
+                .then(Mono.empty());
+    }
+
+    /**
+     * 스트리밍 채팅 - 생성되는 token을 SSE로 바로 전달
+     * - done 이벤트는 upstream이 done을 보내 정상 완료됐을 때만 전달 (done 없이 끊기면 포트가 오류로 끝내므로 error 이벤트)
+     * - 응답이 이미 시작된 뒤의 오류는 error 이벤트로 전달 (상태 코드 변경 불가)
+     * - 클라이언트가 연결을 끊으면 구독이 취소되어 upstream 호출까지 취소됨
+     * - 토큰 한도 초과도 error 이벤트(RATE_LIMIT_EXCEEDED)로 전달하고 Retry-After 헤더를 함께 설정
+     */
+    @PostMapping(value = "/greeting/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamMessage(@Valid @RequestBody ChatRequest request,
+                                                       ServerWebExchange exchange) {
+        SendChatCommand command = SendChatCommand.builder()
+                .requestId(RequestIdFilter.requestId(exchange))
+                .message(request.getMessage())
+                .maxTokens(request.getMaxTokens())
+                .build();
+
+        return tokenRateLimiter.acquire(exchange, request.getMaxTokens())
+                .thenMany(Flux.defer(() -> sendChatUseCase.stream(command)))
+                .doOnError(RateLimitExceededException.class, error -> exchange.getResponse().getHeaders()
+                        .set(HttpHeaders.RETRY_AFTER, String.valueOf(error.retryAfterSeconds())))
+                .map(token -> ServerSentEvent.<Object>builder(ChatStreamResponse.of(token))
+                        .event("token")
+                        .build())
+                .concatWith(Mono.just(ServerSentEvent.<Object>builder()
+                        .event("done")
+                        .data(ChatStreamResponse.of(""))
+                        .build()))
+                .onErrorResume(error -> Mono.deferContextual(context -> {
+                    ErrorInfo errorInfo = toErrorInfo(error);
+                    AccessLogRecord.current(context).errorCode(errorInfo.getErrorCode());
+                    if (!(error instanceof BusinessException)) {
+                        log.error("Chat stream failed", error);
+                    }
+                    return Mono.just(ServerSentEvent.<Object>builder(errorInfo)
+                            .event("error")
+                            .build());
+                }));
+    }
+
+    /**
+     * 세션 대화 - sessionId 없이 보내면 새 세션을 만들고, 응답의 sessionId로 이어서 대화
+     * - 서버가 이전 대화를 보관하고 토큰 예산에 맞춰 잘라 보내므로 클라이언트는 이번 메시지만 전송
+     * - 세션이 만료되었으면 404(CONVERSATION_NOT_FOUND)
+     */
+    @PostMapping("/conversations")
+    public Mono<ResponseEntity<ApiResponse<ConversationResponse>>> converse(@Valid @RequestBody ConversationRequest request,
+                                                                          ServerWebExchange exchange) {
+        SendChatCommand command = SendChatCommand.builder()
+                .requestId(RequestIdFilter.requestId(exchange))
+                .sessionId(request.getSessionId())
+                .message(request.getMessage())
+                .maxTokens(request.getMaxTokens())
+                .build();
+
+        return tokenRateLimiter.acquire(exchange, request.getMaxTokens())
+                .then(Mono.defer(() -> conversationUseCase.converse(command)))
+                .map(reply -> ResponseEntity.ok(ApiResponse.success(ConversationResponse.from(reply),
+                        "채팅 메시지가 성공적으로 처리되었습니다.", reply.getChatMessage().getRequestId())))
+                .transformDeferredContextual((result, context) ->
+                        result.doOnNext(response -> ServerTimings.current(context).handlerCompleted()));
+    }
+
+    @DeleteMapping("/conversations/{sessionId}")
+    public Mono<ResponseEntity<Void>> endConversation(@PathVariable String sessionId) {
+        return conversationUseCase.end(sessionId)
+                .thenReturn(ResponseEntity.noContent().<Void>build());
+    }
+
+    private ErrorInfo toErrorInfo(Throwable error) {
+        ErrorCode errorCode;
+        if (error instanceof BusinessException businessException) {
+            errorCode = businessException.getErrorCode();
+        } else if (error instanceof IllegalArgumentException) {
+            errorCode = ErrorCode.INVALID_REQUEST;
+        } else {
+            errorCode = ErrorCode.EXTERNAL_API_ERROR;
+        }
+
+        return ErrorInfo.builder()
+                .errorCode(errorCode.name())
+                .errorMessage(errorCode.getMessage())
+                .timestamp(java.time.LocalDateTime.now().toString())
+                .build();
     }
 }
@@ -0,0 +1,52 @@
+package com.odi.apiserver.api.v1.controller;
+
+import com.odi.apiserver.api.v1.dto.response.NearbyPlaceResponse;
+import com.odi.apiserver.application.port.in.FindNearbyPlacesUseCase;
+import com.odi.apiserver.application.port.in.NearbyPlacesQuery;
+import com.odi.apiserver.common.id.RequestIdFilter;
+import com.odi.apiserver.common.response.ApiResponse;
+import com.odi.apiserver.domain.location.entity.PlaceCategory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/v1/places")
+@RequiredArgsConstructor
+public class PlaceController {
+    private final FindNearbyPlacesUseCase findNearbyPlacesUseCase;
+
+    /**
+     * 주변 장소 - radius(m)를 주면 반경 내 가까운 순, 없으면 가장 가까운 limit개
+     * 예) /api/v1/places/nearby?lat=37.5665&lon=126.9780&radius=1000&category=CAFE&category=PARK
+     */
+    @GetMapping("/nearby")
+    public Mono<ResponseEntity<ApiResponse<List<NearbyPlaceResponse>>>> findNearby(
+            @RequestParam("lat") double latitude,
+            @RequestParam("lon") double longitude,
+            @RequestParam(value = "radius", required = false) Double radiusMeters,
+            @RequestParam(value = "limit", defaultValue = "10") int limit,
+            @RequestParam(value = "category", required = false) Set<PlaceCategory> categories,
+            ServerWebExchange exchange) {
+        NearbyPlacesQuery query = NearbyPlacesQuery.builder()
+                .latitude(latitude)
+                .longitude(longitude)
+                .radiusMeters(radiusMeters)
+                .limit(limit)
+                .categories(categories)
+                .build();
+
+        return findNearbyPlacesUseCase.find(query)
+                .map(places -> ResponseEntity.ok(ApiResponse.success(
+                        places.stream().map(NearbyPlaceResponse::from).toList(),
+                        "주변 장소를 조회했습니다.", RequestIdFilter.requestId(exchange))));
+    }
+}
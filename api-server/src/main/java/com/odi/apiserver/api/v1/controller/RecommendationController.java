@@ -0,0 +1,46 @@
+package com.odi.apiserver.api.v1.controller;
+
+import com.odi.apiserver.api.v1.dto.response.RecommendationResponse;
+import com.odi.apiserver.application.port.in.GetRecommendationUseCase;
+import com.odi.apiserver.application.port.in.RecommendationQuery;
+import com.odi.apiserver.common.id.RequestIdFilter;
+import com.odi.apiserver.common.response.ApiResponse;
+import com.odi.apiserver.domain.recommendation.entity.WeatherCondition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/recommendations")
+@RequiredArgsConstructor
+public class RecommendationController {
+    private final GetRecommendationUseCase getRecommendationUseCase;
+
+    /**
+     * 위치/날씨/현재 시간대 기반 추천
+     * 예) /api/v1/recommendations?lat=37.5665&lon=126.9780&weather=RAIN
+     * - weather를 생략하면 서버의 예보 스냅샷에서 해당 위치 날씨를 사용
+     */
+    @GetMapping
+    public Mono<ResponseEntity<ApiResponse<RecommendationResponse>>> recommend(
+            @RequestParam("lat") double latitude,
+            @RequestParam("lon") double longitude,
+            @RequestParam(value = "weather", required = false) WeatherCondition weather,
+            ServerWebExchange exchange) {
+        RecommendationQuery query = RecommendationQuery.builder()
+                .latitude(latitude)
+                .longitude(longitude)
+                .weather(weather)
+                .build();
+
+        return getRecommendationUseCase.recommend(query)
+                .map(recommendation -> ResponseEntity.ok(ApiResponse.success(
+                        RecommendationResponse.from(recommendation, latitude, longitude),
+                        "추천을 조회했습니다.", RequestIdFilter.requestId(exchange))));
+    }
+}
@@ -0,0 +1,21 @@
+package com.odi.apiserver.api.v1.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ConversationRequest {
+    // 없으면 새 대화 시작 (응답의 sessionId를 다음 턴에 전달)
+    @Size(max = 64, message = "세션 ID가 너무 깁니다")
+    private final String sessionId;
+
+    @NotBlank(message = "메시지는 필수입니다")
+    private final String message;
+
+    @Positive(message = "최대 토큰 수는 양수여야 합니다")
+    private final Integer maxTokens;
+}
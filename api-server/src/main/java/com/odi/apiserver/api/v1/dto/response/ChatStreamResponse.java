@@ -0,0 +1,19 @@
+package com.odi.apiserver.api.v1.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 스트리밍 응답 이벤트 한 건 (SSE data)
+ */
+@Getter
+@Builder
+public class ChatStreamResponse {
+    private final String content;
+
+    public static ChatStreamResponse of(String content) {
+        return ChatStreamResponse.builder()
+                .content(content)
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.odi.apiserver.api.v1.dto.response;
+
+import com.odi.apiserver.application.port.in.ConversationReply;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class ConversationResponse {
+    private final String sessionId;
+    private final String response;
+    private final LocalDateTime processedAt;
+    // 이번 턴에 함께 보낸 과거 발화 수 / 토큰 예산 때문에 제외된 발화 수
+    private final int contextTurns;
+    private final int droppedTurns;
+
+    public static ConversationResponse from(ConversationReply reply) {
+        return ConversationResponse.builder()
+                .sessionId(reply.getSessionId())
+                .response(reply.getChatMessage().getResponse())
+                .processedAt(reply.getChatMessage().getProcessedAt())
+                .contextTurns(reply.getContextTurns())
+                .droppedTurns(reply.getDroppedTurns())
+                .build();
+    }
+}
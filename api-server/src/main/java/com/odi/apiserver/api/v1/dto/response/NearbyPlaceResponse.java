@@ -0,0 +1,28 @@
+package com.odi.apiserver.api.v1.dto.response;
+
+import com.odi.apiserver.domain.location.NearbyPlace;
+import com.odi.apiserver.domain.location.entity.PlaceCategory;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class NearbyPlaceResponse {
+    private final long placeId;
+    private final String name;
+    private final PlaceCategory category;
+    private final double latitude;
+    private final double longitude;
+    private final long distanceMeters;
+
+    public static NearbyPlaceResponse from(NearbyPlace place) {
+        return NearbyPlaceResponse.builder()
+                .placeId(place.getPlaceId())
+                .name(place.getName())
+                .category(place.getCategory())
+                .latitude(place.getLatitude())
+                .longitude(place.getLongitude())
+                .distanceMeters(Math.round(place.getDistanceMeters()))
+                .build();
+    }
+}
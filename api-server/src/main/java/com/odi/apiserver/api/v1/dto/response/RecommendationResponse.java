@@ -0,0 +1,50 @@
+package com.odi.apiserver.api.v1.dto.response;
+
+import com.odi.apiserver.domain.location.GeoDistance;
+import com.odi.apiserver.domain.recommendation.entity.Recommendation;
+import com.odi.apiserver.domain.recommendation.entity.TimeOfDay;
+import com.odi.apiserver.domain.recommendation.entity.WeatherCondition;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+@Getter
+@Builder
+public class RecommendationResponse {
+    private final String geoCell;
+    private final WeatherCondition weather;
+    private final TimeOfDay timeOfDay;
+    private final String message;
+    private final List<NearbyPlaceResponse> places;
+    private final LocalDateTime generatedAt;
+
+    /**
+     * 캐시된 결과의 거리는 셀 중심 기준이므로 요청 좌표 기준으로 다시 계산해 정렬
+     */
+    public static RecommendationResponse from(Recommendation recommendation, double latitude, double longitude) {
+        List<NearbyPlaceResponse> places = recommendation.getPlaces().stream()
+                .map(place -> NearbyPlaceResponse.builder()
+                        .placeId(place.getPlaceId())
+                        .name(place.getName())
+                        .category(place.getCategory())
+                        .latitude(place.getLatitude())
+                        .longitude(place.getLongitude())
+                        .distanceMeters(Math.round(GeoDistance.meters(latitude, longitude,
+                                place.getLatitude(), place.getLongitude())))
+                        .build())
+                .sorted(Comparator.comparingLong(NearbyPlaceResponse::getDistanceMeters))
+                .toList();
+
+        return RecommendationResponse.builder()
+                .geoCell(recommendation.getKey().cell().hash())
+                .weather(recommendation.getKey().weather())
+                .timeOfDay(recommendation.getKey().timeOfDay())
+                .message(recommendation.getMessage())
+                .places(places)
+                .generatedAt(recommendation.getGeneratedAt())
+                .build();
+    }
+}
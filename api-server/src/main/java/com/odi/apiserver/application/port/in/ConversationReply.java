@@ -0,0 +1,15 @@
+package com.odi.apiserver.application.port.in;
+
+import com.odi.apiserver.domain.ai.ChatMessage;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ConversationReply {
+    private final String sessionId;
+    private final ChatMessage chatMessage;
+    // 이번 턴에 전송한 과거 발화 수 / 토큰 예산 때문에 제외된 발화 수
+    private final int contextTurns;
+    private final int droppedTurns;
+}
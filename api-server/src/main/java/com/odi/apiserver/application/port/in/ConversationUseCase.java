@@ -0,0 +1,17 @@
+package com.odi.apiserver.application.port.in;
+
+import reactor.core.publisher.Mono;
+
+public interface ConversationUseCase {
+    /**
+     * 세션 대화 한 턴 처리 - 이전 대화를 토큰 예산에 맞춰 잘라 함께 전송
+     * @param command 전송할 메시지 정보 (sessionId가 없으면 새 세션 시작)
+     * @return 세션 ID와 처리된 채팅 메시지
+     */
+    Mono<ConversationReply> converse(SendChatCommand command);
+
+    /**
+     * 세션 종료 - 저장된 대화 삭제
+     */
+    Mono<Void> end(String sessionId);
+}
@@ -0,0 +1,15 @@
+package com.odi.apiserver.application.port.in;
+
+import com.odi.apiserver.domain.location.NearbyPlace;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface FindNearbyPlacesUseCase {
+    /**
+     * 기준 좌표 주변 장소 검색
+     * @param query 좌표, 반경(선택), 최대 개수, 카테고리 필터
+     * @return 가까운 순으로 정렬된 장소
+     */
+    Mono<List<NearbyPlace>> find(NearbyPlacesQuery query);
+}
@@ -0,0 +1,13 @@
+package com.odi.apiserver.application.port.in;
+
+import com.odi.apiserver.domain.recommendation.entity.Recommendation;
+import reactor.core.publisher.Mono;
+
+public interface GetRecommendationUseCase {
+    /**
+     * 위치/날씨/시간대에 맞는 추천 - 같은 셀/날씨/시간대의 결과는 캐시에서 공유
+     * @param query 좌표, 날씨, 시각(선택)
+     * @return 추천 장소와 추천 멘트
+     */
+    Mono<Recommendation> recommend(RecommendationQuery query);
+}
@@ -0,0 +1,19 @@
+package com.odi.apiserver.application.port.in;
+
+import com.odi.apiserver.domain.location.entity.PlaceCategory;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Set;
+
+@Getter
+@Builder
+public class NearbyPlacesQuery {
+    private final double latitude;
+    private final double longitude;
+    // 없으면 반경 제한 없이 가장 가까운 limit개 (k-NN)
+    private final Double radiusMeters;
+    private final int limit;
+    // 비어 있으면 전체 카테고리
+    private final Set<PlaceCategory> categories;
+}
@@ -0,0 +1,17 @@
+package com.odi.apiserver.application.port.in;
+
+import com.odi.apiserver.domain.recommendation.entity.WeatherCondition;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalTime;
+
+@Getter
+@Builder
+public class RecommendationQuery {
+    private final double latitude;
+    private final double longitude;
+    private final WeatherCondition weather;
+    // 없으면 현재 시각 (recommendation.zone 기준)
+    private final LocalTime time;
+}
@@ -6,6 +6,10 @@ import lombok.Getter;
 @Getter
 @Builder
 public class SendChatCommand {
+    // HTTP 요청 단위 ID (없으면 ChatMessage 생성 시 발급)
+    private final String requestId;
+    // 대화 세션 ID (세션 대화에서만 사용, 없으면 새 세션)
+    private final String sessionId;
     private final String message;
     private final Integer maxTokens;
 }
@@ -1,6 +1,8 @@
 package com.odi.apiserver.application.port.in;
 
 import com.odi.apiserver.domain.ai.ChatMessage;
+import org.springframework.core.io.buffer.DataBuffer;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface SendChatUseCase {
@@ -10,4 +12,18 @@ public interface SendChatUseCase {
      * @return 처리된 채팅 메시지
      */
     Mono<ChatMessage> execute(SendChatCommand command);
+
+    /**
+     * 채팅 메시지를 외부 서버로 전송하고 응답을 스트리밍으로 수신
+     * @param command 전송할 메시지 정보
+     * @return 생성되는 응답 조각(token)
+     */
+    Flux<String> stream(SendChatCommand command);
+
+    /**
+     * 채팅 메시지를 외부 서버로 전송하고 응답 본문을 파싱하지 않고 그대로 전달 (relay 모드)
+     * @param command 전송할 메시지 정보
+     * @return 외부 서버 응답 본문 (JSON 객체)
+     */
+    Flux<DataBuffer> relay(SendChatCommand command);
 }
@@ -0,0 +1,11 @@
+package com.odi.apiserver.application.port.out;
+
+import com.odi.apiserver.domain.ai.ChatMessage;
+
+public interface ChatHistoryPort {
+    /**
+     * 완료/실패한 채팅 기록 저장 요청
+     * - 요청 경로에서 호출되므로 DB I/O를 기다리지 않고 즉시 반환해야 함 (저장은 비동기, 유실 가능)
+     */
+    void save(ChatMessage chatMessage);
+}
@@ -0,0 +1,21 @@
+package com.odi.apiserver.application.port.out;
+
+import com.odi.apiserver.domain.ai.conversation.Conversation;
+import com.odi.apiserver.domain.ai.conversation.ConversationTurn;
+
+import java.util.Optional;
+
+public interface ConversationStorePort {
+    /**
+     * 세션 조회 (만료/축출되었거나 없으면 empty)
+     */
+    Optional<Conversation> find(String sessionId);
+
+    /**
+     * 한 턴을 원자적으로 추가 (세션이 없으면 새로 생성)
+     * - 같은 세션의 동시 요청이 서로의 턴을 덮어쓰지 않아야 함
+     */
+    Conversation append(String sessionId, ConversationTurn user, ConversationTurn assistant);
+
+    void remove(String sessionId);
+}
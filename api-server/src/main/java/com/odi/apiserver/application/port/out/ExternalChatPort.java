@@ -1,9 +1,32 @@
 package com.odi.apiserver.application.port.out;
 
 import com.odi.apiserver.domain.ai.ChatMessage;
+import com.odi.apiserver.domain.ai.conversation.ConversationContext;
+import org.springframework.core.io.buffer.DataBuffer;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface ExternalChatPort {
     Mono<ChatMessage> sendMessage(ChatMessage chatMessage);
+
+    /**
+     * 응답을 생성되는 대로 token 단위로 전달
+     * - 구독 취소 시 외부 호출도 함께 취소되어야 함
+     * - upstream이 완료(done)를 알렸을 때만 정상 완료하고, 그 전에 끊기면 오류로 끝내야 함
+     */
+    Flux<String> streamMessage(ChatMessage chatMessage);
+
+    /**
+     * ai-server 응답 본문(JSON 객체)을 파싱하지 않고 받은 그대로 전달 (relay 모드)
+     * - 응답 텍스트를 읽지 않으므로 응답 캐시/요청 병합/배치 대상이 아님
+     */
+    Flux<DataBuffer> relayMessage(ChatMessage chatMessage);
+
+    /**
+     * 이전 대화(context)를 함께 보내 다중 메시지로 응답 생성
+     * - 대화마다 맥락이 달라 응답 캐시/요청 병합 대상이 아님
+     */
+    Mono<ChatMessage> sendConversation(ChatMessage chatMessage, ConversationContext context);
+
     Mono<Boolean> healthCheck();
 }
@@ -0,0 +1,26 @@
+package com.odi.apiserver.application.port.out;
+
+import com.odi.apiserver.domain.location.NearbyPlace;
+import com.odi.apiserver.domain.location.entity.Place;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PlaceSearchPort {
+    /**
+     * 가장 가까운 장소 k개 (가까운 순)
+     * @param categoryMask 허용할 카테고리 비트마스크 (PlaceCategory.mask)
+     */
+    List<NearbyPlace> findNearest(double latitude, double longitude, int k, long categoryMask);
+
+    /**
+     * 반경 내 장소를 가까운 순으로 최대 limit개
+     */
+    List<NearbyPlace> findWithinRadius(double latitude, double longitude, double radiusMeters, int limit,
+                                       long categoryMask);
+
+    /**
+     * 전체 장소 교체 (대량 갱신) - 교체 중에도 조회는 이전 데이터로 계속 처리되어야 함
+     */
+    void replaceAll(Collection<Place> places);
+}
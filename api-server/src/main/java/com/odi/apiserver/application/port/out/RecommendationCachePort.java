@@ -0,0 +1,16 @@
+package com.odi.apiserver.application.port.out;
+
+import com.odi.apiserver.domain.recommendation.RecommendationKey;
+import com.odi.apiserver.domain.recommendation.entity.Recommendation;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+public interface RecommendationCachePort {
+    /**
+     * 캐시된 추천 조회, 없거나 만료되었으면 loader로 생성
+     * - 같은 키의 동시 생성은 하나로 합쳐야 함
+     * - 만료된 결과를 다시 만들지 못하면(upstream 실패) 만료된 결과라도 응답
+     */
+    Mono<Recommendation> get(RecommendationKey key, Supplier<Mono<Recommendation>> loader);
+}
@@ -0,0 +1,23 @@
+package com.odi.apiserver.application.port.out;
+
+import com.odi.apiserver.domain.weather.WeatherGrid;
+import com.odi.apiserver.domain.weather.WeatherReading;
+
+import java.util.Optional;
+
+public interface WeatherLookupPort {
+    /**
+     * 로컬 스냅샷에서 좌표의 날씨 조회 (외부 호출 없음, 스냅샷이 없거나 격자 밖이면 empty)
+     */
+    Optional<WeatherReading> find(double latitude, double longitude);
+
+    /**
+     * 현재 스냅샷 버전 (없으면 -1)
+     */
+    long currentVersion();
+
+    /**
+     * 새 예보 격자로 스냅샷 교체
+     */
+    void install(WeatherGrid grid);
+}
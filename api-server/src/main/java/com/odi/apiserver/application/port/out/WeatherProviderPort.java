@@ -0,0 +1,11 @@
+package com.odi.apiserver.application.port.out;
+
+import com.odi.apiserver.domain.weather.WeatherGrid;
+import reactor.core.publisher.Mono;
+
+public interface WeatherProviderPort {
+    /**
+     * 최신 예보 격자 전체를 가져옴 (대량 적재용)
+     */
+    Mono<WeatherGrid> fetchLatest();
+}
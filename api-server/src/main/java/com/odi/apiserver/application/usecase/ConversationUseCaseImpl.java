@@ -0,0 +1,110 @@
+package com.odi.apiserver.application.usecase;
+
+import com.odi.apiserver.application.port.in.ConversationReply;
+import com.odi.apiserver.application.port.in.ConversationUseCase;
+import com.odi.apiserver.application.port.in.SendChatCommand;
+import com.odi.apiserver.application.port.out.ChatHistoryPort;
+import com.odi.apiserver.application.port.out.ConversationStorePort;
+import com.odi.apiserver.application.port.out.ExternalChatPort;
+import com.odi.apiserver.common.deadline.RequestDeadline;
+import com.odi.apiserver.common.exception.BusinessException;
+import com.odi.apiserver.common.exception.ErrorCode;
+import com.odi.apiserver.common.id.SessionIdGenerator;
+import com.odi.apiserver.common.logging.AccessLogRecord;
+import com.odi.apiserver.common.metrics.ChatMetrics;
+import com.odi.apiserver.common.timing.ServerTimings;
+import com.odi.apiserver.domain.ai.ChatMessage;
+import com.odi.apiserver.domain.ai.conversation.Conversation;
+import com.odi.apiserver.domain.ai.conversation.ConversationContext;
+import com.odi.apiserver.domain.ai.conversation.ConversationTurn;
+import com.odi.apiserver.domain.ai.service.ChatService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 세션 대화
+ * - 세션에 쌓인 이전 대화를 토큰 예산(max-prompt-tokens) 안으로 잘라 이번 메시지와 함께 전송
+ *   (대화가 길어져도 요청 본문과 프롬프트 토큰이 예산 이상으로 커지지 않음)
+ * - 응답이 성공한 턴만 세션에 추가 (실패한 턴은 다음 컨텍스트에 남기지 않음)
+ * - 외부 호출은 요청 기한(RequestDeadline)까지만 기다림
+ */
+@Service
+public class ConversationUseCaseImpl implements ConversationUseCase {
+    private final ChatService chatService;
+    private final ExternalChatPort externalChatPort;
+    private final ConversationStorePort conversationStorePort;
+    private final ChatHistoryPort chatHistoryPort;
+    private final ChatMetrics chatMetrics;
+    private final int maxPromptTokens;
+
+    public ConversationUseCaseImpl(ChatService chatService,
+                                   ExternalChatPort externalChatPort,
+                                   ConversationStorePort conversationStorePort,
+                                   ChatHistoryPort chatHistoryPort,
+                                   ChatMetrics chatMetrics,
+                                   @Value("${conversation.context.max-prompt-tokens:2048}") int maxPromptTokens) {
+        this.chatService = chatService;
+        this.externalChatPort = externalChatPort;
+        this.conversationStorePort = conversationStorePort;
+        this.chatHistoryPort = chatHistoryPort;
+        this.chatMetrics = chatMetrics;
+        this.maxPromptTokens = maxPromptTokens;
+    }
+
+    @Override
+    public Mono<ConversationReply> converse(SendChatCommand command) {
+        return chatMetrics.timed("chat.usecase", "converse", Mono.deferContextual(context -> {
+            long start = System.nanoTime();
+            ChatMessage chatMessage = chatService.createChatRequest(command);
+            Conversation conversation = loadConversation(command.getSessionId());
+            ConversationContext window = conversation.contextFor(chatMessage.getMessage(), maxPromptTokens);
+            ServerTimings.current(context).record(ServerTimings.Stage.VALIDATE, start);
+
+            AccessLogRecord record = AccessLogRecord.current(context);
+            record.chatRequest(chatMessage.getMessage(), chatMessage.getMaxTokens());
+            record.requestId(chatMessage.getRequestId());
+            chatMetrics.recordContext(window.estimatedTokens(), window.droppedTurns());
+
+            // 응답을 기록했으면 이후 취소 신호는 기록하지 않음 (SendChatUseCaseImpl과 같은 규칙)
+            AtomicBoolean responded = new AtomicBoolean();
+            return RequestDeadline.bound(externalChatPort.sendConversation(chatMessage, window))
+                    .doOnNext(result -> {
+                        responded.set(true);
+                        conversationStorePort.append(conversation.getSessionId(),
+                                ConversationTurn.user(result.getMessage()),
+                                ConversationTurn.assistant(result.getResponse()));
+                        chatHistoryPort.save(result);
+                        chatMetrics.recordTokens(result.getMaxTokens(), result.getTokensUsed());
+                    })
+                    .doOnError(error -> chatHistoryPort.save(chatMessage.withFailure(error.getMessage())))
+                    .doOnCancel(() -> {
+                        if (!responded.get()) {
+                            chatHistoryPort.save(chatMessage.withCancellation());
+                        }
+                    })
+                    .map(result -> ConversationReply.builder()
+                            .sessionId(conversation.getSessionId())
+                            .chatMessage(result)
+                            .contextTurns(window.turns().size() - 1)
+                            .droppedTurns(window.droppedTurns())
+                            .build());
+        }));
+    }
+
+    @Override
+    public Mono<Void> end(String sessionId) {
+        return Mono.fromRunnable(() -> conversationStorePort.remove(sessionId));
+    }
+
+    // 세션 ID가 없으면 새 세션, 있는데 저장소에 없으면(만료/축출) 맥락이 사라졌음을 알리기 위해 오류
+    private Conversation loadConversation(String sessionId) {
+        if (sessionId == null || sessionId.isBlank()) {
+            return Conversation.start(SessionIdGenerator.nextId());
+        }
+        return conversationStorePort.find(sessionId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CONVERSATION_NOT_FOUND));
+    }
+}
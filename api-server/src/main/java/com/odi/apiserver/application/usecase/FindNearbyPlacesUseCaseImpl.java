@@ -0,0 +1,52 @@
+package com.odi.apiserver.application.usecase;
+
+import com.odi.apiserver.application.port.in.FindNearbyPlacesUseCase;
+import com.odi.apiserver.application.port.in.NearbyPlacesQuery;
+import com.odi.apiserver.application.port.out.PlaceSearchPort;
+import com.odi.apiserver.common.exception.BusinessException;
+import com.odi.apiserver.common.exception.ErrorCode;
+import com.odi.apiserver.domain.location.NearbyPlace;
+import com.odi.apiserver.domain.location.entity.Place;
+import com.odi.apiserver.domain.location.entity.PlaceCategory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 주변 장소 검색 - 인메모리 인덱스 조회는 수 µs 수준이라 별도 스케줄러 없이 호출 스레드에서 처리
+ */
+@Service
+@RequiredArgsConstructor
+public class FindNearbyPlacesUseCaseImpl implements FindNearbyPlacesUseCase {
+    static final int MAX_LIMIT = 100;
+
+    private final PlaceSearchPort placeSearchPort;
+
+    @Override
+    public Mono<List<NearbyPlace>> find(NearbyPlacesQuery query) {
+        return Mono.fromSupplier(() -> {
+            validate(query);
+            long categoryMask = PlaceCategory.mask(query.getCategories());
+            return query.getRadiusMeters() == null
+                    ? placeSearchPort.findNearest(query.getLatitude(), query.getLongitude(), query.getLimit(), categoryMask)
+                    : placeSearchPort.findWithinRadius(query.getLatitude(), query.getLongitude(),
+                            query.getRadiusMeters(), query.getLimit(), categoryMask);
+        });
+    }
+
+    private void validate(NearbyPlacesQuery query) {
+        try {
+            Place.validateCoordinates(query.getLatitude(), query.getLongitude());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, e.getMessage());
+        }
+        if (query.getRadiusMeters() != null && !(query.getRadiusMeters() > 0)) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "검색 반경은 양수여야 합니다");
+        }
+        if (query.getLimit() <= 0 || query.getLimit() > MAX_LIMIT) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "조회 개수는 1 ~ " + MAX_LIMIT + " 사이여야 합니다");
+        }
+    }
+}
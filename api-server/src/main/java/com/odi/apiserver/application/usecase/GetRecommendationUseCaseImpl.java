@@ -0,0 +1,150 @@
+package com.odi.apiserver.application.usecase;
+
+import com.odi.apiserver.application.port.in.GetRecommendationUseCase;
+import com.odi.apiserver.application.port.in.RecommendationQuery;
+import com.odi.apiserver.application.port.out.ExternalChatPort;
+import com.odi.apiserver.application.port.out.PlaceSearchPort;
+import com.odi.apiserver.application.port.out.RecommendationCachePort;
+import com.odi.apiserver.application.port.out.WeatherLookupPort;
+import com.odi.apiserver.common.exception.BusinessException;
+import com.odi.apiserver.common.exception.ErrorCode;
+import com.odi.apiserver.domain.ai.ChatMessage;
+import com.odi.apiserver.domain.ai.conversation.ConversationContext;
+import com.odi.apiserver.domain.ai.conversation.ConversationTurn;
+import com.odi.apiserver.domain.location.NearbyPlace;
+import com.odi.apiserver.domain.location.entity.Place;
+import com.odi.apiserver.domain.location.entity.PlaceCategory;
+import com.odi.apiserver.domain.recommendation.GeoCell;
+import com.odi.apiserver.domain.recommendation.RecommendationKey;
+import com.odi.apiserver.domain.recommendation.entity.Recommendation;
+import com.odi.apiserver.domain.recommendation.entity.TimeOfDay;
+import com.odi.apiserver.domain.recommendation.entity.WeatherCondition;
+import com.odi.apiserver.domain.recommendation.service.RecommendationPolicy;
+import com.odi.apiserver.domain.weather.WeatherReading;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 추천 조회
+ * - (지오해시 셀, 날씨, 시간대) 단위로 결과를 만들어 캐시에서 공유 - 같은 동네/시간대 사용자는 캐시 적중으로 즉시 응답
+ * - 날씨를 지정하지 않으면 로컬 예보 스냅샷에서 조회 (없으면 CLEAR)
+ * - 생성: 셀 중심 주변 장소를 정책 카테고리로 검색하고, LLM으로 한 줄 추천 멘트 생성
+ * - 생성이 실패하고 캐시에 쓸 결과도 없으면 멘트 없이 장소만 응답 (캐시에는 넣지 않음)
+ */
+@Service
+@Slf4j
+public class GetRecommendationUseCaseImpl implements GetRecommendationUseCase {
+    private static final int PROMPT_PLACES = 5;
+
+    private final RecommendationCachePort recommendationCachePort;
+    private final PlaceSearchPort placeSearchPort;
+    private final ExternalChatPort externalChatPort;
+    private final WeatherLookupPort weatherLookupPort;
+    private final RecommendationPolicy recommendationPolicy;
+    private final int geoPrecision;
+    private final ZoneId zone;
+    private final int placeCount;
+    private final double searchRadiusMeters;
+    private final boolean messageEnabled;
+    private final int messageMaxTokens;
+
+    public GetRecommendationUseCaseImpl(RecommendationCachePort recommendationCachePort,
+                                        PlaceSearchPort placeSearchPort,
+                                        ExternalChatPort externalChatPort,
+                                        WeatherLookupPort weatherLookupPort,
+                                        RecommendationPolicy recommendationPolicy,
+                                        @Value("${recommendation.geo-precision:6}") int geoPrecision,
+                                        @Value("${recommendation.zone:Asia/Seoul}") ZoneId zone,
+                                        @Value("${recommendation.places:10}") int placeCount,
+                                        @Value("${recommendation.search-radius-meters:3000}") double searchRadiusMeters,
+                                        @Value("${recommendation.message.enabled:true}") boolean messageEnabled,
+                                        @Value("${recommendation.message.max-tokens:128}") int messageMaxTokens) {
+        this.recommendationCachePort = recommendationCachePort;
+        this.placeSearchPort = placeSearchPort;
+        this.externalChatPort = externalChatPort;
+        this.weatherLookupPort = weatherLookupPort;
+        this.recommendationPolicy = recommendationPolicy;
+        this.geoPrecision = geoPrecision;
+        this.zone = zone;
+        this.placeCount = placeCount;
+        this.searchRadiusMeters = searchRadiusMeters;
+        this.messageEnabled = messageEnabled;
+        this.messageMaxTokens = messageMaxTokens;
+    }
+
+    @Override
+    public Mono<Recommendation> recommend(RecommendationQuery query) {
+        return Mono.defer(() -> {
+            RecommendationKey key = toKey(query);
+            return recommendationCachePort.get(key, () -> generate(key))
+                    .onErrorResume(error -> {
+                        log.debug("Recommendation generation failed, returning places only: {}", error.toString());
+                        return findPlaces(key).map(places -> build(key, places, null));
+                    });
+        });
+    }
+
+    private RecommendationKey toKey(RecommendationQuery query) {
+        try {
+            Place.validateCoordinates(query.getLatitude(), query.getLongitude());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, e.getMessage());
+        }
+        WeatherCondition weather = query.getWeather() != null ? query.getWeather()
+                : weatherLookupPort.find(query.getLatitude(), query.getLongitude())
+                        .map(WeatherReading::condition)
+                        .orElse(WeatherCondition.CLEAR);
+        LocalTime time = query.getTime() != null ? query.getTime() : LocalTime.now(zone);
+        return new RecommendationKey(GeoCell.of(query.getLatitude(), query.getLongitude(), geoPrecision),
+                weather, TimeOfDay.of(time));
+    }
+
+    private Mono<Recommendation> generate(RecommendationKey key) {
+        return findPlaces(key).flatMap(places -> {
+            Mono<String> message = messageEnabled && !places.isEmpty() ? generateMessage(key, places) : Mono.empty();
+            return message.map(text -> build(key, places, text))
+                    .switchIfEmpty(Mono.fromSupplier(() -> build(key, places, null)));
+        });
+    }
+
+    private Mono<List<NearbyPlace>> findPlaces(RecommendationKey key) {
+        return Mono.fromSupplier(() -> {
+            long categoryMask = PlaceCategory.mask(recommendationPolicy.categoriesFor(key.weather(), key.timeOfDay()));
+            return placeSearchPort.findWithinRadius(key.cell().latitude(), key.cell().longitude(),
+                    searchRadiusMeters, placeCount, categoryMask);
+        });
+    }
+
+    private Mono<String> generateMessage(RecommendationKey key, List<NearbyPlace> places) {
+        String candidates = places.stream()
+                .limit(PROMPT_PLACES)
+                .map(place -> place.getName() + "(" + place.getCategory().getDescription() + ")")
+                .collect(Collectors.joining(", "));
+        String prompt = String.format("지금은 %s이고 날씨는 %s야. 근처 장소: %s. 이 중 하나를 골라 친구에게 추천하듯 한 줄로 말해줘.",
+                key.timeOfDay().getDescription(), key.weather().getDescription(), candidates);
+
+        ChatMessage chatMessage = ChatMessage.createRequest(prompt, messageMaxTokens);
+        ConversationTurn turn = ConversationTurn.user(prompt);
+        ConversationContext context = new ConversationContext(List.of(turn), turn.getEstimatedTokens(), 0);
+        return externalChatPort.sendConversation(chatMessage, context)
+                .map(ChatMessage::getResponse)
+                .filter(response -> response != null && !response.isBlank());
+    }
+
+    private Recommendation build(RecommendationKey key, List<NearbyPlace> places, String message) {
+        return Recommendation.builder()
+                .key(key)
+                .places(places)
+                .message(message)
+                .generatedAt(LocalDateTime.now(zone))
+                .build();
+    }
+}
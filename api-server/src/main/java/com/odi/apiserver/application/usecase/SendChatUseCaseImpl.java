@@ -2,34 +2,100 @@ package com.odi.apiserver.application.usecase;
 
 import com.odi.apiserver.application.port.in.SendChatCommand;
 import com.odi.apiserver.application.port.in.SendChatUseCase;
+import com.odi.apiserver.application.port.out.ChatHistoryPort;
 import com.odi.apiserver.application.port.out.ExternalChatPort;
+import com.odi.apiserver.common.deadline.RequestDeadline;
+import com.odi.apiserver.common.logging.AccessLogRecord;
+import com.odi.apiserver.common.metrics.ChatMetrics;
+import com.odi.apiserver.common.timing.ServerTimings;
 import com.odi.apiserver.domain.ai.ChatMessage;
 import com.odi.apiserver.domain.ai.service.ChatService;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 @Service
 @RequiredArgsConstructor
-@Slf4j
 public class SendChatUseCaseImpl implements SendChatUseCase {
     private final ChatService chatService;
     private final ExternalChatPort externalChatPort;
+    private final ChatMetrics chatMetrics;
+    private final ChatHistoryPort chatHistoryPort;
 
     @Override
     public Mono<ChatMessage> execute(SendChatCommand command) {
-        log.info("Processing chat request message: {}", command.getMessage());
+        return chatMetrics.timed("chat.usecase", "execute", createChatRequest(command)
+                .flatMap(this::sendToExternalServer)
+                .doOnNext(result -> chatMetrics.recordTokens(result.getMaxTokens(), result.getTokensUsed())));
+    }
 
+    @Override
+    public Flux<String> stream(SendChatCommand command) {
         return createChatRequest(command)
-                .flatMap(this::sendToExternalServer);
+                .flatMapMany(this::streamFromExternalServer);
     }
 
+    @Override
+    public Flux<DataBuffer> relay(SendChatCommand command) {
+        return createChatRequest(command)
+                .flatMapMany(this::relayFromExternalServer);
+    }
+
+    // 요청 제한/본문 읽기를 기다리는 사이 기한이 지났으면 메시지를 만들지 않고 종료
     private Mono<ChatMessage> createChatRequest(SendChatCommand command) {
-        return Mono.fromSupplier(() -> chatService.createChatRequest(command));
+        return Mono.deferContextual(context -> {
+            RequestDeadline deadline = RequestDeadline.current(context);
+            if (deadline != null && deadline.isExpired()) {
+                return Mono.error(RequestDeadline.exceeded());
+            }
+            long start = System.nanoTime();
+            ChatMessage chatMessage = chatService.createChatRequest(command);
+            ServerTimings.current(context).record(ServerTimings.Stage.VALIDATE, start);
+            AccessLogRecord record = AccessLogRecord.current(context);
+            record.chatRequest(chatMessage.getMessage(), chatMessage.getMaxTokens());
+            record.requestId(chatMessage.getRequestId());
+            return Mono.just(chatMessage);
+        });
     }
 
+    // 완료/실패/취소 결과는 write-behind로 기록 (요청 경로에서 DB를 기다리지 않음)
+    // 외부 호출은 요청 기한까지만 기다리고, 넘기면 취소 후 실패로 기록
+    // Mono는 값을 받은 뒤에도 취소 신호가 올 수 있으므로 응답을 기록했으면 취소는 기록하지 않음
     private Mono<ChatMessage> sendToExternalServer(ChatMessage chatMessage) {
-        return externalChatPort.sendMessage(chatMessage);
+        return Mono.defer(() -> {
+            AtomicBoolean responded = new AtomicBoolean();
+            return RequestDeadline.bound(externalChatPort.sendMessage(chatMessage))
+                    .doOnNext(result -> {
+                        responded.set(true);
+                        chatHistoryPort.save(result);
+                    })
+                    .doOnError(error -> chatHistoryPort.save(chatMessage.withFailure(error.getMessage())))
+                    .doOnCancel(() -> {
+                        if (!responded.get()) {
+                            chatHistoryPort.save(chatMessage.withCancellation());
+                        }
+                    });
+        });
+    }
+
+    // 본문을 읽지 않으므로 응답 텍스트/토큰 사용량 없이 완료 여부만 기록
+    private Flux<DataBuffer> relayFromExternalServer(ChatMessage chatMessage) {
+        return RequestDeadline.bound(externalChatPort.relayMessage(chatMessage))
+                .doOnComplete(() -> chatHistoryPort.save(chatMessage.withResponse(null)))
+                .doOnError(error -> chatHistoryPort.save(chatMessage.withFailure(error.getMessage())))
+                .doOnCancel(() -> chatHistoryPort.save(chatMessage.withCancellation()));
+    }
+
+    private Flux<String> streamFromExternalServer(ChatMessage chatMessage) {
+        StringBuilder response = new StringBuilder();
+        return RequestDeadline.bound(externalChatPort.streamMessage(chatMessage))
+                .doOnNext(response::append)
+                .doOnComplete(() -> chatHistoryPort.save(chatMessage.withResponse(response.toString())))
+                .doOnError(error -> chatHistoryPort.save(chatMessage.withFailure(error.getMessage())))
+                .doOnCancel(() -> chatHistoryPort.save(chatMessage.withCancellation()));
     }
 }
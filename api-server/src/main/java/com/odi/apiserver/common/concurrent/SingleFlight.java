@@ -0,0 +1,124 @@
+package com.odi.apiserver.common.concurrent;
+
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 비동기 호출을 하나로 합치는 single-flight
+ * - 처음 들어온 요청의 Context로 loader를 한 번만 구독하고, 같은 키로 들어온 요청은 그 결과를 공유
+ * - 결과는 Sinks.One에 남아 있어, 값이 나온 뒤 목록에서 빠지기 전에 합류한 요청도 같은 값을 받음
+ * - 구독자 하나가 취소해도 나머지는 계속 기다리고, 마지막 구독자가 떠날 때만 loader 구독을 취소
+ * - 목록에서는 loader가 끝날 때(doFinally)나 모든 구독자가 떠났을 때만 제거
+ */
+public final class SingleFlight<K, V> {
+    private final ConcurrentHashMap<K, Flight> flights = new ConcurrentHashMap<>();
+    private final AtomicLong joinedCount = new AtomicLong();
+
+    /**
+     * 진행 중인 호출이 있으면 합류하고, 없으면 loader로 새 호출 시작
+     */
+    public Mono<V> execute(K key, Supplier<Mono<V>> loader) {
+        return Mono.deferContextual(context -> {
+            while (true) {
+                Flight flight = flights.computeIfAbsent(key, Flight::new);
+                Mono<V> result = flight.join(loader, context);
+                if (result != null) {
+                    return result;
+                }
+                // 모든 구독자가 떠나 취소된 호출 - 목록에서 빼고 새로 시작
+                flights.remove(key, flight);
+            }
+        });
+    }
+
+    /**
+     * 진행 중인 호출이 없을 때만 요청과 분리된 호출을 시작 (백그라운드 갱신용, 취소되지 않고 끝까지 진행)
+     *
+     * @return 새로 시작했으면 true, 이미 진행 중이면 false
+     */
+    public boolean startIfAbsent(K key, Supplier<Mono<V>> loader, Consumer<Throwable> onError) {
+        Flight flight = new Flight(key);
+        if (flights.putIfAbsent(key, flight) != null) {
+            return false;
+        }
+        flight.join(loader, Context.empty()).subscribe(value -> {
+        }, onError);
+        return true;
+    }
+
+    public boolean isInFlight(K key) {
+        return flights.containsKey(key);
+    }
+
+    /**
+     * 현재 진행 중인 고유 호출 수
+     */
+    public int size() {
+        return flights.size();
+    }
+
+    /**
+     * 기존 호출에 합류한 누적 요청 수
+     */
+    public long joinedCount() {
+        return joinedCount.get();
+    }
+
+    private final class Flight {
+        private final K key;
+        private final Sinks.One<V> result = Sinks.one();
+        private final Disposable.Swap upstream = Disposables.swap();
+        // 아래 필드는 this로 보호
+        private int subscribers;
+        private boolean started;
+        private boolean cancelled;
+
+        private Flight(K key) {
+            this.key = key;
+        }
+
+        /**
+         * 구독자로 합류 (이미 취소된 호출이면 null)
+         */
+        Mono<V> join(Supplier<Mono<V>> loader, ContextView context) {
+            boolean start;
+            synchronized (this) {
+                if (cancelled) {
+                    return null;
+                }
+                subscribers++;
+                start = !started;
+                started = true;
+            }
+            if (start) {
+                upstream.update(Mono.defer(loader)
+                        .doFinally(signal -> flights.remove(key, this))
+                        .contextWrite(Context.of(context))
+                        .subscribe(result::tryEmitValue, result::tryEmitError, result::tryEmitEmpty));
+            } else {
+                joinedCount.incrementAndGet();
+            }
+            return result.asMono().doOnCancel(this::leave);
+        }
+
+        private void leave() {
+            synchronized (this) {
+                if (--subscribers > 0) {
+                    return;
+                }
+                cancelled = true;
+            }
+            flights.remove(key, this);
+            upstream.dispose();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.odi.apiserver.common.deadline;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.odi.apiserver.common.exception.ErrorCode;
+import com.odi.apiserver.common.id.RequestIdFilter;
+import com.odi.apiserver.common.logging.AccessLogRecord;
+import com.odi.apiserver.common.response.ApiResponse;
+import com.odi.apiserver.common.response.ErrorInfo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 요청 처리 기한을 정해 exchange 속성과 Reactor Context에 싣는 필터
+ * - 클라이언트가 X-Request-Timeout-Ms(남은 밀리초)를 보내면 그 값, 없으면 엔드포인트별 기본값 (max로 상한)
+ * - 0 이하(클라이언트 쪽에서 이미 기한이 지남)면 본문을 읽거나 요청 제한을 차감하기 전에 바로 504
+ * - 기본값이 없는 엔드포인트는 헤더가 있을 때만 기한 적용
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+public class DeadlineFilter implements WebFilter {
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Duration maxTimeout;
+    private final Map<String, Duration> defaults;
+
+    public DeadlineFilter(ObjectMapper objectMapper,
+                          @Value("${deadline.enabled:true}") boolean enabled,
+                          @Value("${deadline.max:30s}") Duration maxTimeout,
+                          @Value("${deadline.defaults.greeting:10s}") Duration greeting,
+                          @Value("${deadline.defaults.greeting-stream:30s}") Duration greetingStream,
+                          @Value("${deadline.defaults.conversation:15s}") Duration conversation) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxTimeout = maxTimeout;
+        this.defaults = Map.of(
+                "/api/v1/ai/greeting", greeting,
+                "/api/v1/ai/greeting/stream", greetingStream,
+                "/api/v1/ai/conversations", conversation);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!enabled) {
+            return chain.filter(exchange);
+        }
+        Duration timeout = timeoutFor(exchange.getRequest().getPath().value(),
+                exchange.getRequest().getHeaders().getFirst(RequestDeadline.HEADER));
+        if (timeout == null) {
+            return chain.filter(exchange);
+        }
+        if (timeout.isZero() || timeout.isNegative()) {
+            return reject(exchange);
+        }
+        RequestDeadline deadline = RequestDeadline.after(timeout);
+        exchange.getAttributes().put(RequestDeadline.ATTRIBUTE, deadline);
+        return chain.filter(exchange)
+                .contextWrite(context -> context.put(RequestDeadline.CONTEXT_KEY, deadline));
+    }
+
+    /**
+     * 요청에 적용할 기한 (null이면 기한 없음, 0 이하면 이미 지남)
+     * - 헤더 값이 숫자가 아니면 없는 것으로 보고 기본값 사용
+     */
+    Duration timeoutFor(String path, String header) {
+        Duration timeout = defaults.get(path);
+        if (header != null) {
+            try {
+                timeout = Duration.ofMillis(Long.parseLong(header.trim()));
+            } catch (NumberFormatException ignored) {
+                // 기본값 유지
+            }
+        }
+        if (timeout == null) {
+            return null;
+        }
+        return timeout.compareTo(maxTimeout) > 0 ? maxTimeout : timeout;
+    }
+
+    // 컨트롤러 밖이라 GlobalExceptionHandler를 거치지 않으므로 같은 모양의 실패 응답을 직접 기록
+    private Mono<Void> reject(ServerWebExchange exchange) {
+        ErrorCode errorCode = ErrorCode.DEADLINE_EXCEEDED;
+        AccessLogRecord record = exchange.getAttribute(AccessLogRecord.ATTRIBUTE);
+        if (record != null) {
+            record.errorCode(errorCode.name());
+        }
+        ErrorInfo errorInfo = ErrorInfo.builder()
+                .errorCode(errorCode.name())
+                .errorMessage(errorCode.getMessage())
+                .timestamp(LocalDateTime.now().toString())
+                .build();
+        ApiResponse<Object> body = ApiResponse.failure(errorCode.getHttpStatus(), errorCode.getMessage(), errorInfo,
+                RequestIdFilter.requestId(exchange));
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.valueOf(errorCode.getHttpStatus()));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.fromCallable(() ->
+                response.bufferFactory().wrap(objectMapper.writeValueAsBytes(body))));
+    }
+}
@@ -0,0 +1,101 @@
+package com.odi.apiserver.common.deadline;
+
+import com.odi.apiserver.common.exception.BusinessException;
+import com.odi.apiserver.common.exception.ErrorCode;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+
+/**
+ * 요청 처리 기한 (System.nanoTime 기준 절대 시각)
+ * - DeadlineFilter가 만들어 Reactor Context에 싣고, 유스케이스/외부 호출이 남은 시간만큼만 기다림
+ * - ai-server에는 남은 시간을 X-Request-Timeout-Ms(밀리초)로 전달해 클로바스튜디오 호출에도 같은 기한 적용
+ * - 기한이 지나면 구독을 취소하므로 upstream 커넥션이 닫히고 ai-server도 호출을 중단함
+ */
+public final class RequestDeadline {
+    public static final String HEADER = "X-Request-Timeout-Ms";
+    public static final String ATTRIBUTE = RequestDeadline.class.getName();
+    public static final Class<RequestDeadline> CONTEXT_KEY = RequestDeadline.class;
+
+    private final long deadlineNanos;
+
+    private RequestDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    public static RequestDeadline after(Duration timeout) {
+        return new RequestDeadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * 현재 요청의 기한 (필터를 거치지 않았거나 기한이 없는 엔드포인트면 null - 배치 디스패치 등)
+     */
+    public static RequestDeadline current(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, null);
+    }
+
+    /**
+     * 둘 중 늦은 기한 (한쪽이라도 null(기한 없음)이면 null) - 여러 요청을 묶은 호출에 적용
+     */
+    public static RequestDeadline latest(RequestDeadline a, RequestDeadline b) {
+        if (a == null || b == null) {
+            return null;
+        }
+        return a.deadlineNanos - b.deadlineNanos >= 0 ? a : b;
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+    }
+
+    /**
+     * upstream 헤더 값 (밀리초 내림, 최소 0)
+     */
+    public long remainingMillis() {
+        return remaining().toMillis();
+    }
+
+    /**
+     * 기한 안에 값이 나오지 않으면 구독을 취소하고 DEADLINE_EXCEEDED (이미 지났으면 구독하지 않음)
+     */
+    public static <T> Mono<T> bound(Mono<T> source) {
+        return Mono.deferContextual(context -> {
+            RequestDeadline deadline = current(context);
+            if (deadline == null) {
+                return source;
+            }
+            if (deadline.isExpired()) {
+                return Mono.error(exceeded());
+            }
+            return source.timeout(deadline.remaining(), Mono.error(RequestDeadline::exceeded));
+        });
+    }
+
+    /**
+     * 스트림 전체를 기한 안으로 제한 - 조각마다 타이머를 기한까지 남은 시간으로 다시 맞춤
+     */
+    public static <T> Flux<T> bound(Flux<T> source) {
+        return Flux.deferContextual(context -> {
+            RequestDeadline deadline = current(context);
+            if (deadline == null) {
+                return source;
+            }
+            if (deadline.isExpired()) {
+                return Flux.error(exceeded());
+            }
+            return source.timeout(Mono.delay(deadline.remaining()),
+                    item -> Mono.delay(deadline.remaining()),
+                    Flux.error(RequestDeadline::exceeded));
+        });
+    }
+
+    public static BusinessException exceeded() {
+        return new BusinessException(ErrorCode.DEADLINE_EXCEEDED);
+    }
+}
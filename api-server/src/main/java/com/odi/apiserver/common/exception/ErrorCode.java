@@ -22,7 +22,11 @@ public enum ErrorCode {
     MESSAGE_TOO_LONG(400, "메시지가 너무 깁니다."),
     INVALID_TOKEN_COUNT(400, "토큰 수가 올바르지 않습니다."),
     EXTERNAL_API_TIMEOUT(504, "외부 API 응답 시간이 초과되었습니다."),
-    EXTERNAL_API_ERROR(502, "외부 API 오류가 발생했습니다.");
+    DEADLINE_EXCEEDED(504, "요청 처리 기한이 지났습니다."),
+    EXTERNAL_API_ERROR(502, "외부 API 오류가 발생했습니다."),
+    EXTERNAL_API_OVERLOADED(503, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    RATE_LIMIT_EXCEEDED(429, "요청 토큰 한도를 초과했습니다. 잠시 후 다시 시도해주세요."),
+    CONVERSATION_NOT_FOUND(404, "대화 세션이 없거나 만료되었습니다. 새 대화를 시작해주세요.");
 
     private final int httpStatus;
     private final String message;
@@ -1,17 +1,21 @@
 package com.odi.apiserver.common.exception;
 
+import com.odi.apiserver.common.id.RequestIdFilter;
+import com.odi.apiserver.common.logging.AccessLogRecord;
 import com.odi.apiserver.common.response.ApiResponse;
 import com.odi.apiserver.common.response.ErrorInfo;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.bind.support.WebExchangeBindException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -23,11 +27,12 @@ import java.util.stream.Collectors;
 public class GlobalExceptionHandler {
 
     /**
-     * Validation 에러 처리
+     * Validation 에러 처리 (WebFlux에서는 @Valid 실패 시 WebExchangeBindException 발생)
      */
-    @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<ApiResponse<Object>>  handleValidationException(MethodArgumentNotValidException ex) {
-        log.warn("Validation error occurred", ex);
+    @ExceptionHandler(WebExchangeBindException.class)
+    public Mono<ResponseEntity<ApiResponse<Object>>> handleWebExchangeBindException(WebExchangeBindException ex, ServerWebExchange exchange) {
+        log.warn("Validation error occurred: {}", ex.getMessage());
+        recordErrorCode(exchange, "VALIDATION_FAILED");
 
         List<ErrorInfo.FieldError> fieldErrors = ex.getBindingResult()
                 .getFieldErrors()
@@ -46,54 +51,38 @@ public class GlobalExceptionHandler {
                 .timestamp(java.time.LocalDateTime.now().toString())
                 .build();
 
-        ApiResponse<Object> response = ApiResponse.failure(400, "잘못된 요청입니다.", errorInfo);
-//        return Mono.just(ResponseEntity.badRequest().body(response)); MVC인데 예외 핸들러 반환을 Mono<>로 작성
-        return ResponseEntity.badRequest().body(response);
+        ApiResponse<Object> response = ApiResponse.failure(400, "잘못된 요청입니다.", errorInfo,
+                RequestIdFilter.requestId(exchange));
+        return Mono.just(ResponseEntity.badRequest().body(response));
     }
 
-
     /**
-     * 🎯 Reactive에서는 WebExchangeBindException을 처리해야 함!
+     * 요청 본문 파싱 실패 등 입력 에러 처리
      */
-    @ExceptionHandler(WebExchangeBindException.class)
-    public ResponseEntity<ApiResponse<Object>> handleWebExchangeBindException(WebExchangeBindException ex) {
-        log.error("🚨 WebExchangeBindException occurred (Reactive Validation Error)", ex);
-
-        List<ErrorInfo.FieldError> fieldErrors = ex.getBindingResult()
-                .getFieldErrors()
-                .stream()
-                .map(error -> {
-                    log.error("❌ Field error: field='{}', rejectedValue='{}', message='{}'",
-                            error.getField(), error.getRejectedValue(), error.getDefaultMessage());
-
-                    return ErrorInfo.FieldError.builder()
-                            .field(error.getField())
-                            .rejectedValue(error.getRejectedValue())
-                            .message(error.getDefaultMessage())
-                            .build();
-                })
-                .collect(Collectors.toList());
+    @ExceptionHandler(ServerWebInputException.class)
+    public Mono<ResponseEntity<ApiResponse<Object>>> handleServerWebInputException(ServerWebInputException ex, ServerWebExchange exchange) {
+        log.warn("Invalid request input: {}", ex.getReason());
+        recordErrorCode(exchange, ErrorCode.INVALID_REQUEST.name());
 
         ErrorInfo errorInfo = ErrorInfo.builder()
-                .errorCode("VALIDATION_FAILED")
-                .errorMessage("입력값 검증에 실패했습니다.")
-                .fieldErrors(fieldErrors)
+                .errorCode(ErrorCode.INVALID_REQUEST.name())
+                .errorMessage(ErrorCode.INVALID_REQUEST.getMessage())
                 .timestamp(java.time.LocalDateTime.now().toString())
                 .build();
 
-        ApiResponse<Object> response = ApiResponse.failure(400, "잘못된 요청입니다.", errorInfo);
-
-        log.info("📤 Returning validation error response: {}", response);
-
-        return ResponseEntity.badRequest().body(response);
+        ApiResponse<Object> response = ApiResponse.failure(400, "잘못된 요청입니다.", errorInfo,
+                RequestIdFilter.requestId(exchange));
+        return Mono.just(ResponseEntity.badRequest().body(response));
     }
 
     /**
      * 비즈니스 예외 처리
      */
     @ExceptionHandler(BusinessException.class)
-    public ResponseEntity<ApiResponse<Object>> handleBusinessException(BusinessException ex) {
-        log.warn("Business error occurred: {}", ex.getMessage());
+    public Mono<ResponseEntity<ApiResponse<Object>>> handleBusinessException(BusinessException ex, ServerWebExchange exchange) {
+        // 과부하/타임아웃 등은 부하 상황에서 대량 발생하므로 접근 로그(errorCode)로만 남김
+        log.debug("Business error occurred: {}", ex.getMessage());
+        recordErrorCode(exchange, ex.getErrorCode().name());
 
         ErrorInfo errorInfo = ErrorInfo.builder()
                 .errorCode(ex.getErrorCode().name())
@@ -104,18 +93,31 @@ public class GlobalExceptionHandler {
         ApiResponse<Object> response = ApiResponse.failure(
                 ex.getErrorCode().getHttpStatus(),
                 ex.getMessage(),
-                errorInfo
+                errorInfo,
+                RequestIdFilter.requestId(exchange)
         );
 
-        return ResponseEntity.status(ex.getErrorCode().getHttpStatus()).body(response);
+        return Mono.just(ResponseEntity.status(ex.getErrorCode().getHttpStatus()).body(response));
+    }
+
+    /**
+     * 토큰 한도 초과 - 비즈니스 예외 응답에 Retry-After 헤더 추가
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public Mono<ResponseEntity<ApiResponse<Object>>> handleRateLimitExceededException(RateLimitExceededException ex, ServerWebExchange exchange) {
+        return handleBusinessException(ex, exchange)
+                .map(entity -> ResponseEntity.status(entity.getStatusCode())
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.retryAfterSeconds()))
+                        .body(entity.getBody()));
     }
 
     /**
      * 외부 API 에러 처리
      */
     @ExceptionHandler(WebClientResponseException.class)
-    public ResponseEntity<ApiResponse<Object>> handleWebClientException(WebClientResponseException ex) {
+    public Mono<ResponseEntity<ApiResponse<Object>>> handleWebClientException(WebClientResponseException ex, ServerWebExchange exchange) {
         log.error("External API error occurred", ex);
+        recordErrorCode(exchange, "EXTERNAL_API_ERROR");
 
         ErrorInfo errorInfo = ErrorInfo.builder()
                 .errorCode("EXTERNAL_API_ERROR")
@@ -123,16 +125,18 @@ public class GlobalExceptionHandler {
                 .timestamp(java.time.LocalDateTime.now().toString())
                 .build();
 
-        ApiResponse<Object> response = ApiResponse.failure(502, "외부 서비스 오류", errorInfo);
-        return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(response);
+        ApiResponse<Object> response = ApiResponse.failure(502, "외부 서비스 오류", errorInfo,
+                RequestIdFilter.requestId(exchange));
+        return Mono.just(ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(response));
     }
 
     /**
      * 일반 예외 처리
      */
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ApiResponse<Object>> handleGeneralException(Exception ex) {
+    public Mono<ResponseEntity<ApiResponse<Object>>> handleGeneralException(Exception ex, ServerWebExchange exchange) {
         log.error("Unexpected error occurred", ex);
+        recordErrorCode(exchange, "INTERNAL_SERVER_ERROR");
 
         ErrorInfo errorInfo = ErrorInfo.builder()
                 .errorCode("INTERNAL_SERVER_ERROR")
@@ -140,7 +144,15 @@ public class GlobalExceptionHandler {
                 .timestamp(java.time.LocalDateTime.now().toString())
                 .build();
 
-        ApiResponse<Object> response = ApiResponse.failure(500, "서버 오류", errorInfo);
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        ApiResponse<Object> response = ApiResponse.failure(500, "서버 오류", errorInfo,
+                RequestIdFilter.requestId(exchange));
+        return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response));
+    }
+
+    private void recordErrorCode(ServerWebExchange exchange, String errorCode) {
+        AccessLogRecord record = exchange.getAttribute(AccessLogRecord.ATTRIBUTE);
+        if (record != null) {
+            record.errorCode(errorCode);
+        }
     }
 }
@@ -0,0 +1,25 @@
+package com.odi.apiserver.common.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 토큰 한도 초과 - GlobalExceptionHandler가 429 + Retry-After 헤더로 응답
+ */
+@Getter
+public class RateLimitExceededException extends BusinessException {
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(Duration retryAfter) {
+        super(ErrorCode.RATE_LIMIT_EXCEEDED);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Retry-After 헤더 값 (초 단위 올림, 최소 1초)
+     */
+    public long retryAfterSeconds() {
+        return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    }
+}
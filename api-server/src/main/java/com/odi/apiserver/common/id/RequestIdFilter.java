@@ -0,0 +1,62 @@
+package com.odi.apiserver.common.id;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.util.regex.Pattern;
+
+/**
+ * 요청마다 ID를 정해 exchange 속성, Reactor Context, 응답 헤더(X-Request-Id)에 싣는 필터
+ * - ID는 항상 새로 발급 (외부에서 보낸 값을 쓰면 다른 요청과 같은 ID를 만들어 로그/캐시 추적을 섞을 수 있음)
+ * - 클라이언트/게이트웨이가 보낸 X-Request-Id는 별도 속성으로 남겨 접근 로그에서 대조 (형식이 맞는 값만)
+ * - 같은 ID가 ChatMessage.requestId, ApiResponse.traceId, ai-server 호출 헤더로 전달됨
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdFilter implements WebFilter {
+    public static final String HEADER = "X-Request-Id";
+    public static final String ATTRIBUTE = RequestIdFilter.class.getName() + ".requestId";
+    public static final String CONTEXT_KEY = "odi.requestId";
+    public static final String INBOUND_ATTRIBUTE = RequestIdFilter.class.getName() + ".inboundRequestId";
+
+    // 로그에 그대로 남겨도 안전한 형식 (UUID, 게이트웨이 trace ID 등)
+    private static final Pattern INBOUND_FORMAT = Pattern.compile("[A-Za-z0-9._:-]{1,64}");
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String inbound = exchange.getRequest().getHeaders().getFirst(HEADER);
+        if (inbound != null && INBOUND_FORMAT.matcher(inbound).matches()) {
+            exchange.getAttributes().put(INBOUND_ATTRIBUTE, inbound);
+        }
+        String requestId = RequestIdGenerator.nextId();
+
+        exchange.getAttributes().put(ATTRIBUTE, requestId);
+        exchange.getResponse().getHeaders().set(HEADER, requestId);
+        return chain.filter(exchange)
+                .contextWrite(context -> context.put(CONTEXT_KEY, requestId));
+    }
+
+    /**
+     * 현재 요청 ID (필터를 거치지 않은 호출이면 null)
+     */
+    public static String requestId(ServerWebExchange exchange) {
+        return exchange.getAttribute(ATTRIBUTE);
+    }
+
+    /**
+     * 클라이언트/게이트웨이가 보낸 X-Request-Id (없거나 형식이 맞지 않으면 null)
+     */
+    public static String inboundRequestId(ServerWebExchange exchange) {
+        return exchange.getAttribute(INBOUND_ATTRIBUTE);
+    }
+
+    public static String requestId(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, null);
+    }
+}
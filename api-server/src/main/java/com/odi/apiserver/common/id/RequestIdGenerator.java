@@ -0,0 +1,109 @@
+package com.odi.apiserver.common.id;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청/추적 ID 생성기 (Snowflake 방식, 락 없음)
+ * - 64bit = 타임스탬프 41bit(ms, 2025-01-01 기준) + 노드 10bit + 시퀀스 12bit
+ * - 같은 ms에 4096개를 넘으면 다음 ms를 앞당겨 사용하므로 대기하지 않고, 시계가 뒤로 가도 단조 증가 유지
+ * - Crockford Base32 13자로 인코딩 (고정 길이라 문자열 정렬 = 생성 순서)
+ * - 노드 ID: 시스템 프로퍼티 odi.node-id 또는 환경 변수 ODI_NODE_ID (0~1023), 없으면 호스트명+PID 해시
+ */
+public final class RequestIdGenerator {
+    public static final int LENGTH = 13;
+
+    private static final long EPOCH_MILLIS = 1_735_689_600_000L; // 2025-01-01T00:00:00Z
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int[] DECODE = decodeTable();
+    // 65bit(13자 x 5bit)에 64bit 값을 담으므로 첫 글자는 최상위 4bit, 부호 bit는 항상 0이라 0~7
+    private static final int MAX_FIRST_DIGIT = (int) (Long.MAX_VALUE >>> 60);
+    // 다른 노드와의 시계 차이, 시퀀스 소진으로 앞당긴 ms를 감안한 허용 범위
+    private static final long MAX_CLOCK_AHEAD_MILLIS = 60_000L;
+
+    private static final long NODE_ID = resolveNodeId();
+    // (타임스탬프 << SEQUENCE_BITS) | 시퀀스 - 하나의 long에 묶어 CAS 한 번으로 갱신
+    private static final AtomicLong STATE = new AtomicLong();
+
+    private RequestIdGenerator() {
+    }
+
+    public static String nextId() {
+        return encode(nextLong());
+    }
+
+    public static long nextLong() {
+        long now = System.currentTimeMillis() - EPOCH_MILLIS;
+        long next = STATE.updateAndGet(last -> Math.max(now << SEQUENCE_BITS, last + 1));
+        long timestamp = next >>> SEQUENCE_BITS;
+        long sequence = next & SEQUENCE_MASK;
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (NODE_ID << SEQUENCE_BITS) | sequence;
+    }
+
+    /**
+     * ID가 이 생성기 형식인지 확인
+     * - Crockford Base32 대문자 13자, 첫 글자는 0~7
+     * - 타임스탬프가 현재 시각(+허용 범위)보다 미래면 생성될 수 없는 값이므로 거절 (현재는 첫 글자 0~3만 통과)
+     */
+    public static boolean isValid(String id) {
+        if (id == null || id.length() != LENGTH) {
+            return false;
+        }
+        long value = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            char c = id.charAt(i);
+            int digit = c < DECODE.length ? DECODE[c] : -1;
+            if (digit < 0 || (i == 0 && digit > MAX_FIRST_DIGIT)) {
+                return false;
+            }
+            value = value << 5 | digit;
+        }
+        long timestamp = value >>> (NODE_BITS + SEQUENCE_BITS);
+        return timestamp <= System.currentTimeMillis() - EPOCH_MILLIS + MAX_CLOCK_AHEAD_MILLIS;
+    }
+
+    static String encode(long value) {
+        char[] chars = new char[LENGTH];
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (value & 0x1F)];
+            value >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    private static int[] decodeTable() {
+        int[] table = new int['Z' + 1];
+        Arrays.fill(table, -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            table[ALPHABET[i]] = i;
+        }
+        return table;
+    }
+
+    static long nodeId() {
+        return NODE_ID;
+    }
+
+    private static long resolveNodeId() {
+        String configured = System.getProperty("odi.node-id", System.getenv("ODI_NODE_ID"));
+        if (configured != null && !configured.isBlank()) {
+            long nodeId = Long.parseLong(configured.trim());
+            if (nodeId < 0 || nodeId > MAX_NODE) {
+                throw new IllegalStateException("odi.node-id는 0~" + MAX_NODE + " 범위여야 합니다: " + nodeId);
+            }
+            return nodeId;
+        }
+        try {
+            String host = InetAddress.getLocalHost().getHostName();
+            return (host + ":" + ManagementFactory.getRuntimeMXBean().getPid()).hashCode() & MAX_NODE;
+        } catch (Exception e) {
+            return ManagementFactory.getRuntimeMXBean().getPid() & MAX_NODE;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.odi.apiserver.common.id;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * 대화 세션 ID 생성기
+ * - 세션 ID를 알면 남의 대화 맥락을 이어 쓸 수 있으므로 시간순 RequestIdGenerator 대신 128bit 난수 사용
+ * - URL-safe Base64 22자 (패딩 없음)
+ */
+public final class SessionIdGenerator {
+    public static final int LENGTH = 22;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private SessionIdGenerator() {
+    }
+
+    public static String nextId() {
+        byte[] bytes = new byte[16];
+        RANDOM.nextBytes(bytes);
+        return ENCODER.encodeToString(bytes);
+    }
+}
@@ -0,0 +1,50 @@
+package com.odi.apiserver.common.logging;
+
+import com.odi.apiserver.common.id.RequestIdFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * 요청마다 AccessLogRecord를 만들어 exchange 속성과 Reactor Context에 넣고, 요청이 끝나면 한 번 기록
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class AccessLogFilter implements WebFilter {
+    // 클라이언트가 응답 전에 연결을 끊은 경우 (nginx 관례)
+    private static final int CLIENT_CLOSED_REQUEST = 499;
+
+    private final AccessLogger accessLogger;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!accessLogger.isEnabled()) {
+            return chain.filter(exchange);
+        }
+        AccessLogRecord record = new AccessLogRecord(
+                exchange.getRequest().getMethod().name(),
+                exchange.getRequest().getPath().value(),
+                System.nanoTime());
+        record.requestId(RequestIdFilter.requestId(exchange));
+        record.inboundRequestId(RequestIdFilter.inboundRequestId(exchange));
+        exchange.getAttributes().put(AccessLogRecord.ATTRIBUTE, record);
+
+        return chain.filter(exchange)
+                .contextWrite(context -> context.put(AccessLogRecord.CONTEXT_KEY, record))
+                .doFinally(signal -> {
+                    boolean cancelled = signal == SignalType.CANCEL;
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    int code = cancelled ? CLIENT_CLOSED_REQUEST : (status != null ? status.value() : 200);
+                    record.complete(code, cancelled, System.nanoTime());
+                    accessLogger.log(record);
+                });
+    }
+}
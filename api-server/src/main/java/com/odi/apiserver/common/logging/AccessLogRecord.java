@@ -0,0 +1,110 @@
+package com.odi.apiserver.common.logging;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import reactor.util.context.ContextView;
+
+/**
+ * 요청 1건의 접근 로그 레코드
+ * - AccessLogFilter가 요청마다 하나 만들고, 처리 단계들이 필드를 채운 뒤 요청 종료 시 한 번만 기록
+ * - 메시지 원문은 참조만 보관하고, 샘플링되어 실제로 기록될 때만 잘라내기/마스킹
+ * - 필드는 리액티브 신호 순서대로 한 번에 한 스레드만 기록하므로 동기화하지 않음
+ * - 컨텍스트에 레코드가 없을 때(테스트, 내부 호출)는 아무것도 기록하지 않는 공유 인스턴스를 돌려줌
+ *   (여러 스레드가 동시에 받아 쓰므로 상태를 바꾸지 않아야 함)
+ */
+@Getter
+public final class AccessLogRecord {
+    public static final String ATTRIBUTE = AccessLogRecord.class.getName();
+    public static final Class<AccessLogRecord> CONTEXT_KEY = AccessLogRecord.class;
+
+    private static final AccessLogRecord NO_OP = new AccessLogRecord("-", "-", 0L, false);
+
+    private final String method;
+    private final String path;
+    private final long startNanos;
+    @Getter(AccessLevel.NONE)
+    private final boolean recording;
+
+    private String requestId;
+    private String inboundRequestId;
+    private String message;
+    private Integer maxTokens;
+    private Boolean cacheHit;
+    private int upstreamStatus;
+    private long upstreamNanos = -1;
+    private String errorCode;
+    private int status;
+    private long durationNanos;
+    private boolean cancelled;
+
+    public AccessLogRecord(String method, String path, long startNanos) {
+        this(method, path, startNanos, true);
+    }
+
+    private AccessLogRecord(String method, String path, long startNanos, boolean recording) {
+        this.method = method;
+        this.path = path;
+        this.startNanos = startNanos;
+        this.recording = recording;
+    }
+
+    /**
+     * Reactor Context에서 현재 요청의 레코드 조회 (없으면 기록하지 않는 공유 인스턴스)
+     */
+    public static AccessLogRecord current(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, NO_OP);
+    }
+
+    public void chatRequest(String message, Integer maxTokens) {
+        if (!recording) {
+            return;
+        }
+        this.message = message;
+        this.maxTokens = maxTokens;
+    }
+
+    public void requestId(String requestId) {
+        if (!recording) {
+            return;
+        }
+        this.requestId = requestId;
+    }
+
+    public void inboundRequestId(String inboundRequestId) {
+        if (!recording) {
+            return;
+        }
+        this.inboundRequestId = inboundRequestId;
+    }
+
+    public void cacheHit(boolean cacheHit) {
+        if (!recording) {
+            return;
+        }
+        this.cacheHit = cacheHit;
+    }
+
+    public void upstream(int status, long elapsedNanos) {
+        if (!recording) {
+            return;
+        }
+        this.upstreamStatus = status;
+        this.upstreamNanos = elapsedNanos;
+    }
+
+    public void errorCode(String errorCode) {
+        if (!recording) {
+            return;
+        }
+        this.errorCode = errorCode;
+    }
+
+    void complete(int status, boolean cancelled, long endNanos) {
+        if (!recording) {
+            return;
+        }
+        this.status = status;
+        this.cancelled = cancelled;
+        this.durationNanos = endNanos - startNanos;
+    }
+}
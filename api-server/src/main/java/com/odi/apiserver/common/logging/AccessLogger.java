@@ -0,0 +1,105 @@
+package com.odi.apiserver.common.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * 요청당 한 줄의 구조화(key=value) 접근 로그 기록
+ * - 오류(4xx/5xx), 취소, 느린 요청은 항상 기록하고 정상 요청은 sample-rate 비율로만 기록
+ * - ACCESS 로거는 logback-spring.xml에서 비동기(ring buffer) appender로 연결됨
+ * - 메시지 본문은 include-payload일 때만, max-payload-chars로 자르고 이메일/전화번호를 가린 뒤 기록
+ */
+@Component
+public class AccessLogger {
+    private static final Logger ACCESS = LoggerFactory.getLogger("ACCESS");
+    private static final Pattern EMAIL = Pattern.compile("[\\w.+-]+@[\\w-]+\\.[\\w.]+");
+    private static final Pattern PHONE = Pattern.compile("\\d{2,4}-?\\d{3,4}-?\\d{4}");
+
+    private final boolean enabled;
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+    private final boolean includePayload;
+    private final int maxPayloadChars;
+
+    public AccessLogger(@Value("${access-log.enabled:true}") boolean enabled,
+                        @Value("${access-log.sample-rate:1.0}") double sampleRate,
+                        @Value("${access-log.slow-threshold:3s}") Duration slowThreshold,
+                        @Value("${access-log.include-payload:false}") boolean includePayload,
+                        @Value("${access-log.max-payload-chars:64}") int maxPayloadChars) {
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.includePayload = includePayload;
+        this.maxPayloadChars = maxPayloadChars;
+    }
+
+    public boolean isEnabled() {
+        return enabled && ACCESS.isInfoEnabled();
+    }
+
+    public void log(AccessLogRecord record) {
+        if (!shouldLog(record)) {
+            return;
+        }
+        ACCESS.info(format(record));
+    }
+
+    boolean shouldLog(AccessLogRecord record) {
+        if (record.getStatus() >= 400 || record.isCancelled() || record.getDurationNanos() >= slowThresholdNanos) {
+            return true;
+        }
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    String format(AccessLogRecord record) {
+        StringBuilder line = new StringBuilder(192)
+                .append("method=").append(record.getMethod())
+                .append(" path=").append(record.getPath())
+                .append(" status=").append(record.getStatus())
+                .append(" durationMs=").append(record.getDurationNanos() / 1_000_000);
+        if (record.getRequestId() != null) {
+            line.append(" requestId=").append(record.getRequestId());
+        }
+        if (record.getInboundRequestId() != null) {
+            line.append(" inboundRequestId=").append(record.getInboundRequestId());
+        }
+        if (record.getMaxTokens() != null) {
+            line.append(" maxTokens=").append(record.getMaxTokens());
+        }
+        if (record.getMessage() != null) {
+            line.append(" messageLength=").append(record.getMessage().length());
+            if (includePayload) {
+                line.append(" message=\"").append(redact(record.getMessage())).append('"');
+            }
+        }
+        if (record.getCacheHit() != null) {
+            line.append(" cacheHit=").append(record.getCacheHit());
+        }
+        if (record.getUpstreamNanos() >= 0) {
+            line.append(" upstreamStatus=").append(record.getUpstreamStatus())
+                    .append(" upstreamMs=").append(record.getUpstreamNanos() / 1_000_000);
+        }
+        if (record.getErrorCode() != null) {
+            line.append(" errorCode=").append(record.getErrorCode());
+        }
+        if (record.isCancelled()) {
+            line.append(" cancelled=true");
+        }
+        return line.toString();
+    }
+
+    String redact(String message) {
+        String truncated = message.length() > maxPayloadChars
+                ? message.substring(0, maxPayloadChars) + "…"
+                : message;
+        String masked = EMAIL.matcher(truncated).replaceAll("<email>");
+        masked = PHONE.matcher(masked).replaceAll("<phone>");
+        return masked.replace('"', '\'').replace('\n', ' ');
+    }
+}
@@ -0,0 +1,103 @@
+package com.odi.apiserver.common.metrics;
+
+import com.odi.apiserver.common.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 채팅 파이프라인 공통 지표
+ * - 구간별 Timer: percentile histogram 포함, outcome(success/error/cancelled)과 error_code로 태깅
+ * - 요청 토큰(max_tokens) 대비 실제 사용 토큰 Counter
+ * - 세션 대화: 턴마다 전송한 컨텍스트 추정 토큰 분포와 예산 때문에 제외된 발화 수
+ */
+@Component
+public class ChatMetrics {
+    public static final String NONE = "NONE";
+
+    private final MeterRegistry meterRegistry;
+    private final Counter requestedTokens;
+    private final Counter usedTokens;
+    private final DistributionSummary contextTokens;
+    private final Counter droppedTurns;
+
+    public ChatMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.requestedTokens = Counter.builder("chat.tokens.requested")
+                .description("요청된 최대 토큰 수 합계")
+                .baseUnit("tokens")
+                .register(meterRegistry);
+        this.usedTokens = Counter.builder("chat.tokens.used")
+                .description("ai-server가 보고한 실제 사용 토큰 수 합계")
+                .baseUnit("tokens")
+                .register(meterRegistry);
+        this.contextTokens = DistributionSummary.builder("conversation.context.tokens")
+                .description("세션 대화 턴당 전송한 프롬프트 추정 토큰 수")
+                .baseUnit("tokens")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.droppedTurns = Counter.builder("conversation.context.dropped.turns")
+                .description("토큰 예산 때문에 컨텍스트에서 제외된 과거 발화 수 합계")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 구독부터 종료 신호까지의 시간을 name Timer에 기록
+     */
+    public <T> Mono<T> timed(String name, String operation, Mono<T> source) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            return source
+                    .doOnError(failure::set)
+                    .doFinally(signal -> sample.stop(timer(name, operation, signal, failure.get())));
+        });
+    }
+
+    public void recordTokens(Integer requested, Integer used) {
+        if (requested != null) {
+            requestedTokens.increment(requested);
+        }
+        if (used != null) {
+            usedTokens.increment(used);
+        }
+    }
+
+    public void recordContext(int estimatedTokens, int dropped) {
+        contextTokens.record(estimatedTokens);
+        if (dropped > 0) {
+            droppedTurns.increment(dropped);
+        }
+    }
+
+    private Timer timer(String name, String operation, SignalType signal, Throwable failure) {
+        String outcome = switch (signal) {
+            case ON_ERROR -> "error";
+            case CANCEL -> "cancelled";
+            default -> "success";
+        };
+        return Timer.builder(name)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .tag("error_code", errorCode(failure))
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private String errorCode(Throwable failure) {
+        if (failure == null) {
+            return NONE;
+        }
+        if (failure instanceof BusinessException businessException) {
+            return businessException.getErrorCode().name();
+        }
+        // ErrorCode로 변환되기 전의 예외는 클래스명으로 구분 (태그 카디널리티는 예외 종류 수로 제한됨)
+        return failure.getClass().getSimpleName();
+    }
+}
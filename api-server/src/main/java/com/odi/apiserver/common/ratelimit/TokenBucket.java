@@ -0,0 +1,34 @@
+package com.odi.apiserver.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 토큰 버킷 (GCRA: Generic Cell Rate Algorithm)
+ * - 상태는 "이론적 도착 시각(TAT)" long 하나 - 남은 토큰 = (허용치 - (TAT - now)) / 토큰당 간격
+ * - 토큰 n개 요청: newTAT = max(TAT, now) + n * interval, newTAT - now가 버스트 허용치 이내면 통과
+ * - CAS 한 번으로 판정과 차감을 함께 처리하므로 같은 키에 동시 요청이 몰려도 블로킹 없음
+ */
+final class TokenBucket {
+    private final AtomicLong theoreticalArrivalNanos;
+
+    TokenBucket(long nowNanos) {
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * @return 0이면 통과, 양수면 거절 (그만큼 기다리면 통과 가능한 나노초)
+     */
+    long tryConsume(long nowNanos, long costNanos, long burstToleranceNanos) {
+        while (true) {
+            long tat = theoreticalArrivalNanos.get();
+            long newTat = Math.max(tat, nowNanos) + costNanos;
+            long excess = newTat - nowNanos - burstToleranceNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+}
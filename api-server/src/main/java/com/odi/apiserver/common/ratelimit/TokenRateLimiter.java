@@ -0,0 +1,122 @@
+package com.odi.apiserver.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.odi.apiserver.common.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * 클라이언트(인증된 사용자 / IP)별 토큰 가중 요청 제한
+ * - 로드밸런서 뒤에서는 trusted-proxies에 등록한 프록시가 붙인 X-Forwarded-For로 실제 클라이언트 IP를 구분
+ *   (등록하지 않으면 모든 요청이 프록시 IP 하나의 버킷을 공유)
+ * - 호출 수가 아니라 요청한 maxTokens만큼 차감 (4000 토큰 요청은 100 토큰 요청의 40배 비용)
+ * - 클라이언트가 마음대로 바꿀 수 있는 헤더 값으로는 구분하지 않음 (값을 바꿀 때마다 새 버킷을 받는 우회 방지)
+ * - 버킷 저장소는 Caffeine: 내부 분할(striped) 구조로 코어 수에 비례해 확장되고, 일정 시간 쓰이지 않은 버킷은 자동 축출
+ * - 축출은 시간 기준만 사용하고 대기 시간은 빈 버킷이 가득 찰 때까지 걸리는 시간 이상으로 맞춤
+ *   (크기 기준 축출은 빚이 남은 버킷을 지워 한도를 풀어 줄 수 있으므로 두지 않음)
+ */
+@Component
+public class TokenRateLimiter {
+    private static final String ANONYMOUS = "anonymous";
+    static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    private final boolean enabled;
+    private final long nanosPerToken;
+    private final long burstToleranceNanos;
+    private final long burstTokens;
+    private final int defaultCost;
+    private final LongSupplier nanoClock;
+    private final TrustedProxies trustedProxies;
+    private final Cache<String, TokenBucket> buckets;
+    private final Counter rejectedCounter;
+
+    @Autowired
+    public TokenRateLimiter(MeterRegistry meterRegistry,
+                            @Value("${rate-limit.enabled:true}") boolean enabled,
+                            @Value("${rate-limit.tokens-per-second:200}") double tokensPerSecond,
+                            @Value("${rate-limit.burst-tokens:8000}") long burstTokens,
+                            @Value("${rate-limit.default-cost:1024}") int defaultCost,
+                            @Value("${rate-limit.idle-timeout:10m}") Duration idleTimeout,
+                            @Value("${rate-limit.trusted-proxies:}") List<String> trustedProxies) {
+        this(meterRegistry, enabled, tokensPerSecond, burstTokens, defaultCost, idleTimeout, trustedProxies,
+                System::nanoTime);
+    }
+
+    TokenRateLimiter(MeterRegistry meterRegistry, boolean enabled, double tokensPerSecond, long burstTokens,
+                     int defaultCost, Duration idleTimeout, List<String> trustedProxies, LongSupplier nanoClock) {
+        this.enabled = enabled;
+        this.nanosPerToken = (long) (1_000_000_000L / tokensPerSecond);
+        this.burstTokens = burstTokens;
+        this.burstToleranceNanos = burstTokens * nanosPerToken;
+        this.defaultCost = defaultCost;
+        this.nanoClock = nanoClock;
+        this.trustedProxies = TrustedProxies.of(trustedProxies);
+
+        Duration refillTime = Duration.ofNanos(burstToleranceNanos);
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(idleTimeout.compareTo(refillTime) >= 0 ? idleTimeout : refillTime)
+                .build();
+
+        this.rejectedCounter = Counter.builder("rate-limit.rejected")
+                .description("토큰 한도 초과로 거절된 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("rate-limit.clients", buckets, Cache::estimatedSize)
+                .description("추적 중인 클라이언트 버킷 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청의 클라이언트 키로 토큰을 차감하고, 한도를 넘으면 RateLimitExceededException으로 실패
+     */
+    public Mono<Void> acquire(ServerWebExchange exchange, Integer maxTokens) {
+        if (!enabled) {
+            return Mono.empty();
+        }
+        return clientKey(exchange)
+                .doOnNext(clientKey -> {
+                    long waitNanos = tryAcquire(clientKey, maxTokens);
+                    if (waitNanos > 0) {
+                        rejectedCounter.increment();
+                        throw new RateLimitExceededException(Duration.ofNanos(waitNanos));
+                    }
+                })
+                .then();
+    }
+
+    /**
+     * @return 0이면 통과, 양수면 다시 시도할 수 있을 때까지의 나노초
+     */
+    public long tryAcquire(String clientKey, Integer maxTokens) {
+        long now = nanoClock.getAsLong();
+        // 버스트보다 큰 요청은 버킷 전체를 소모하는 것으로 취급 (영원히 거절되지 않도록)
+        long cost = Math.min(maxTokens != null && maxTokens > 0 ? maxTokens : defaultCost, burstTokens);
+        TokenBucket bucket = buckets.get(clientKey, key -> new TokenBucket(now));
+        return bucket.tryConsume(now, cost * nanosPerToken, burstToleranceNanos);
+    }
+
+    /**
+     * 클라이언트 식별: 인증된 사용자(Principal) > 클라이언트 IP (신뢰 프록시 뒤면 X-Forwarded-For 기준)
+     */
+    Mono<String> clientKey(ServerWebExchange exchange) {
+        return exchange.getPrincipal()
+                .map(principal -> "user:" + principal.getName())
+                .defaultIfEmpty(addressKey(trustedProxies.clientAddress(exchange.getRequest().getRemoteAddress(),
+                        exchange.getRequest().getHeaders().getFirst(FORWARDED_FOR))));
+    }
+
+    static String addressKey(InetAddress address) {
+        return address != null ? "ip:" + address.getHostAddress() : ANONYMOUS;
+    }
+}
@@ -0,0 +1,117 @@
+package com.odi.apiserver.common.ratelimit;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 신뢰하는 프록시(로드밸런서) 주소 목록과 X-Forwarded-For 해석
+ * - 항목은 IP 또는 CIDR (예: 10.0.0.0/8, 192.168.0.10)
+ * - 직접 연결한 주소가 신뢰 프록시일 때만 X-Forwarded-For를 보고, 오른쪽(가장 가까운 hop)부터
+ *   신뢰 프록시를 건너뛴 첫 주소를 클라이언트로 사용 (왼쪽은 클라이언트가 마음대로 넣을 수 있으므로)
+ * - 주소 파싱은 리터럴만 허용 (DNS 조회 없음)
+ */
+final class TrustedProxies {
+    private final List<Range> ranges;
+
+    private TrustedProxies(List<Range> ranges) {
+        this.ranges = ranges;
+    }
+
+    static TrustedProxies of(List<String> entries) {
+        List<Range> ranges = new ArrayList<>();
+        for (String entry : entries) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int slash = trimmed.indexOf('/');
+            InetAddress address = parseLiteral(slash < 0 ? trimmed : trimmed.substring(0, slash));
+            if (address == null) {
+                throw new IllegalStateException("rate-limit.trusted-proxies 항목이 올바르지 않습니다: " + trimmed);
+            }
+            int maxBits = address.getAddress().length * 8;
+            int prefix = slash < 0 ? maxBits : Integer.parseInt(trimmed.substring(slash + 1));
+            if (prefix < 0 || prefix > maxBits) {
+                throw new IllegalStateException("rate-limit.trusted-proxies 항목이 올바르지 않습니다: " + trimmed);
+            }
+            ranges.add(new Range(address.getAddress(), prefix));
+        }
+        return new TrustedProxies(List.copyOf(ranges));
+    }
+
+    boolean contains(InetAddress address) {
+        byte[] bytes = address.getAddress();
+        for (Range range : ranges) {
+            if (range.contains(bytes)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 요청을 보낸 클라이언트 주소 (직접 연결 주소가 신뢰 프록시가 아니면 그 주소 그대로, 알 수 없으면 null)
+     */
+    InetAddress clientAddress(InetSocketAddress remoteAddress, String forwardedFor) {
+        InetAddress client = remoteAddress != null ? remoteAddress.getAddress() : null;
+        if (client == null || forwardedFor == null || !contains(client)) {
+            return client;
+        }
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            InetAddress hop = parseLiteral(hops[i].trim());
+            if (hop == null) {
+                // 프록시가 넣은 값이 아님 - 마지막으로 확인한 주소까지만 신뢰
+                return client;
+            }
+            client = hop;
+            if (!contains(hop)) {
+                return hop;
+            }
+        }
+        return client;
+    }
+
+    static InetAddress parseLiteral(String value) {
+        if (value.isEmpty() || value.length() > 45) {
+            return null;
+        }
+        // IPv6는 ':'가 있어야 하고, 없으면 숫자와 '.'만 허용 (호스트 이름으로 해석되지 않도록)
+        boolean ipv6 = value.indexOf(':') >= 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            boolean allowed = ipv6 ? Character.digit(c, 16) >= 0 || c == ':' || c == '.' : c >= '0' && c <= '9' || c == '.';
+            if (!allowed) {
+                return null;
+            }
+        }
+        try {
+            return InetAddress.getByName(value);
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
+    private record Range(byte[] network, int prefix) {
+        boolean contains(byte[] address) {
+            if (address.length != network.length) {
+                return false;
+            }
+            int fullBytes = prefix / 8;
+            for (int i = 0; i < fullBytes; i++) {
+                if (address[i] != network[i]) {
+                    return false;
+                }
+            }
+            int remainingBits = prefix % 8;
+            if (remainingBits == 0) {
+                return true;
+            }
+            int mask = 0xFF << (8 - remainingBits);
+            return (address[fullBytes] & mask) == (network[fullBytes] & mask);
+        }
+    }
+}
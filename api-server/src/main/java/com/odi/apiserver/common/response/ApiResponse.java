@@ -1,6 +1,7 @@
 package com.odi.apiserver.common.response;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.odi.apiserver.common.id.RequestIdGenerator;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -37,13 +38,20 @@ public class ApiResponse<T> {
     }
 
     public static <T> ApiResponse<T> success(T data, String message) {
+        return success(data, message, generateTraceId());
+    }
+
+    /**
+     * 요청 ID를 traceId로 사용하는 성공 응답 (X-Request-Id 헤더와 동일한 값)
+     */
+    public static <T> ApiResponse<T> success(T data, String message, String traceId) {
         return ApiResponse.<T>builder()
                 .success(true)
                 .code(200)
                 .message(message)
                 .data(data)
                 .timestamp(java.time.LocalDateTime.now().toString())
-                .traceId(generateTraceId())
+                .traceId(traceId != null ? traceId : generateTraceId())
                 .build();
     }
 
@@ -62,17 +70,21 @@ public class ApiResponse<T> {
     }
 
     public static <T> ApiResponse<T> failure(int code, String message, ErrorInfo error) {
+        return failure(code, message, error, generateTraceId());
+    }
+
+    public static <T> ApiResponse<T> failure(int code, String message, ErrorInfo error, String traceId) {
         return ApiResponse.<T>builder()
                 .success(false)
                 .code(code)
                 .message(message)
                 .error(error)
                 .timestamp(java.time.LocalDateTime.now().toString())
-                .traceId(generateTraceId())
+                .traceId(traceId != null ? traceId : generateTraceId())
                 .build();
     }
 
     private static String generateTraceId() {
-        return "req_" + System.currentTimeMillis();
+        return RequestIdGenerator.nextId();
     }
 }
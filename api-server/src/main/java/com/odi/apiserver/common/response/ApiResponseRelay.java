@@ -0,0 +1,136 @@
+package com.odi.apiserver.common.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.odi.apiserver.common.exception.BusinessException;
+import com.odi.apiserver.common.exception.ErrorCode;
+import com.odi.apiserver.common.id.RequestIdGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * ApiResponse 성공 봉투를 upstream JSON 객체 본문 앞뒤에 이어 붙여 그대로 전달 (relay 모드)
+ * - {"success":true,"code":200,"message":...,"data":{추가 필드, upstream 객체 멤버...},"timestamp":...,"traceId":...}
+ * - upstream DataBuffer는 읽기 위치만 옮겨 그대로 내보내므로 본문 전체를 모으거나 복사하지 않음
+ * - 봉투 앞부분은 upstream 본문의 첫 '{'를 확인한 뒤에 내보내므로, 그 전에 난 오류는 일반 오류 응답으로 처리됨
+ */
+@Component
+@RequiredArgsConstructor
+public class ApiResponseRelay {
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param data       upstream 응답 본문 (JSON 객체)
+     * @param dataFields data 앞쪽에 끼워 넣을 필드 (첫 본문 조각이 도착한 시점에 계산)
+     */
+    public Flux<DataBuffer> success(DataBufferFactory bufferFactory, Flux<DataBuffer> data,
+                                   Supplier<Map<String, ?>> dataFields, String message, String traceId) {
+        return Flux.defer(() -> {
+            Splice splice = new Splice(bufferFactory, () -> head(dataFields.get(), message));
+            return data
+                    .concatMapIterable(splice::apply)
+                    .concatWith(Mono.fromCallable(() -> {
+                        if (!splice.opened()) {
+                            throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR, "외부 서버에서 빈 응답을 받았습니다");
+                        }
+                        return bufferFactory.wrap(tail(traceId));
+                    }));
+        });
+    }
+
+    // {"success":true,"code":200,"message":"...","data":{"processedAt":"..." (쉼표는 Splice가 판단)
+    private String head(Map<String, ?> dataFields, String message) {
+        StringBuilder head = new StringBuilder(128)
+                .append("{\"success\":true,\"code\":200,\"message\":").append(json(message))
+                .append(",\"data\":{");
+        boolean first = true;
+        for (Map.Entry<String, ?> field : dataFields.entrySet()) {
+            if (!first) {
+                head.append(',');
+            }
+            head.append(json(field.getKey())).append(':').append(json(field.getValue()));
+            first = false;
+        }
+        return head.toString();
+    }
+
+    private byte[] tail(String traceId) {
+        return (",\"timestamp\":" + json(LocalDateTime.now().toString())
+                + ",\"traceId\":" + json(traceId != null ? traceId : RequestIdGenerator.nextId()) + "}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String json(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * upstream 본문의 여는 '{'를 봉투의 "data":{ 로 바꿔 끼우는 상태 기계 (구독 하나당 하나)
+     * - '{' 앞 공백과 '{'는 버리고, 첫 멤버(또는 빈 객체의 '}') 앞에 봉투 앞부분을 내보냄
+     * - 그 뒤 조각은 손대지 않고 통과
+     */
+    private static final class Splice {
+        private static final int EXPECT_OPEN = 0;
+        private static final int EXPECT_MEMBER = 1;
+        private static final int PASS = 2;
+
+        private final DataBufferFactory bufferFactory;
+        private final Supplier<String> head;
+        private int state = EXPECT_OPEN;
+
+        private Splice(DataBufferFactory bufferFactory, Supplier<String> head) {
+            this.bufferFactory = bufferFactory;
+            this.head = head;
+        }
+
+        private boolean opened() {
+            return state == PASS;
+        }
+
+        private List<DataBuffer> apply(DataBuffer buffer) {
+            if (state == PASS) {
+                return List.of(buffer);
+            }
+            for (int i = buffer.readPosition(); i < buffer.writePosition(); i++) {
+                byte b = buffer.getByte(i);
+                if (b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                    continue;
+                }
+                if (state == EXPECT_OPEN) {
+                    if (b != '{') {
+                        DataBufferUtils.release(buffer);
+                        throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR, "외부 서버 응답이 JSON 객체가 아닙니다");
+                    }
+                    state = EXPECT_MEMBER;
+                    continue;
+                }
+                state = PASS;
+                String envelope = head.get();
+                // 추가 필드와 upstream 첫 멤버 사이에만 쉼표 (빈 객체나 추가 필드가 없으면 생략)
+                boolean comma = b != '}' && !envelope.endsWith("{");
+                buffer.readPosition(i);
+                DataBuffer prefix = bufferFactory.wrap((comma ? envelope + "," : envelope).getBytes(StandardCharsets.UTF_8));
+                return List.of(prefix, buffer);
+            }
+            // 공백/여는 괄호만 있던 조각
+            DataBufferUtils.release(buffer);
+            return List.of();
+        }
+    }
+}
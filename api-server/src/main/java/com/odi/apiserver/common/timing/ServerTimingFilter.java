@@ -0,0 +1,38 @@
+package com.odi.apiserver.common.timing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * 요청마다 ServerTimings를 만들어 Reactor Context에 싣고, 응답 커밋 직전에 Server-Timing 헤더로 기록
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class ServerTimingFilter implements WebFilter {
+    private final boolean enabled;
+
+    public ServerTimingFilter(@Value("${server-timing.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!enabled) {
+            return chain.filter(exchange);
+        }
+        ServerTimings timings = new ServerTimings(System.nanoTime());
+        exchange.getAttributes().put(ServerTimings.ATTRIBUTE, timings);
+        exchange.getResponse().beforeCommit(() -> {
+            exchange.getResponse().getHeaders().set(ServerTimings.HEADER, timings.toHeaderValue(System.nanoTime()));
+            return Mono.empty();
+        });
+        return chain.filter(exchange)
+                .contextWrite(context -> context.put(ServerTimings.CONTEXT_KEY, timings));
+    }
+}
@@ -0,0 +1,149 @@
+package com.odi.apiserver.common.timing;
+
+import reactor.util.context.ContextView;
+
+/**
+ * 요청 1건의 구간별 소요 시간 (System.nanoTime 기준)
+ * - 구간당 long 하나에 누적하고, 응답 커밋 시점에 Server-Timing 헤더 문자열을 한 번만 만듦
+ * - ai-server가 돌려준 Server-Timing은 ai- 접두어를 붙여 그대로 이어 붙임 (Python/Clova 시간 분리)
+ * - 필드는 리액티브 신호 순서대로 한 번에 한 스레드만 기록하므로 동기화하지 않음
+ * - 컨텍스트에 타이밍이 없을 때(테스트, 내부 호출)는 AccessLogRecord와 같이 아무것도 기록하지 않는 공유 인스턴스를 돌려줌
+ */
+public final class ServerTimings {
+    public static final String HEADER = "Server-Timing";
+    public static final String ATTRIBUTE = ServerTimings.class.getName();
+    public static final Class<ServerTimings> CONTEXT_KEY = ServerTimings.class;
+
+    public enum Stage {
+        VALIDATE("validate"),   // 요청 검증 + ChatMessage 생성
+        CACHE("cache"),         // 응답 캐시 조회
+        POOL("pool"),           // 커넥션 풀 획득 ~ 요청 전송 직전
+        UPSTREAM("upstream"),   // 요청 전송 ~ ai-server 응답 헤더 수신
+        MAP("map"),             // 외부 응답 -> 도메인 매핑
+        ENCODE("encode");       // 핸들러 결과 -> 응답 커밋 (JSON 인코딩)
+
+        private final String metricName;
+
+        Stage(String metricName) {
+            this.metricName = metricName;
+        }
+    }
+
+    private static final Stage[] STAGES = Stage.values();
+    private static final ServerTimings NO_OP = new ServerTimings(0L, false);
+
+    private final long startNanos;
+    private final boolean recording;
+    private final long[] durations = new long[STAGES.length];
+    private int recorded;
+    private long upstreamStartNanos;
+    private long handlerEndNanos;
+    private String upstreamTiming;
+
+    public ServerTimings(long startNanos) {
+        this(startNanos, true);
+    }
+
+    private ServerTimings(long startNanos, boolean recording) {
+        this.startNanos = startNanos;
+        this.recording = recording;
+    }
+
+    /**
+     * Reactor Context에서 현재 요청의 타이밍 조회 (없으면 기록하지 않는 공유 인스턴스)
+     */
+    public static ServerTimings current(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, NO_OP);
+    }
+
+    /**
+     * startNanos부터 지금까지를 stage에 누적 (재시도 등으로 여러 번 기록되면 합산)
+     */
+    public void record(Stage stage, long startNanos) {
+        if (!recording) {
+            return;
+        }
+        durations[stage.ordinal()] += System.nanoTime() - startNanos;
+        recorded |= 1 << stage.ordinal();
+    }
+
+    public void upstreamStarted() {
+        if (!recording) {
+            return;
+        }
+        this.upstreamStartNanos = System.nanoTime();
+    }
+
+    /**
+     * 커넥션을 얻어 요청을 보내기 직전 - 여기까지가 pool, 이후가 upstream
+     */
+    public void upstreamRequestSent() {
+        if (upstreamStartNanos != 0) {
+            record(Stage.POOL, upstreamStartNanos);
+            upstreamStartNanos = System.nanoTime();
+        }
+    }
+
+    public void upstreamResponded(String serverTiming) {
+        if (!recording) {
+            return;
+        }
+        if (upstreamStartNanos != 0) {
+            record(Stage.UPSTREAM, upstreamStartNanos);
+            upstreamStartNanos = 0;
+        }
+        this.upstreamTiming = serverTiming;
+    }
+
+    public void handlerCompleted() {
+        if (!recording) {
+            return;
+        }
+        this.handlerEndNanos = System.nanoTime();
+    }
+
+    /**
+     * 예) total;dur=12.345, validate;dur=0.021, upstream;dur=11.902, ai-app;dur=11.5, ai-clova;dur=11.2
+     */
+    public String toHeaderValue(long nowNanos) {
+        if (handlerEndNanos != 0) {
+            record(Stage.ENCODE, handlerEndNanos);
+            handlerEndNanos = 0;
+        }
+        StringBuilder header = new StringBuilder(160).append("total;dur=");
+        appendMillis(header, nowNanos - startNanos);
+        for (Stage stage : STAGES) {
+            if ((recorded & (1 << stage.ordinal())) != 0) {
+                header.append(", ").append(stage.metricName).append(";dur=");
+                appendMillis(header, durations[stage.ordinal()]);
+            }
+        }
+        if (upstreamTiming != null) {
+            for (String metric : upstreamTiming.split(",")) {
+                String trimmed = metric.trim();
+                if (!trimmed.isEmpty()) {
+                    header.append(", ai-").append(trimmed);
+                }
+            }
+        }
+        return header.toString();
+    }
+
+    long duration(Stage stage) {
+        return durations[stage.ordinal()];
+    }
+
+    // String.format 없이 밀리초를 소수점 3자리(마이크로초 해상도)로 기록
+    private static void appendMillis(StringBuilder builder, long nanos) {
+        long micros = Math.max(0, nanos) / 1_000;
+        long fraction = micros % 1_000;
+        builder.append(micros / 1_000).append('.');
+        if (fraction < 100) {
+            builder.append('0');
+        }
+        if (fraction < 10) {
+            builder.append('0');
+        }
+        builder.append(fraction);
+    }
+}
@@ -0,0 +1,36 @@
+package com.odi.apiserver.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Reactor Netty 서버 런타임 설정
+ * - 서블릿 스레드 없이 이벤트 루프에서 요청을 처리 (LLM 대기 중에도 스레드를 점유하지 않음)
+ * - 이벤트 루프 스레드 수를 명시적으로 지정하고, 서버와 WebClient가 같은 루프를 공유
+ */
+@Configuration
+@Slf4j
+public class NettyServerConfig {
+    @Value("${netty.event-loop-threads:0}")
+    private int eventLoopThreads;
+
+    @Bean(destroyMethod = "dispose")
+    public LoopResources loopResources() {
+        int workers = eventLoopThreads > 0
+                ? eventLoopThreads
+                : Math.max(Runtime.getRuntime().availableProcessors(), 4);
+        log.info("Reactor Netty event loop threads: {}", workers);
+
+        return LoopResources.create("odi-http", 1, workers, true);
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<NettyReactiveWebServerFactory> nettyServerCustomizer(LoopResources loopResources) {
+        return factory -> factory.addServerCustomizers(server -> server.runOn(loopResources));
+    }
+}
@@ -1,5 +1,9 @@
 package com.odi.apiserver.config;
 
+import com.odi.apiserver.common.deadline.RequestDeadline;
+import com.odi.apiserver.common.logging.AccessLogRecord;
+import com.odi.apiserver.common.timing.ServerTimings;
+import com.odi.apiserver.infrastructure.external.ai.codec.ExternalWireFormat;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
@@ -8,11 +12,16 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.web.reactive.function.client.ClientRequest;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
 
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
@@ -29,59 +38,124 @@ public class WebClientConfig {
     @Value("${webclient.write.timeout:30000}")
     private int writeTimeout;
 
+    @Value("${external.chat.pool.max-connections:100}")
+    private int maxConnections;
+
+    // 대기열에서 오래 기다리지 않도록 짧게 유지 (초과분은 AdaptiveConcurrencyLimiter가 즉시 거절)
+    @Value("${external.chat.pool.pending-acquire-timeout:5s}")
+    private Duration pendingAcquireTimeout;
+
+    @Value("${external.chat.pool.max-life-time:60s}")
+    private Duration maxLifeTime;
+
+    // disabled: HTTP/1.1 / prior-knowledge: h2c 직접 연결 / upgrade: h2c 업그레이드 시도 후 실패 시 HTTP/1.1
+    @Value("${external.chat.http2.mode:disabled}")
+    private String http2Mode;
+
+    @Value("${external.chat.http2.max-connections:4}")
+    private int http2MaxConnections;
+
+    @Value("${external.chat.http2.max-concurrent-streams:100}")
+    private long http2MaxConcurrentStreams;
+
     @Bean
-    public WebClient webClient() {
-        // Connection Pool 설정
+    public WebClient webClient(LoopResources loopResources, ExternalWireFormat wireFormat) {
+        HttpProtocol[] protocols = protocols();
+        boolean http2 = protocols[0] == HttpProtocol.H2C;
+        boolean priorKnowledge = http2 && protocols.length == 1;
+
+        // Connection Pool 설정 (h2c 직접 연결은 커넥션 하나에 여러 스트림을 다중화하므로 커넥션 수를 적게 유지)
         ConnectionProvider connectionProvider = ConnectionProvider.builder("external-api")
-                .maxConnections(100)
+                .maxConnections(priorKnowledge ? http2MaxConnections : maxConnections)
                 .maxIdleTime(Duration.ofSeconds(20))
-                .maxLifeTime(Duration.ofSeconds(60))
-                .pendingAcquireTimeout(Duration.ofSeconds(60))
+                .maxLifeTime(maxLifeTime)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
                 .evictInBackground(Duration.ofSeconds(120))
+                // reactor.netty.connection.provider.{active,idle,pending,total}.connections 게이지 (name=external-api)
+                .metrics(true)
                 .build();
 
         // HttpClient 설정
         HttpClient httpClient = HttpClient.create(connectionProvider)
+                .runOn(loopResources)
+                .protocol(protocols)
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectionTimeout)
-                .doOnConnected(conn ->
-                        conn.addHandlerLast(new ReadTimeoutHandler(readTimeout, TimeUnit.MILLISECONDS))
-                                .addHandlerLast(new WriteTimeoutHandler(writeTimeout, TimeUnit.MILLISECONDS)));
+                // 커넥션을 얻어 요청을 보내는 시점 - Server-Timing의 pool/upstream 구간 경계
+                .doOnRequest((request, connection) ->
+                        ServerTimings.current(request.currentContextView()).upstreamRequestSent());
+
+        if (http2) {
+            // 커넥션 단위 ReadTimeoutHandler는 다중화된 다른 스트림까지 끊으므로 요청 단위 응답 타임아웃 사용
+            httpClient = httpClient
+                    .http2Settings(settings -> settings.maxConcurrentStreams(http2MaxConcurrentStreams))
+                    .responseTimeout(Duration.ofMillis(readTimeout));
+            log.info("External API client uses {} (maxConnections={}, maxConcurrentStreams={})",
+                    http2Mode, http2MaxConnections, http2MaxConcurrentStreams);
+        } else {
+            httpClient = httpClient
+                    .doOnConnected(conn ->
+                            conn.addHandlerLast(new ReadTimeoutHandler(readTimeout, TimeUnit.MILLISECONDS))
+                                    .addHandlerLast(new WriteTimeoutHandler(writeTimeout, TimeUnit.MILLISECONDS)));
+        }
 
         return WebClient.builder()
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
-                .filter(logRequest())
-                .filter(logResponse())
-                .filter(errorHandler())
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(1024 * 1024)) // 1MB
+                .filter(recordUpstream())
+                .filter(propagateDeadline())
+                .codecs(configurer -> {
+                    configurer.defaultCodecs().maxInMemorySize(1024 * 1024); // 1MB
+                    // application/cbor 본문 (ExternalWireFormat 협상 결과에 따라 사용)
+                    // registerWithDefaultConfig로 등록해야 위 1MB 제한이 CBOR 디코더에도 적용됨 (register는 기본 256KB)
+                    configurer.customCodecs().registerWithDefaultConfig(new Jackson2CborEncoder(wireFormat.cborMapper()));
+                    configurer.customCodecs().registerWithDefaultConfig(new Jackson2CborDecoder(wireFormat.cborMapper()));
+                })
                 .build();
     }
 
-    private ExchangeFilterFunction logRequest() {
-        return ExchangeFilterFunction.ofRequestProcessor(clientRequest -> {
-            log.info("Request: {} {}", clientRequest.method(), clientRequest.url());
-            clientRequest.headers().forEach((name, values) ->
-                    log.debug("Request Header: {}={}", name, values));
-            return Mono.just(clientRequest);
-        });
+    private HttpProtocol[] protocols() {
+        return switch (http2Mode) {
+            case "prior-knowledge" -> new HttpProtocol[]{HttpProtocol.H2C};
+            case "upgrade" -> new HttpProtocol[]{HttpProtocol.H2C, HttpProtocol.HTTP11};
+            default -> new HttpProtocol[]{HttpProtocol.HTTP11};
+        };
     }
 
-    private ExchangeFilterFunction logResponse() {
-        return ExchangeFilterFunction.ofResponseProcessor(clientResponse -> {
-            log.info("Response Status: {}", clientResponse.statusCode());
-            return Mono.just(clientResponse);
+    /**
+     * 요청 처리 기한이 있으면 남은 시간을 X-Request-Timeout-Ms로 전달 (재시도마다 그 시점의 남은 시간)
+     * - ai-server가 클로바스튜디오 호출 timeout을 이 값 이하로 줄이고, 이미 지났으면 호출 없이 504
+     * - 합쳐진 호출(InFlightChatRequests)은 기한 없이, 배치 호출은 항목 중 가장 늦은 기한으로 보냄
+     */
+    private ExchangeFilterFunction propagateDeadline() {
+        return (request, next) -> Mono.deferContextual(context -> {
+            RequestDeadline deadline = RequestDeadline.current(context);
+            if (deadline == null) {
+                return next.exchange(request);
+            }
+            return next.exchange(ClientRequest.from(request)
+                    .header(RequestDeadline.HEADER, String.valueOf(deadline.remainingMillis()))
+                    .build());
         });
     }
 
-    private ExchangeFilterFunction errorHandler() {
-        return ExchangeFilterFunction.ofResponseProcessor(clientResponse -> {
-            if (clientResponse.statusCode().isError()) {
-                return clientResponse.bodyToMono(String.class)
-                        .flatMap(errorBody -> {
-                            log.error("Error Response: {} - {}", clientResponse.statusCode(), errorBody);
-                            return Mono.just(clientResponse);
-                        });
-            }
-            return Mono.just(clientResponse);
+    /**
+     * upstream 응답 상태와 소요 시간을 요청의 접근 로그 레코드와 Server-Timing 구간에 기록
+     * - 요청/응답마다 로그를 남기지 않고, 오류 응답만 본문을 읽지 않은 채 경고로 남김
+     */
+    private ExchangeFilterFunction recordUpstream() {
+        return (request, next) -> Mono.deferContextual(context -> {
+            AccessLogRecord record = AccessLogRecord.current(context);
+            ServerTimings timings = ServerTimings.current(context);
+            long start = System.nanoTime();
+            timings.upstreamStarted();
+            return next.exchange(request)
+                    .doOnNext(response -> {
+                        record.upstream(response.statusCode().value(), System.nanoTime() - start);
+                        timings.upstreamResponded(response.headers().asHttpHeaders().getFirst(ServerTimings.HEADER));
+                        if (response.statusCode().isError()) {
+                            log.warn("External API error response: {} {} -> {}",
+                                    request.method(), request.url().getPath(), response.statusCode().value());
+                        }
+                    });
         });
     }
 }
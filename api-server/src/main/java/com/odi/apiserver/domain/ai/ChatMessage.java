@@ -1,10 +1,10 @@
 package com.odi.apiserver.domain.ai;
 
+import com.odi.apiserver.common.id.RequestIdGenerator;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 @Getter
 @Builder
@@ -29,12 +29,19 @@ public class ChatMessage {
     private final ChatStatus status;
 
     public static ChatMessage createRequest(String message, Integer maxTokens) {
+        return createRequest(null, message, maxTokens);
+    }
+
+    /**
+     * 요청 ID를 지정해 생성 (null이면 새로 발급) - HTTP 요청의 X-Request-Id를 그대로 이어받을 때 사용
+     */
+    public static ChatMessage createRequest(String requestId, String message, Integer maxTokens) {
         // 도메인 규칙 검증
         validateMessage(message);
         validateMaxTokens(maxTokens);
 
         return ChatMessage.builder()
-                .requestId(generateRequestId())
+                .requestId(requestId != null ? requestId : RequestIdGenerator.nextId())
                 .message(message)
                 .maxTokens(maxTokens)
                 .createdAt(LocalDateTime.now())
@@ -43,11 +50,23 @@ public class ChatMessage {
     }
 
     public ChatMessage withResponse(String response) {
+        return withResponse(response, this.tokensUsed);
+    }
+
+    public ChatMessage withResponse(String response, Integer tokensUsed) {
 //        validateResponse(response);
 //        validateTokensUsed(tokensUsed);
 
         return ChatMessage.builder()
+                .requestId(this.requestId)
+                .userId(this.userId)
+                .message(this.message)
                 .response(response)
+                .maxTokens(this.maxTokens)
+                .tokensUsed(tokensUsed)
+                .createdAt(this.createdAt)
+                .processedAt(LocalDateTime.now())
+                .status(ChatStatus.COMPLETED)
                 .build();
     }
 
@@ -64,6 +83,13 @@ public class ChatMessage {
                 .build();
     }
 
+    /**
+     * 응답 전에 클라이언트가 연결을 끊어 취소된 요청 (실패로 기록)
+     */
+    public ChatMessage withCancellation() {
+        return withFailure("클라이언트가 요청을 취소했습니다.");
+    }
+
 
     public ChatMessage markAsProcessing() {
         return ChatMessage.builder()
@@ -118,10 +144,6 @@ public class ChatMessage {
         }
     }
 
-    private static String generateRequestId() {
-        return "chat_" + UUID.randomUUID().toString().replace("-", "").substring(0, 8);
-    }
-
     /**
      * 메시지가 완료되었는지 확인
      */
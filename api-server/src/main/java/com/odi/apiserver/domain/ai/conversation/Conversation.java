@@ -0,0 +1,84 @@
+package com.odi.apiserver.domain.ai.conversation;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 세션 단위 대화 상태 (불변 - 갱신 시 새 인스턴스)
+ * - 발화는 항상 사용자/어시스턴트 쌍으로 추가되며, 오래된 순으로 보관
+ * - maxTurns를 넘으면 가장 오래된 쌍부터 버려 세션당 메모리 상한 유지
+ */
+@Getter
+public final class Conversation {
+    private static final int BASE_BYTES = 96;
+
+    private final String sessionId;
+    private final List<ConversationTurn> turns;
+
+    private Conversation(String sessionId, List<ConversationTurn> turns) {
+        this.sessionId = sessionId;
+        this.turns = turns;
+    }
+
+    public static Conversation start(String sessionId) {
+        if (sessionId == null || sessionId.isBlank()) {
+            throw new IllegalArgumentException("세션 ID는 필수입니다");
+        }
+        return new Conversation(sessionId, List.of());
+    }
+
+    /**
+     * 한 턴(사용자 메시지 + 응답)을 추가한 새 대화
+     */
+    public Conversation append(ConversationTurn user, ConversationTurn assistant, int maxTurns) {
+        int keep = Math.max(0, Math.min(turns.size(), maxTurns - 2));
+        keep -= keep % 2;
+        List<ConversationTurn> next = new ArrayList<>(keep + 2);
+        next.addAll(turns.subList(turns.size() - keep, turns.size()));
+        next.add(user);
+        next.add(assistant);
+        return new Conversation(sessionId, List.copyOf(next));
+    }
+
+    /**
+     * 토큰 예산 안에서 이번 턴의 컨텍스트 구성
+     * - 이번 사용자 메시지는 항상 포함하고, 남은 예산만큼 최근 턴(쌍 단위)부터 거슬러 올라가며 채움
+     * - 중간 턴을 건너뛰지 않음 (예산을 넘는 턴을 만나면 그보다 오래된 턴은 모두 제외)
+     */
+    public ConversationContext contextFor(String message, int maxPromptTokens) {
+        ConversationTurn current = ConversationTurn.user(message);
+        int budget = maxPromptTokens - current.getEstimatedTokens();
+        int used = 0;
+        int from = turns.size();
+        while (from >= 2) {
+            int pairTokens = turns.get(from - 2).getEstimatedTokens() + turns.get(from - 1).getEstimatedTokens();
+            if (used + pairTokens > budget) {
+                break;
+            }
+            used += pairTokens;
+            from -= 2;
+        }
+
+        List<ConversationTurn> context = new ArrayList<>(turns.size() - from + 1);
+        context.addAll(turns.subList(from, turns.size()));
+        context.add(current);
+        return new ConversationContext(List.copyOf(context), used + current.getEstimatedTokens(), from);
+    }
+
+    public int turnCount() {
+        return turns.size();
+    }
+
+    /**
+     * 세션 저장소 가중치(메모리 상한) 계산용 대략치
+     */
+    public int estimatedBytes() {
+        int bytes = BASE_BYTES + sessionId.length() * 2;
+        for (ConversationTurn turn : turns) {
+            bytes += turn.estimatedBytes();
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,12 @@
+package com.odi.apiserver.domain.ai.conversation;
+
+import java.util.List;
+
+/**
+ * 이번 턴에 upstream으로 보낼 메시지 목록 (오래된 순, 마지막은 이번 사용자 메시지)
+ * @param turns           전송할 발화
+ * @param estimatedTokens 전송할 발화의 추정 토큰 합계
+ * @param droppedTurns    토큰 예산 때문에 제외된 과거 발화 수
+ */
+public record ConversationContext(List<ConversationTurn> turns, int estimatedTokens, int droppedTurns) {
+}
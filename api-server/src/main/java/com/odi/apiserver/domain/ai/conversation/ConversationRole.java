@@ -0,0 +1,17 @@
+package com.odi.apiserver.domain.ai.conversation;
+
+public enum ConversationRole {
+    USER("user"),
+    ASSISTANT("assistant");
+
+    // ai-server messages[].role 값
+    private final String value;
+
+    ConversationRole(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+}
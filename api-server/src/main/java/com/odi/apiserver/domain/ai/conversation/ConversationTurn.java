@@ -0,0 +1,35 @@
+package com.odi.apiserver.domain.ai.conversation;
+
+import lombok.Getter;
+
+/**
+ * 대화의 한 발화 (불변)
+ * - 추정 토큰 수를 생성 시 한 번만 계산해 두고, 매 턴 컨텍스트를 자를 때 재사용
+ */
+@Getter
+public final class ConversationTurn {
+    private final ConversationRole role;
+    private final String content;
+    private final int estimatedTokens;
+
+    private ConversationTurn(ConversationRole role, String content) {
+        this.role = role;
+        this.content = content;
+        this.estimatedTokens = TokenEstimator.estimateMessage(content);
+    }
+
+    public static ConversationTurn user(String content) {
+        return new ConversationTurn(ConversationRole.USER, content);
+    }
+
+    public static ConversationTurn assistant(String content) {
+        return new ConversationTurn(ConversationRole.ASSISTANT, content);
+    }
+
+    /**
+     * 메모리 사용량 대략치 (문자열은 UTF-16 기준으로 보수적으로 계산)
+     */
+    public int estimatedBytes() {
+        return 48 + content.length() * 2;
+    }
+}
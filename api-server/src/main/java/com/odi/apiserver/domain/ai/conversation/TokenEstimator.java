@@ -0,0 +1,34 @@
+package com.odi.apiserver.domain.ai.conversation;
+
+/**
+ * 토크나이저 없이 프롬프트 토큰 수를 보수적으로 추정
+ * - ASCII(영문/숫자/공백)는 4자당 1토큰, 한글 등 그 외 문자는 1자당 1토큰으로 계산해 실제보다 크게 잡음
+ * - 메시지마다 role 구분자 등 고정 오버헤드를 더함
+ */
+public final class TokenEstimator {
+    static final int MESSAGE_OVERHEAD_TOKENS = 4;
+
+    private TokenEstimator() {
+    }
+
+    public static int estimate(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int ascii = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                ascii++;
+            } else if (!Character.isLowSurrogate(c)) {
+                other++;
+            }
+        }
+        return (ascii + 3) / 4 + other;
+    }
+
+    public static int estimateMessage(String content) {
+        return estimate(content) + MESSAGE_OVERHEAD_TOKENS;
+    }
+}
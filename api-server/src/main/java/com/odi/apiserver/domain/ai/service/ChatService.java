@@ -12,6 +12,7 @@ public class ChatService {
         validateTokens(command.getMaxTokens());
 
         return ChatMessage.createRequest(
+                command.getRequestId(),
                 command.getMessage(),
                 command.getMaxTokens()
         );
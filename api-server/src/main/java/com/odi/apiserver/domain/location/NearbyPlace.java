@@ -0,0 +1,19 @@
+package com.odi.apiserver.domain.location;
+
+import com.odi.apiserver.domain.location.entity.PlaceCategory;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 주변 장소 검색 결과 (기준 좌표로부터의 거리 포함)
+ */
+@Getter
+@Builder
+public class NearbyPlace {
+    private final long placeId;
+    private final String name;
+    private final PlaceCategory category;
+    private final double latitude;
+    private final double longitude;
+    private final double distanceMeters;
+}
@@ -0,0 +1,39 @@
+package com.odi.apiserver.domain.location.entity;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class Place {
+    private final long id;
+    private final String name;
+    private final PlaceCategory category;
+    private final double latitude;
+    private final double longitude;
+
+    public static Place of(long id, String name, PlaceCategory category, double latitude, double longitude) {
+        // 도메인 규칙 검증
+        validateCoordinates(latitude, longitude);
+        if (category == null) {
+            throw new IllegalArgumentException("장소 카테고리는 필수입니다");
+        }
+
+        return Place.builder()
+                .id(id)
+                .name(name)
+                .category(category)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
+
+    public static void validateCoordinates(double latitude, double longitude) {
+        if (!(latitude >= -90.0 && latitude <= 90.0)) {
+            throw new IllegalArgumentException("위도는 -90 ~ 90 사이여야 합니다");
+        }
+        if (!(longitude >= -180.0 && longitude <= 180.0)) {
+            throw new IllegalArgumentException("경도는 -180 ~ 180 사이여야 합니다");
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.odi.apiserver.domain.location.entity;
+
+import java.util.Collection;
+
+public enum PlaceCategory {
+    CAFE("카페"),
+    RESTAURANT("음식점"),
+    BAR("술집"),
+    PARK("공원"),
+    CULTURE("문화시설"),
+    SHOPPING("쇼핑"),
+    ACCOMMODATION("숙박"),
+    TOURIST_ATTRACTION("관광명소"),
+    ETC("기타");
+
+    // 카테고리 필터 비트마스크 - 모든 카테고리 허용
+    public static final long ALL = -1L;
+
+    private final String description;
+
+    PlaceCategory(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public long bit() {
+        return 1L << ordinal();
+    }
+
+    /**
+     * 카테고리 목록을 필터 비트마스크로 변환 (비어 있으면 전체)
+     */
+    public static long mask(Collection<PlaceCategory> categories) {
+        if (categories == null || categories.isEmpty()) {
+            return ALL;
+        }
+        long mask = 0L;
+        for (PlaceCategory category : categories) {
+            mask |= category.bit();
+        }
+        return mask;
+    }
+}
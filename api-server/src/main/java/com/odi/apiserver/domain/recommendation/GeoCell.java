@@ -0,0 +1,50 @@
+package com.odi.apiserver.domain.recommendation;
+
+/**
+ * 지오해시 셀 - 가까운 사용자들이 같은 추천 결과를 공유하도록 좌표를 셀 단위로 묶음
+ * - 정밀도 6 ≈ 1.2km x 0.6km, 5 ≈ 4.9km x 4.9km
+ * @param hash      지오해시 문자열
+ * @param latitude  셀 중심 위도
+ * @param longitude 셀 중심 경도
+ */
+public record GeoCell(String hash, double latitude, double longitude) {
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    public static GeoCell of(double latitude, double longitude, int precision) {
+        if (precision < 1 || precision > 12) {
+            throw new IllegalArgumentException("지오해시 정밀도는 1 ~ 12 사이여야 합니다");
+        }
+        double minLat = -90.0;
+        double maxLat = 90.0;
+        double minLon = -180.0;
+        double maxLon = 180.0;
+        char[] hash = new char[precision];
+        boolean evenBit = true;
+        for (int i = 0; i < precision; i++) {
+            int value = 0;
+            for (int bit = 0; bit < 5; bit++) {
+                value <<= 1;
+                if (evenBit) {
+                    double mid = (minLon + maxLon) / 2;
+                    if (longitude >= mid) {
+                        value |= 1;
+                        minLon = mid;
+                    } else {
+                        maxLon = mid;
+                    }
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (latitude >= mid) {
+                        value |= 1;
+                        minLat = mid;
+                    } else {
+                        maxLat = mid;
+                    }
+                }
+                evenBit = !evenBit;
+            }
+            hash[i] = BASE32[value];
+        }
+        return new GeoCell(new String(hash), (minLat + maxLat) / 2, (minLon + maxLon) / 2);
+    }
+}
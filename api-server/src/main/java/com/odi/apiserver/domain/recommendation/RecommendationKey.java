@@ -0,0 +1,16 @@
+package com.odi.apiserver.domain.recommendation;
+
+import com.odi.apiserver.domain.recommendation.entity.TimeOfDay;
+import com.odi.apiserver.domain.recommendation.entity.WeatherCondition;
+
+/**
+ * 추천 결과 공유 단위 - 같은 셀, 같은 날씨, 같은 시간대의 사용자는 같은 추천을 받음
+ */
+public record RecommendationKey(GeoCell cell, WeatherCondition weather, TimeOfDay timeOfDay) {
+    /**
+     * 메모리 사용량 대략치 (캐시 가중치 계산용)
+     */
+    public int estimatedBytes() {
+        return 64 + cell.hash().length() * 2;
+    }
+}
@@ -0,0 +1,37 @@
+package com.odi.apiserver.domain.recommendation.entity;
+
+import com.odi.apiserver.domain.location.NearbyPlace;
+import com.odi.apiserver.domain.recommendation.RecommendationKey;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 셀/날씨/시간대 단위로 미리 계산해 공유하는 추천 결과 (불변)
+ * - places의 거리는 셀 중심 기준
+ */
+@Getter
+@Builder
+public class Recommendation {
+    private static final int PLACE_BYTES = 160;
+
+    private final RecommendationKey key;
+    private final List<NearbyPlace> places;
+    // LLM이 생성한 한 줄 추천 멘트 (생성하지 않았거나 실패하면 null)
+    private final String message;
+    private final LocalDateTime generatedAt;
+
+    public boolean hasMessage() {
+        return message != null && !message.isBlank();
+    }
+
+    /**
+     * 메모리 사용량 대략치 (캐시 가중치 계산용)
+     */
+    public int estimatedBytes() {
+        int bytes = 96 + key.estimatedBytes() + places.size() * PLACE_BYTES;
+        return message != null ? bytes + message.length() * 2 : bytes;
+    }
+}
@@ -0,0 +1,41 @@
+package com.odi.apiserver.domain.recommendation.entity;
+
+import java.time.LocalTime;
+
+/**
+ * 추천용 시간대 구간 (ai-server 인사말 프롬프트의 시간대 기준과 동일)
+ */
+public enum TimeOfDay {
+    MORNING("아침"),     // 05:00 ~ 11:59
+    LUNCH("점심"),       // 12:00 ~ 13:59
+    AFTERNOON("오후"),   // 14:00 ~ 17:59
+    EVENING("저녁"),     // 18:00 ~ 21:59
+    NIGHT("밤");         // 22:00 ~ 04:59
+
+    private final String description;
+
+    TimeOfDay(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public static TimeOfDay of(LocalTime time) {
+        int hour = time.getHour();
+        if (hour >= 5 && hour < 12) {
+            return MORNING;
+        }
+        if (hour >= 12 && hour < 14) {
+            return LUNCH;
+        }
+        if (hour >= 14 && hour < 18) {
+            return AFTERNOON;
+        }
+        if (hour >= 18 && hour < 22) {
+            return EVENING;
+        }
+        return NIGHT;
+    }
+}
@@ -0,0 +1,28 @@
+package com.odi.apiserver.domain.recommendation.entity;
+
+public enum WeatherCondition {
+    CLEAR("맑음", true),
+    CLOUDY("흐림", true),
+    RAIN("비", false),
+    SNOW("눈", false),
+    HEAT("폭염", false),
+    COLD("한파", false),
+    DUST("미세먼지", false);
+
+    private final String description;
+    // 야외 활동에 무리가 없는 날씨인지
+    private final boolean outdoorFriendly;
+
+    WeatherCondition(String description, boolean outdoorFriendly) {
+        this.description = description;
+        this.outdoorFriendly = outdoorFriendly;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean isOutdoorFriendly() {
+        return outdoorFriendly;
+    }
+}
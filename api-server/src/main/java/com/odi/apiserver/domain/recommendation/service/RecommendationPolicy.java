@@ -0,0 +1,38 @@
+package com.odi.apiserver.domain.recommendation.service;
+
+import com.odi.apiserver.domain.location.entity.PlaceCategory;
+import com.odi.apiserver.domain.recommendation.entity.TimeOfDay;
+import com.odi.apiserver.domain.recommendation.entity.WeatherCondition;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 날씨/시간대별 추천 카테고리 규칙
+ */
+@Service
+public class RecommendationPolicy {
+    private static final Set<PlaceCategory> INDOOR = EnumSet.of(
+            PlaceCategory.CAFE, PlaceCategory.RESTAURANT, PlaceCategory.CULTURE, PlaceCategory.SHOPPING);
+
+    public Set<PlaceCategory> categoriesFor(WeatherCondition weather, TimeOfDay timeOfDay) {
+        Set<PlaceCategory> categories = switch (timeOfDay) {
+            case MORNING -> EnumSet.of(PlaceCategory.CAFE, PlaceCategory.PARK);
+            case LUNCH -> EnumSet.of(PlaceCategory.RESTAURANT, PlaceCategory.CAFE);
+            case AFTERNOON -> EnumSet.of(PlaceCategory.CAFE, PlaceCategory.PARK, PlaceCategory.CULTURE,
+                    PlaceCategory.SHOPPING, PlaceCategory.TOURIST_ATTRACTION);
+            case EVENING -> EnumSet.of(PlaceCategory.RESTAURANT, PlaceCategory.BAR, PlaceCategory.CULTURE);
+            case NIGHT -> EnumSet.of(PlaceCategory.BAR, PlaceCategory.RESTAURANT);
+        };
+
+        // 야외 활동이 어려운 날씨면 실내 카테고리만 (남는 게 없으면 실내 전체)
+        if (!weather.isOutdoorFriendly()) {
+            categories.retainAll(INDOOR);
+            if (categories.isEmpty()) {
+                categories.addAll(INDOOR);
+            }
+        }
+        return categories;
+    }
+}
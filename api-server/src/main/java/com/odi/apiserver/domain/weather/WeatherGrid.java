@@ -0,0 +1,35 @@
+package com.odi.apiserver.domain.weather;
+
+import com.odi.apiserver.domain.recommendation.entity.WeatherCondition;
+import lombok.Getter;
+
+/**
+ * 한 번에 발표된 예보 격자 (열 단위 primitive 배열)
+ * - 셀마다 객체를 만들지 않고 항목별 배열 하나씩 보관 (스냅샷 파일 레이아웃과 동일)
+ */
+@Getter
+public class WeatherGrid {
+    // 발표 시각 (epoch ms) - 스냅샷 버전으로 사용
+    private final long version;
+    private final WeatherGridSpec spec;
+    private final float[] temperatures;
+    private final float[] precipitations;
+    private final byte[] conditions;
+
+    public WeatherGrid(long version, WeatherGridSpec spec, float[] temperatures, float[] precipitations,
+                       byte[] conditions) {
+        int cells = spec.cellCount();
+        if (temperatures.length != cells || precipitations.length != cells || conditions.length != cells) {
+            throw new IllegalArgumentException("격자 크기와 값 배열 길이가 다릅니다");
+        }
+        this.version = version;
+        this.spec = spec;
+        this.temperatures = temperatures;
+        this.precipitations = precipitations;
+        this.conditions = conditions;
+    }
+
+    public static byte encode(WeatherCondition condition) {
+        return (byte) condition.ordinal();
+    }
+}
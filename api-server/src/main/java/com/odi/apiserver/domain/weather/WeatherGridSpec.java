@@ -0,0 +1,37 @@
+package com.odi.apiserver.domain.weather;
+
+/**
+ * 예보 격자 형태 - 남서쪽 원점에서 stepDegrees 간격, 행 우선(row-major) 배치
+ * @param originLatitude  첫 행의 남쪽 경계 위도
+ * @param originLongitude 첫 열의 서쪽 경계 경도
+ * @param stepDegrees     격자 간격 (도)
+ * @param rows            행 수 (위도 방향)
+ * @param columns         열 수 (경도 방향)
+ */
+public record WeatherGridSpec(double originLatitude, double originLongitude, double stepDegrees,
+                              int rows, int columns) {
+    public WeatherGridSpec {
+        if (!(stepDegrees > 0) || rows <= 0 || columns <= 0) {
+            throw new IllegalArgumentException("격자 간격과 크기는 양수여야 합니다");
+        }
+        if ((long) rows * columns > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("격자가 너무 큽니다");
+        }
+    }
+
+    public int cellCount() {
+        return rows * columns;
+    }
+
+    /**
+     * 좌표가 속한 셀 번호 (격자 밖이면 -1)
+     */
+    public int indexOf(double latitude, double longitude) {
+        double row = Math.floor((latitude - originLatitude) / stepDegrees);
+        double column = Math.floor((longitude - originLongitude) / stepDegrees);
+        if (!(row >= 0 && row < rows && column >= 0 && column < columns)) {
+            return -1;
+        }
+        return (int) row * columns + (int) column;
+    }
+}
@@ -0,0 +1,13 @@
+package com.odi.apiserver.domain.weather;
+
+import com.odi.apiserver.domain.recommendation.entity.WeatherCondition;
+
+/**
+ * 좌표 한 곳의 날씨
+ * @param condition       날씨 상태
+ * @param temperature     기온 (°C)
+ * @param precipitation   강수량 (mm/h)
+ * @param version         예보 발표 시각 (epoch ms)
+ */
+public record WeatherReading(WeatherCondition condition, float temperature, float precipitation, long version) {
+}
@@ -1,17 +1,32 @@
 package com.odi.apiserver.infrastructure.external.ai;
 
+import com.odi.apiserver.common.exception.BusinessException;
+import com.odi.apiserver.common.exception.ErrorCode;
+import com.odi.apiserver.common.id.RequestIdFilter;
+import com.odi.apiserver.common.metrics.ChatMetrics;
+import com.odi.apiserver.infrastructure.external.ai.codec.ExternalWireFormat;
+import com.odi.apiserver.infrastructure.external.ai.dto.ExternalChatBatchRequest;
+import com.odi.apiserver.infrastructure.external.ai.dto.ExternalChatBatchResponse;
+import com.odi.apiserver.infrastructure.external.ai.dto.ExternalChatChunk;
 import com.odi.apiserver.infrastructure.external.ai.dto.ExternalChatRequest;
 import com.odi.apiserver.infrastructure.external.ai.dto.ExternalChatResponse;
+import com.odi.apiserver.infrastructure.external.ai.dto.ExternalConversationRequest;
+import com.odi.apiserver.infrastructure.external.ai.limit.AdaptiveConcurrencyLimiter;
+import com.odi.apiserver.infrastructure.external.ai.resilience.ExternalChatResilience;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.util.retry.Retry;
 
 import java.time.Duration;
 
@@ -19,39 +34,162 @@ import java.time.Duration;
 @RequiredArgsConstructor
 @Slf4j
 public class ExternalChatClient {
+    public static final String HEALTH_PATH = "/api/v1/health/";
+
+    private static final ParameterizedTypeReference<ServerSentEvent<ExternalChatChunk>> CHUNK_EVENT_TYPE =
+            new ParameterizedTypeReference<>() {};
+    // 본문 끝 표시 - done 이벤트 전에 이 값이 나오면 스트림이 잘린 것
+    private static final ServerSentEvent<ExternalChatChunk> END_OF_BODY = ServerSentEvent.<ExternalChatChunk>builder().build();
+    private static final String CLIENT_TIMER = "external.chat.client";
+
     private final WebClient webClient;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final ExternalChatResilience resilience;
+    private final ChatMetrics chatMetrics;
+    private final ExternalWireFormat wireFormat;
 
     @Value("${external.chat.base-url:http://localhost:8000}")
     private String baseUrl;
 
     public Mono<ExternalChatResponse> sendMessage(ExternalChatRequest request) {
-        log.info("Sending message to external chat server: {}", request.getMessage());
+        return chatMetrics.timed(CLIENT_TIMER, "send", resilience.decorate(concurrencyLimiter.limit(
+                post("/api/v1/chat/simple", request, request.getRequestId(), ExternalChatResponse.class))));
+    }
 
-        String fullUrl = baseUrl + "/api/v1/chat/simple";
+    /**
+     * 세션 대화 - 잘라낸 이전 대화와 이번 메시지를 messages로 전송
+     */
+    public Mono<ExternalChatResponse> sendConversation(ExternalConversationRequest request) {
+        return chatMetrics.timed(CLIENT_TIMER, "conversation", resilience.decorate(concurrencyLimiter.limit(
+                post("/api/v1/chat/conversation", request, request.getRequestId(), ExternalChatResponse.class))));
+    }
 
-        log.info("🚀 Sending request to: {}", fullUrl);
-        log.info("📤 Request body: {}", request);
+    /**
+     * 배치 채팅 - 여러 요청을 한 번의 HTTP 호출로 전송 (ChatRequestBatcher 전용)
+     */
+    public Mono<ExternalChatBatchResponse> sendBatch(ExternalChatBatchRequest request) {
+        log.debug("Sending batch to external chat server: size={}", request.getItems().size());
 
-        return webClient
+        return chatMetrics.timed(CLIENT_TIMER, "batch", resilience.decorate(concurrencyLimiter.limit(
+                post("/api/v1/chat/batch", request, null, ExternalChatBatchResponse.class))));
+    }
+
+    /**
+     * 응답 본문 그대로 전달 (relay 모드) - JSON 본문을 파싱하지 않고 받은 DataBuffer를 순서대로 내보냄
+     * - 상태 코드는 본문 전에 확인되므로 재시도/서킷 브레이커/동시성 제한은 sendMessage와 같음
+     * - 본문을 이어 붙이는 쪽이 JSON을 기대하므로 wire-format과 무관하게 JSON으로 주고받음
+     */
+    public Flux<DataBuffer> relayMessage(ExternalChatRequest request) {
+        return chatMetrics.timed(CLIENT_TIMER, "relay", resilience.decorate(concurrencyLimiter.limit(webClient
+                        .post()
+                        .uri(baseUrl + "/api/v1/chat/simple")
+                        .headers(headers -> propagateRequestId(headers, request.getRequestId()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .bodyValue(request)
+                        .retrieve()
+                        .onStatus(HttpStatusCode::is4xxClientError, resp -> resp.createException())
+                        .onStatus(HttpStatusCode::is5xxServerError, resp -> resp.createException())
+                        .toEntityFlux(DataBuffer.class))))
+                .flatMapMany(entity -> entity.getBody() != null ? entity.getBody() : Flux.<DataBuffer>empty());
+    }
+
+    /**
+     * 스트리밍 채팅 - ai-server의 SSE를 token 단위로 전달
+     * - done 이벤트를 받았을 때만 정상 완료, done 없이 본문이 끝나면(연결 끊김, upstream 중단) 오류
+     * - 구독이 취소되면(클라이언트 이탈) 커넥션을 닫아 upstream 생성도 중단됨
+     */
+    public Flux<String> streamMessage(ExternalChatRequest request) {
+        return resilience.decorateStream(concurrencyLimiter.limitStream(webClient
                 .post()
-                .uri(baseUrl + "/api/v1/chat/simple")
+                .uri(baseUrl + "/api/v1/chat/simple/stream")
+                .headers(headers -> propagateRequestId(headers, request.getRequestId()))
                 .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM)
                 .bodyValue(request)
                 .retrieve()
-                // ✨ 핵심: createException()으로 WebClientResponseException 던지기
                 .onStatus(HttpStatusCode::is4xxClientError, resp -> resp.createException())
                 .onStatus(HttpStatusCode::is5xxServerError, resp -> resp.createException())
-                .bodyToMono(ExternalChatResponse.class);
+                .bodyToFlux(CHUNK_EVENT_TYPE)
+                .concatWith(Mono.just(END_OF_BODY))
+                .takeWhile(event -> !"done".equals(event.event()))
+                .<String>handle((event, sink) -> {
+                    ExternalChatChunk chunk = event.data();
+                    if (event == END_OF_BODY) {
+                        sink.error(streamTruncated());
+                    } else if ("error".equals(event.event())) {
+                        String message = chunk != null ? chunk.getMessage() : null;
+                        sink.error(new BusinessException(ErrorCode.EXTERNAL_API_ERROR,
+                                message != null ? message : ErrorCode.EXTERNAL_API_ERROR.getMessage()));
+                    } else if (chunk != null && chunk.getContent() != null) {
+                        sink.next(chunk.getContent());
+                    }
+                })));
+    }
+
+    /**
+     * 스트리밍 응답이 done 이벤트 없이 끝난 경우의 오류 (blocking 모드와 공용)
+     */
+    public static BusinessException streamTruncated() {
+        return new BusinessException(ErrorCode.EXTERNAL_API_ERROR, "응답 스트림이 완료 신호 없이 끝났습니다.");
     }
 
     public Mono<Boolean> healthCheck() {
-        return webClient
+        return chatMetrics.timed(CLIENT_TIMER, "health", webClient
                 .get()
-                .uri(baseUrl + "/health")
+                .uri(baseUrl + HEALTH_PATH)
                 .retrieve()
                 .toBodilessEntity()
+                .timeout(Duration.ofSeconds(5)))
                 .map(response -> response.getStatusCode().is2xxSuccessful())
-                .onErrorReturn(false)
-                .timeout(Duration.ofSeconds(5));
+                .onErrorReturn(false);
+    }
+
+    /**
+     * 협상된 형식(ExternalWireFormat)으로 본문 전송
+     * - CBOR 본문이 415/422로 거절되면 같은 요청을 JSON으로 한 번 더 보냄 (재시도 예산/서킷 브레이커와 무관)
+     */
+    private <T> Mono<T> post(String path, Object body, String requestId, Class<T> responseType) {
+        return Mono.defer(() -> {
+            MediaType contentType = wireFormat.requestContentType();
+            return exchange(path, body, requestId, contentType, responseType)
+                    .onErrorResume(ExternalChatClient::isRejectedBody, error -> wireFormat.rejected(contentType)
+                            ? exchange(path, body, requestId, MediaType.APPLICATION_JSON, responseType)
+                            : Mono.error(error));
+        });
+    }
+
+    private <T> Mono<T> exchange(String path, Object body, String requestId, MediaType contentType,
+                                 Class<T> responseType) {
+        return webClient
+                .post()
+                .uri(baseUrl + path)
+                .headers(headers -> propagateRequestId(headers, requestId))
+                .contentType(contentType)
+                .accept(wireFormat.accept())
+                .bodyValue(body)
+                .retrieve()
+                // ✨ 핵심: createException()으로 WebClientResponseException 던지기
+                .onStatus(HttpStatusCode::is4xxClientError, resp -> resp.createException())
+                .onStatus(HttpStatusCode::is5xxServerError, resp -> resp.createException())
+                .toEntity(responseType)
+                .mapNotNull(entity -> {
+                    wireFormat.responded(entity.getHeaders().getContentType());
+                    return entity.getBody();
+                });
+    }
+
+    private static boolean isRejectedBody(Throwable error) {
+        return error instanceof WebClientResponseException.UnsupportedMediaType
+                || error instanceof WebClientResponseException.UnprocessableEntity;
+    }
+
+    /**
+     * ai-server 로그와 대조할 수 있도록 요청 ID를 X-Request-Id로 전달
+     */
+    private void propagateRequestId(HttpHeaders headers, String requestId) {
+        if (requestId != null) {
+            headers.set(RequestIdFilter.HEADER, requestId);
+        }
     }
 }
@@ -0,0 +1,353 @@
+package com.odi.apiserver.infrastructure.external.ai.adapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.odi.apiserver.application.port.out.ExternalChatPort;
+import com.odi.apiserver.common.deadline.RequestDeadline;
+import com.odi.apiserver.common.exception.BusinessException;
+import com.odi.apiserver.common.exception.ErrorCode;
+import com.odi.apiserver.common.id.RequestIdFilter;
+import com.odi.apiserver.domain.ai.ChatMessage;
+import com.odi.apiserver.domain.ai.conversation.ConversationContext;
+import com.odi.apiserver.infrastructure.external.ai.ExternalChatClient;
+import com.odi.apiserver.infrastructure.external.ai.codec.ExternalWireFormat;
+import com.odi.apiserver.infrastructure.external.ai.dto.ExternalChatChunk;
+import com.odi.apiserver.infrastructure.external.ai.dto.ExternalChatRequest;
+import com.odi.apiserver.infrastructure.external.ai.dto.ExternalChatResponse;
+import com.odi.apiserver.infrastructure.external.ai.dto.ExternalConversationRequest;
+import com.odi.apiserver.infrastructure.external.ai.resilience.ExternalChatResilience;
+import com.odi.apiserver.infrastructure.external.mapper.ChatMessageMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 가상 스레드 기반 블로킹 upstream 호출 구현 (external.chat.mode=blocking)
+ * - JDK HttpClient로 평범한 블로킹 I/O를 수행하고, 호출마다 가상 스레드 하나를 사용
+ * - 가상 스레드에서 실행되는 것은 ai-server 호출과 응답 매핑까지이며, 컨트롤러/유스케이스/응답 쓰기는
+ *   그대로 WebFlux 이벤트 루프에서 실행 (요청 경로 전체를 블로킹으로 옮기려면 Spring MVC 전환이 필요해 범위 밖)
+ * - 세마포어로 upstream 동시 호출 수를 제한
+ * - 본문 형식은 ExternalWireFormat 협상을 따름 (스트리밍은 JSON)
+ * - 요청 기한이 있으면 HttpRequest timeout을 남은 시간으로 줄이고 X-Request-Timeout-Ms로 전달
+ * - ai-server가 기한 초과로 돌려준 504는 reactive 모드와 같은 기준(ExternalChatResilience)으로 DEADLINE_EXCEEDED
+ */
+@Component
+@ConditionalOnProperty(name = "external.chat.mode", havingValue = "blocking")
+@Slf4j
+public class BlockingExternalChatAdapter implements ExternalChatPort, DisposableBean {
+    private final ChatMessageMapper chatMessageMapper;
+    private final ObjectMapper objectMapper;
+    private final ExternalWireFormat wireFormat;
+    private final ExternalChatResilience resilience;
+    private final String baseUrl;
+    private final Duration readTimeout;
+    private final Duration acquireTimeout;
+    private final Semaphore permits;
+    private final ExecutorService executor;
+    private final Scheduler scheduler;
+    private final HttpClient httpClient;
+
+    public BlockingExternalChatAdapter(ChatMessageMapper chatMessageMapper,
+                                       ObjectMapper objectMapper,
+                                       ExternalWireFormat wireFormat,
+                                       ExternalChatResilience resilience,
+                                       @Value("${external.chat.base-url:http://localhost:8000}") String baseUrl,
+                                       @Value("${external.chat.timeout.connection:5s}") Duration connectTimeout,
+                                       @Value("${external.chat.timeout.read:30s}") Duration readTimeout,
+                                       @Value("${external.chat.blocking.max-concurrency:100}") int maxConcurrency,
+                                       @Value("${external.chat.blocking.acquire-timeout:1s}") Duration acquireTimeout) {
+        this.chatMessageMapper = chatMessageMapper;
+        this.objectMapper = objectMapper;
+        this.wireFormat = wireFormat;
+        this.resilience = resilience;
+        this.baseUrl = baseUrl;
+        this.readTimeout = readTimeout;
+        this.acquireTimeout = acquireTimeout;
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("chat-vt-", 0).factory());
+        this.scheduler = Schedulers.fromExecutorService(executor, "chat-vt");
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .executor(executor)
+                .build();
+        log.info("Blocking external chat adapter enabled: maxConcurrency={}", maxConcurrency);
+    }
+
+    @Override
+    public Mono<ChatMessage> sendMessage(ChatMessage chatMessage) {
+        ExternalChatRequest request = chatMessageMapper.toExternalRequest(chatMessage);
+
+        return call(deadline -> send("/api/v1/chat/simple", request, request.getRequestId(), deadline))
+                .map(response -> chatMessageMapper.toDomainWithResponse(chatMessage, response));
+    }
+
+    @Override
+    public Mono<ChatMessage> sendConversation(ChatMessage chatMessage, ConversationContext context) {
+        ExternalConversationRequest request = chatMessageMapper.toExternalConversationRequest(chatMessage, context);
+
+        return call(deadline -> send("/api/v1/chat/conversation", request, request.getRequestId(), deadline))
+                .map(response -> chatMessageMapper.toDomainWithResponse(chatMessage, response));
+    }
+
+    @Override
+    public Flux<String> streamMessage(ChatMessage chatMessage) {
+        ExternalChatRequest request = chatMessageMapper.toExternalRequest(chatMessage);
+
+        return Flux.deferContextual(context -> Flux.using(
+                        () -> openStream(request, RequestDeadline.current(context)), this::readTokens, SseStream::close))
+                .subscribeOn(scheduler);
+    }
+
+    /**
+     * 블로킹 모드는 본문 전체를 받은 뒤 파싱 없이 그대로 전달 (DataBuffer로 감싸기만 함)
+     */
+    @Override
+    public Flux<DataBuffer> relayMessage(ChatMessage chatMessage) {
+        ExternalChatRequest request = chatMessageMapper.toExternalRequest(chatMessage);
+
+        return call(deadline -> exchange("/api/v1/chat/simple", request, request.getRequestId(), deadline,
+                        MediaType.APPLICATION_JSON, MediaType.APPLICATION_JSON).body())
+                .<DataBuffer>map(DefaultDataBufferFactory.sharedInstance::wrap)
+                .flux();
+    }
+
+    @Override
+    public Mono<Boolean> healthCheck() {
+        return Mono.fromCallable(() -> {
+                    HttpRequest httpRequest = HttpRequest.newBuilder(URI.create(baseUrl + ExternalChatClient.HEALTH_PATH))
+                            .timeout(Duration.ofSeconds(5))
+                            .GET()
+                            .build();
+                    int status = httpClient.send(httpRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    return status >= 200 && status < 300;
+                })
+                .subscribeOn(scheduler)
+                .onErrorReturn(false);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.dispose();
+        executor.shutdownNow();
+    }
+
+    /**
+     * 구독 시점에 Context에서 요청 기한을 꺼내 가상 스레드의 블로킹 호출에 넘김
+     */
+    private <T> Mono<T> call(DeadlineCall<T> call) {
+        return Mono.deferContextual(context -> {
+            RequestDeadline deadline = RequestDeadline.current(context);
+            return Mono.fromCallable(() -> call.call(deadline));
+        }).subscribeOn(scheduler);
+    }
+
+    private ExternalChatResponse send(String path, Object body, String requestId, RequestDeadline deadline)
+            throws Exception {
+        HttpResponse<byte[]> response = exchange(path, body, requestId, deadline, wireFormat.requestContentType(),
+                wireFormat.accept());
+        MediaType responseType = contentType(response);
+        wireFormat.responded(responseType);
+        return wireFormat.mapper(responseType).readValue(response.body(), ExternalChatResponse.class);
+    }
+
+    private HttpResponse<byte[]> exchange(String path, Object body, String requestId, RequestDeadline deadline,
+                                          MediaType contentType, MediaType... accept) throws Exception {
+        acquirePermit();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(
+                    post(path, body, requestId, deadline, contentType, MediaType.toString(List.of(accept))),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            // CBOR 본문을 거절하면 JSON으로 한 번 더 (ExternalWireFormat 참고)
+            if ((response.statusCode() == 415 || response.statusCode() == 422) && wireFormat.rejected(contentType)) {
+                response = httpClient.send(
+                        post(path, body, requestId, deadline, MediaType.APPLICATION_JSON,
+                                MediaType.APPLICATION_JSON_VALUE),
+                        HttpResponse.BodyHandlers.ofByteArray());
+            }
+            if (response.statusCode() >= 400) {
+                throw upstreamError(response.statusCode(), response.body());
+            }
+            return response;
+        } catch (HttpTimeoutException e) {
+            throw timeout(deadline, e);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private BusinessException upstreamError(int status, byte[] body) {
+        if (resilience.isUpstreamDeadlineExceeded(status, body)) {
+            return new BusinessException(ErrorCode.DEADLINE_EXCEEDED);
+        }
+        log.error("Error Response: {}", status);
+        return new BusinessException(ErrorCode.EXTERNAL_API_ERROR);
+    }
+
+    private static MediaType contentType(HttpResponse<?> response) {
+        try {
+            return response.headers().firstValue(HttpHeaders.CONTENT_TYPE).map(MediaType::parseMediaType).orElse(null);
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+    }
+
+    private SseStream openStream(ExternalChatRequest request, RequestDeadline deadline) throws Exception {
+        acquirePermit();
+        try {
+            HttpResponse<Stream<String>> response = httpClient.send(
+                    post("/api/v1/chat/simple/stream", request, request.getRequestId(), deadline,
+                            MediaType.APPLICATION_JSON, MediaType.TEXT_EVENT_STREAM_VALUE),
+                    HttpResponse.BodyHandlers.ofLines());
+            if (response.statusCode() >= 400) {
+                try (Stream<String> lines = response.body()) {
+                    throw upstreamError(response.statusCode(),
+                            String.join("\n", lines.toList()).getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            return new SseStream(response.body(), permits);
+        } catch (Exception e) {
+            permits.release();
+            if (e instanceof HttpTimeoutException) {
+                throw timeout(deadline, e);
+            }
+            throw e;
+        }
+    }
+
+    private Flux<String> readTokens(SseStream stream) {
+        return Flux.fromStream(stream.lines())
+                .handle((line, sink) -> {
+                    if (line.startsWith("event:")) {
+                        stream.event = line.substring("event:".length()).strip();
+                        return;
+                    }
+                    if (!line.startsWith("data:")) {
+                        return;
+                    }
+                    ExternalChatChunk chunk = readChunk(line.substring("data:".length()).strip());
+                    switch (stream.event == null ? "" : stream.event) {
+                        case "token" -> {
+                            if (chunk.getContent() != null) {
+                                sink.next(chunk.getContent());
+                            }
+                        }
+                        case "done" -> {
+                            stream.done = true;
+                            sink.complete();
+                        }
+                        case "error" -> sink.error(new BusinessException(ErrorCode.EXTERNAL_API_ERROR,
+                                chunk.getMessage() != null ? chunk.getMessage() : ErrorCode.EXTERNAL_API_ERROR.getMessage()));
+                        default -> {
+                        }
+                    }
+                })
+                // done 이벤트 없이 본문이 끝나면 잘린 응답
+                .concatWith(Mono.defer(() -> stream.done
+                        ? Mono.empty()
+                        : Mono.error(ExternalChatClient.streamTruncated())));
+    }
+
+    private ExternalChatChunk readChunk(String data) {
+        try {
+            return objectMapper.readValue(data, ExternalChatChunk.class);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR, e);
+        }
+    }
+
+    private HttpRequest post(String path, Object body, String requestId, RequestDeadline deadline,
+                             MediaType contentType, String accept) throws IOException {
+        Duration timeout = readTimeout;
+        if (deadline != null) {
+            if (deadline.isExpired()) {
+                throw RequestDeadline.exceeded();
+            }
+            timeout = deadline.remaining().compareTo(readTimeout) < 0 ? deadline.remaining() : readTimeout;
+        }
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(timeout)
+                .header(HttpHeaders.CONTENT_TYPE, contentType.toString())
+                .header(HttpHeaders.ACCEPT, accept)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(wireFormat.mapper(contentType).writeValueAsBytes(body)));
+        if (requestId != null) {
+            builder.header(RequestIdFilter.HEADER, requestId);
+        }
+        if (deadline != null) {
+            builder.header(RequestDeadline.HEADER, String.valueOf(deadline.remainingMillis()));
+        }
+        return builder.build();
+    }
+
+    // 요청 기한 때문에 줄인 timeout이면 기한 초과, 아니면 기존처럼 외부 API 타임아웃
+    private static BusinessException timeout(RequestDeadline deadline, HttpTimeoutException e) {
+        return deadline != null && deadline.isExpired()
+                ? new BusinessException(ErrorCode.DEADLINE_EXCEEDED, e)
+                : new BusinessException(ErrorCode.EXTERNAL_API_TIMEOUT, e);
+    }
+
+    private void acquirePermit() throws InterruptedException {
+        if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new BusinessException(ErrorCode.EXTERNAL_API_ERROR, "외부 API 동시 호출 한도를 초과했습니다.");
+        }
+    }
+
+    @FunctionalInterface
+    private interface DeadlineCall<T> {
+        T call(RequestDeadline deadline) throws Exception;
+    }
+
+    /**
+     * 스트리밍 응답 본문과 세마포어 반환을 함께 관리
+     * - 구독 취소/완료 시 본문 스트림을 닫아 upstream 연결도 정리
+     */
+    private static final class SseStream {
+        private final Stream<String> lines;
+        private final Semaphore permits;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private String event;
+        private boolean done;
+
+        private SseStream(Stream<String> lines, Semaphore permits) {
+            this.lines = lines;
+            this.permits = permits;
+        }
+
+        private Stream<String> lines() {
+            return lines;
+        }
+
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                lines.close();
+                permits.release();
+            }
+        }
+    }
+}
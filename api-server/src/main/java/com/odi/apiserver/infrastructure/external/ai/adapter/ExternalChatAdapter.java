@@ -1,34 +1,119 @@
 package com.odi.apiserver.infrastructure.external.ai.adapter;
 
 import com.odi.apiserver.application.port.out.ExternalChatPort;
+import com.odi.apiserver.common.logging.AccessLogRecord;
+import com.odi.apiserver.common.timing.ServerTimings;
 import com.odi.apiserver.domain.ai.ChatMessage;
+import com.odi.apiserver.domain.ai.conversation.ConversationContext;
 import com.odi.apiserver.infrastructure.external.ai.ExternalChatClient;
+import com.odi.apiserver.infrastructure.external.ai.batch.ChatRequestBatcher;
+import com.odi.apiserver.infrastructure.external.ai.cache.ChatCacheKey;
+import com.odi.apiserver.infrastructure.external.ai.cache.ChatResponseCache;
+import com.odi.apiserver.infrastructure.external.ai.cache.PromptSignature;
+import com.odi.apiserver.infrastructure.external.ai.cache.SimilarChatResponseCache;
+import com.odi.apiserver.infrastructure.external.ai.coalesce.InFlightChatRequests;
 import com.odi.apiserver.infrastructure.external.ai.dto.ExternalChatRequest;
+import com.odi.apiserver.infrastructure.external.ai.dto.ExternalChatResponse;
+import com.odi.apiserver.infrastructure.external.ai.dto.ExternalConversationRequest;
 import com.odi.apiserver.infrastructure.external.mapper.ChatMessageMapper;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Component
+@ConditionalOnProperty(name = "external.chat.mode", havingValue = "reactive", matchIfMissing = true)
 @RequiredArgsConstructor
-@Slf4j
 public class ExternalChatAdapter implements ExternalChatPort {
     private final ExternalChatClient externalChatClient;
     private final ChatMessageMapper chatMessageMapper;
+    private final ChatResponseCache chatResponseCache;
+    private final SimilarChatResponseCache similarChatResponseCache;
+    private final InFlightChatRequests inFlightChatRequests;
+    private final ChatRequestBatcher chatRequestBatcher;
 
     @Override
     public Mono<ChatMessage> sendMessage(ChatMessage chatMessage) {
+        return Mono.deferContextual(context -> {
+            ServerTimings timings = ServerTimings.current(context);
+            long start = System.nanoTime();
+            ChatCacheKey cacheKey = ChatCacheKey.from(chatMessage);
+            String cachedResponse = chatResponseCache.get(cacheKey);
+            // 정확 일치가 없으면 띄어쓰기/문장부호/어미만 다른 프롬프트의 응답 재사용
+            PromptSignature signature = null;
+            if (cachedResponse == null) {
+                signature = similarChatResponseCache.sign(chatMessage);
+                cachedResponse = similarChatResponseCache.get(signature);
+            }
+            timings.record(ServerTimings.Stage.CACHE, start);
+            AccessLogRecord.current(context).cacheHit(cachedResponse != null);
+            if (cachedResponse != null) {
+                return Mono.just(chatMessage.withResponse(cachedResponse));
+            }
+            return callCoalesced(chatMessage, cacheKey, signature, timings);
+        });
+    }
+
+    private Mono<ChatMessage> callCoalesced(ChatMessage chatMessage, ChatCacheKey cacheKey, PromptSignature signature,
+                                            ServerTimings timings) {
+        ExternalChatRequest request = chatMessageMapper.toExternalRequest(chatMessage);
+
+        // 동일 프롬프트 동시 요청은 upstream 호출 하나를 공유하고, 결과만 각자의 ChatMessage로 매핑
+        return inFlightChatRequests.execute(cacheKey, () -> callUpstream(request)
+                        .doOnNext(response -> {
+                            if (response.isSuccess()) {
+                                chatResponseCache.put(cacheKey, response.getResponse());
+                                similarChatResponseCache.put(signature, response.getResponse());
+                            }
+                        }))
+                .map(response -> {
+                    long start = System.nanoTime();
+                    ChatMessage result = chatMessageMapper.toDomainWithResponse(chatMessage, response);
+                    timings.record(ServerTimings.Stage.MAP, start);
+                    return result;
+                });
+    }
+
+    @Override
+    public Flux<String> streamMessage(ChatMessage chatMessage) {
+        ExternalChatRequest request = chatMessageMapper.toExternalRequest(chatMessage);
+
+        return externalChatClient.streamMessage(request);
+    }
+
+    @Override
+    public Flux<DataBuffer> relayMessage(ChatMessage chatMessage) {
         ExternalChatRequest request = chatMessageMapper.toExternalRequest(chatMessage);
 
-        return externalChatClient.sendMessage(request)
-                .map(response -> chatMessageMapper.toDomainWithResponse(chatMessage, response))
-                .doOnNext(result -> log.info("External chat response mapped to domain: requestId={}",
-                        result.getRequestId()));
+        return externalChatClient.relayMessage(request);
+    }
+
+    @Override
+    public Mono<ChatMessage> sendConversation(ChatMessage chatMessage, ConversationContext context) {
+        ExternalConversationRequest request = chatMessageMapper.toExternalConversationRequest(chatMessage, context);
+
+        return Mono.deferContextual(ctx -> {
+            ServerTimings timings = ServerTimings.current(ctx);
+            return externalChatClient.sendConversation(request)
+                    .map(response -> {
+                        long start = System.nanoTime();
+                        ChatMessage result = chatMessageMapper.toDomainWithResponse(chatMessage, response);
+                        timings.record(ServerTimings.Stage.MAP, start);
+                        return result;
+                    });
+        });
     }
 
     @Override
     public Mono<Boolean> healthCheck() {
         return externalChatClient.healthCheck();
     }
+
+    private Mono<ExternalChatResponse> callUpstream(ExternalChatRequest request) {
+        return chatRequestBatcher.isEnabled()
+                ? chatRequestBatcher.submit(request)
+                : externalChatClient.sendMessage(request);
+    }
 }
@@ -0,0 +1,191 @@
+package com.odi.apiserver.infrastructure.external.ai.batch;
+
+import com.odi.apiserver.common.deadline.RequestDeadline;
+import com.odi.apiserver.common.exception.BusinessException;
+import com.odi.apiserver.common.exception.ErrorCode;
+import com.odi.apiserver.common.logging.AccessLogRecord;
+import com.odi.apiserver.common.timing.ServerTimings;
+import com.odi.apiserver.infrastructure.external.ai.ExternalChatClient;
+import com.odi.apiserver.infrastructure.external.ai.dto.ExternalChatBatchRequest;
+import com.odi.apiserver.infrastructure.external.ai.dto.ExternalChatBatchResponse;
+import com.odi.apiserver.infrastructure.external.ai.dto.ExternalChatRequest;
+import com.odi.apiserver.infrastructure.external.ai.dto.ExternalChatResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * ai-server 호출 마이크로 배칭
+ * - window 동안 또는 max-size건이 모일 때까지 요청을 모아 /api/v1/chat/batch 한 번으로 전송
+ * - 응답은 requestId 기준으로 나누어 각 요청의 Mono로 전달
+ * - 배치 전체 실패 시 포함된 모든 요청에 같은 오류 전달
+ * - 대기 큐는 queue-capacity로 제한, 가득 차면 기다리지 않고 EXTERNAL_API_OVERLOADED로 거절
+ * - 전송 전에 취소된 요청(클라이언트 이탈, 기한 초과)은 배치에서 제외
+ * - 배치 호출에는 포함된 요청 중 가장 늦은 기한을 적용 (기한 없는 요청이 있으면 기한 없음)
+ * - 배치 호출은 요청 Context 밖에서 실행되므로, 각 요청의 접근 로그/Server-Timing에 upstream 상태와 소요 시간을 직접 기록
+ * - max-size는 ai-server 배치 한도(64건) 이하여야 하며, 넘으면 기동 실패
+ */
+@Component
+@Slf4j
+public class ChatRequestBatcher {
+    // ai-server BatchChatRequest.items의 max_length
+    static final int UPSTREAM_MAX_BATCH_SIZE = 64;
+
+    private final ExternalChatClient externalChatClient;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final Duration window;
+    private final int maxConcurrentBatches;
+
+    private final Sinks.Many<PendingRequest> queue;
+    private Disposable subscription;
+
+    public ChatRequestBatcher(ExternalChatClient externalChatClient,
+                              @Value("${external.chat.batch.enabled:false}") boolean enabled,
+                              @Value("${external.chat.batch.max-size:16}") int maxBatchSize,
+                              @Value("${external.chat.batch.window:5ms}") Duration window,
+                              @Value("${external.chat.batch.max-concurrent-batches:8}") int maxConcurrentBatches,
+                              @Value("${external.chat.batch.queue-capacity:1024}") int queueCapacity) {
+        if (maxBatchSize < 1 || maxBatchSize > UPSTREAM_MAX_BATCH_SIZE) {
+            throw new IllegalStateException("external.chat.batch.max-size는 1~" + UPSTREAM_MAX_BATCH_SIZE
+                    + " 범위여야 합니다: " + maxBatchSize);
+        }
+        this.externalChatClient = externalChatClient;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.window = window;
+        this.maxConcurrentBatches = maxConcurrentBatches;
+        // 여러 이벤트 루프 스레드가 동시에 넣으므로 직렬화 sink(경합 시 FAIL_NON_SERIALIZED) 대신
+        // thread-safe bounded 큐를 쓰는 unsafe unicast sink 사용 - offer 실패(가득 참)는 FAIL_OVERFLOW
+        this.queue = Sinks.unsafe().many().unicast().onBackpressureBuffer(new ArrayBlockingQueue<>(queueCapacity));
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        subscription = queue.asFlux()
+                .bufferTimeout(maxBatchSize, window, true)
+                .flatMap(this::dispatch, maxConcurrentBatches)
+                .subscribe();
+        log.info("Chat request batching enabled: window={}, maxBatchSize={}", window, maxBatchSize);
+    }
+
+    @PreDestroy
+    void stop() {
+        queue.tryEmitComplete();
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Mono<ExternalChatResponse> submit(ExternalChatRequest request) {
+        return Mono.deferContextual(context -> {
+            PendingRequest pending = new PendingRequest(request, Sinks.one(), new AtomicBoolean(),
+                    RequestDeadline.current(context), AccessLogRecord.current(context), ServerTimings.current(context));
+            // emitNext는 overflow 시 sink 자체를 오류로 종료하므로 tryEmitNext로 넣고, 실패하면 기다리지 않고 거절
+            if (queue.tryEmitNext(pending).isFailure()) {
+                return Mono.error(new BusinessException(ErrorCode.EXTERNAL_API_OVERLOADED));
+            }
+            return pending.result().asMono()
+                    .doOnCancel(() -> pending.cancelled().set(true));
+        });
+    }
+
+    private Mono<Void> dispatch(List<PendingRequest> collected) {
+        List<PendingRequest> batch = collected.stream()
+                .filter(pending -> !pending.cancelled().get())
+                .toList();
+        if (batch.isEmpty()) {
+            return Mono.empty();
+        }
+
+        ExternalChatBatchRequest batchRequest = ExternalChatBatchRequest.builder()
+                .items(batch.stream()
+                        .map(pending -> ExternalChatBatchRequest.Item.builder()
+                                .requestId(pending.request().getRequestId())
+                                .message(pending.request().getMessage())
+                                .maxTokens(pending.request().getMaxTokens())
+                                .build())
+                        .toList())
+                .build();
+
+        RequestDeadline deadline = batch.getFirst().deadline();
+        for (PendingRequest pending : batch) {
+            deadline = RequestDeadline.latest(deadline, pending.deadline());
+        }
+        RequestDeadline batchDeadline = deadline;
+
+        long start = System.nanoTime();
+        batch.forEach(pending -> pending.timings().upstreamStarted());
+        return externalChatClient.sendBatch(batchRequest)
+                .contextWrite(context -> batchDeadline == null
+                        ? context
+                        : context.put(RequestDeadline.CONTEXT_KEY, batchDeadline))
+                .doOnNext(response -> {
+                    recordUpstream(batch, 200, start);
+                    complete(batch, response);
+                })
+                .doOnError(error -> {
+                    if (error instanceof WebClientResponseException responseException) {
+                        recordUpstream(batch, responseException.getStatusCode().value(), start);
+                    }
+                    batch.forEach(pending -> pending.result().tryEmitError(error));
+                })
+                .then()
+                .onErrorResume(error -> Mono.empty());
+    }
+
+    private static void recordUpstream(List<PendingRequest> batch, int status, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        for (PendingRequest pending : batch) {
+            pending.record().upstream(status, elapsed);
+            pending.timings().upstreamResponded(null);
+        }
+    }
+
+    private void complete(List<PendingRequest> batch, ExternalChatBatchResponse response) {
+        Map<String, ExternalChatBatchResponse.Result> results = response.getResults() == null
+                ? Map.of()
+                : response.getResults().stream()
+                        .collect(Collectors.toMap(ExternalChatBatchResponse.Result::getRequestId,
+                                Function.identity(), (first, second) -> first));
+
+        for (PendingRequest pending : batch) {
+            ExternalChatBatchResponse.Result result = results.get(pending.request().getRequestId());
+            if (result == null) {
+                pending.result().tryEmitError(new BusinessException(ErrorCode.EXTERNAL_API_ERROR,
+                        "배치 응답에 요청 결과가 없습니다."));
+            } else if (result.getError() != null) {
+                pending.result().tryEmitError(new BusinessException(ErrorCode.EXTERNAL_API_ERROR, result.getError()));
+            } else {
+                pending.result().tryEmitValue(ExternalChatResponse.of(result.getResponse(), result.getUsage()));
+            }
+        }
+    }
+
+    private record PendingRequest(ExternalChatRequest request, Sinks.One<ExternalChatResponse> result,
+                                  AtomicBoolean cancelled, RequestDeadline deadline, AccessLogRecord record,
+                                  ServerTimings timings) {
+    }
+}
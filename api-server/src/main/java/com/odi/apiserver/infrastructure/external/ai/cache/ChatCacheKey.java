@@ -0,0 +1,32 @@
+package com.odi.apiserver.infrastructure.external.ai.cache;
+
+import com.odi.apiserver.domain.ai.ChatMessage;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 응답 캐시 키 - 정규화된 메시지 + 최대 토큰 수
+ * - 앞뒤 공백 제거, 연속 공백 축약, 소문자 변환
+ */
+public record ChatCacheKey(String message, Integer maxTokens) {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    public static ChatCacheKey from(ChatMessage chatMessage) {
+        return new ChatCacheKey(normalize(chatMessage.getMessage()), chatMessage.getMaxTokens());
+    }
+
+    static String normalize(String message) {
+        if (message == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(message.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 캐시 가중치 계산용 대략적인 크기 (UTF-16 기준 바이트)
+     */
+    int estimatedBytes() {
+        return message.length() * 2;
+    }
+}
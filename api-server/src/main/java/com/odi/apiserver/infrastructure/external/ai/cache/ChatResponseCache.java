@@ -0,0 +1,103 @@
+package com.odi.apiserver.infrastructure.external.ai.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 외부 채팅 응답 인메모리 캐시
+ * - Caffeine(W-TinyLFU): 자주 요청되는 프롬프트를 우선 보존하고, 한 번만 본 프롬프트는 입장(admission)에서 걸러냄
+ * - 응답 크기 기반 가중치로 전체 메모리 상한 유지
+ * - 엔트리별 TTL (지터를 섞어 동시 만료로 인한 몰림 방지)
+ * - 적중/미스/축출은 Micrometer cache.*{cache=chat.response}로 발행 (적중률 = hit / (hit + miss))
+ */
+@Component
+@Slf4j
+public class ChatResponseCache {
+    // 엔트리당 고정 오버헤드 (객체 헤더, 참조 등 대략치)
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+    static final String CACHE_NAME = "chat.response";
+
+    private final boolean enabled;
+    private final Duration ttl;
+    private final double ttlJitter;
+    private final Cache<ChatCacheKey, CachedResponse> cache;
+
+    public ChatResponseCache(MeterRegistry meterRegistry,
+                             @Value("${external.chat.cache.enabled:true}") boolean enabled,
+                             @Value("${external.chat.cache.max-weight-bytes:10485760}") long maxWeightBytes,
+                             @Value("${external.chat.cache.ttl:5m}") Duration ttl,
+                             @Value("${external.chat.cache.ttl-jitter:0.1}") double ttlJitter) {
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.ttlJitter = ttlJitter;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((ChatCacheKey key, CachedResponse value) ->
+                        key.estimatedBytes() + value.response().length() * 2 + ENTRY_OVERHEAD_BYTES)
+                .expireAfter(new PerEntryExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 응답 조회 (없거나 비활성화 상태면 null)
+     */
+    public String get(ChatCacheKey key) {
+        if (!enabled) {
+            return null;
+        }
+        CachedResponse cached = cache.getIfPresent(key);
+        return cached != null ? cached.response() : null;
+    }
+
+    public void put(ChatCacheKey key, String response) {
+        if (!enabled || response == null || response.isBlank()) {
+            return;
+        }
+        cache.put(key, new CachedResponse(response, nextTtlNanos()));
+    }
+
+    private long nextTtlNanos() {
+        long base = ttl.toNanos();
+        if (ttlJitter <= 0) {
+            return base;
+        }
+        double factor = 1.0 + ThreadLocalRandom.current().nextDouble(-ttlJitter, ttlJitter);
+        return (long) (base * factor);
+    }
+
+    private record CachedResponse(String response, long ttlNanos) {
+    }
+
+    /**
+     * 생성/갱신 시 엔트리에 기록된 TTL 적용, 조회 시에는 만료 시점 유지
+     */
+    private static class PerEntryExpiry implements Expiry<ChatCacheKey, CachedResponse> {
+        @Override
+        public long expireAfterCreate(ChatCacheKey key, CachedResponse value, long currentTime) {
+            return value.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(ChatCacheKey key, CachedResponse value, long currentTime,
+                                      long currentDuration) {
+            return value.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(ChatCacheKey key, CachedResponse value, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
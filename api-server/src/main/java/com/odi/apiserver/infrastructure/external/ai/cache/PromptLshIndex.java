@@ -0,0 +1,74 @@
+package com.odi.apiserver.infrastructure.external.ai.cache;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 밴드 LSH 버킷 - 버킷 키(PromptSignature.bandKeys)별 엔트리 ID 목록
+ * - 버킷마다 최대 bucketCapacity개, 넘치면 가장 오래된 ID부터 밀어냄 (인기 버킷이 무한히 커지지 않게)
+ * - 엔트리 본문은 캐시가 보관하고 여기는 ID만 가짐 (캐시에서 축출되면 remove로 정리)
+ * - 버킷 배열은 copy-on-write라 조회는 락 없음
+ */
+final class PromptLshIndex {
+    private static final long[] EMPTY = new long[0];
+
+    private final int bucketCapacity;
+    private final ConcurrentHashMap<Long, long[]> buckets = new ConcurrentHashMap<>();
+
+    PromptLshIndex(int bucketCapacity) {
+        this.bucketCapacity = Math.max(1, bucketCapacity);
+    }
+
+    void add(long id, long[] bandKeys) {
+        for (long bandKey : bandKeys) {
+            buckets.compute(bandKey, (key, ids) -> {
+                if (ids == null) {
+                    return new long[]{id};
+                }
+                int keep = Math.min(ids.length, bucketCapacity - 1);
+                long[] next = Arrays.copyOfRange(ids, ids.length - keep, ids.length + 1);
+                next[keep] = id;
+                return next;
+            });
+        }
+    }
+
+    void remove(long id, long[] bandKeys) {
+        for (long bandKey : bandKeys) {
+            buckets.computeIfPresent(bandKey, (key, ids) -> {
+                int position = indexOf(ids, id);
+                if (position < 0) {
+                    return ids;
+                }
+                if (ids.length == 1) {
+                    return null;
+                }
+                long[] next = new long[ids.length - 1];
+                System.arraycopy(ids, 0, next, 0, position);
+                System.arraycopy(ids, position + 1, next, position, next.length - position);
+                return next;
+            });
+        }
+    }
+
+    /**
+     * 버킷 하나의 엔트리 ID (오래된 순)
+     */
+    long[] candidates(long bandKey) {
+        long[] ids = buckets.get(bandKey);
+        return ids != null ? ids : EMPTY;
+    }
+
+    int bucketCount() {
+        return buckets.size();
+    }
+
+    private static int indexOf(long[] ids, long id) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,59 @@
+package com.odi.apiserver.infrastructure.external.ai.cache;
+
+/**
+ * 프롬프트 서명
+ * @param shingles   정렬/중복 제거된 3-gram 해시 (정확한 Jaccard 유사도 계산용)
+ * @param bandKeys   LSH 버킷 키 (MinHash 구간별 해시)
+ * @param text       정규화 후 문자/숫자만 이어 붙인 문자열
+ * @param heads      단어 첫머리 (중복 제거)
+ * @param numbers    프롬프트 속 숫자열 해시 (다르면 유사해도 다른 질문으로 취급)
+ * @param maxTokens  최대 토큰 수 (없으면 -1)
+ */
+public record PromptSignature(long[] shingles, long[] bandKeys, String text, String[] heads, long numbers,
+                              int maxTokens) {
+
+    /**
+     * 3-gram 집합의 Jaccard 유사도 (0~1)
+     * - 숫자열/maxTokens가 다르거나, 한쪽 단어 첫머리가 다른 쪽에 없으면(단어 자체를 바꾼 경우) 0
+     * - 띄어쓰기, 문장부호, 조사/어미 차이만 있으면 첫머리는 양쪽에 모두 남아 있음
+     */
+    public double similarity(PromptSignature other) {
+        if (numbers != other.numbers || maxTokens != other.maxTokens
+                || !containsHeads(other.text, heads) || !containsHeads(text, other.heads)) {
+            return 0.0;
+        }
+        long[] a = shingles;
+        long[] b = other.shingles;
+        int i = 0;
+        int j = 0;
+        int common = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                common++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) common / (a.length + b.length - common);
+    }
+
+    private static boolean containsHeads(String text, String[] heads) {
+        for (String head : heads) {
+            if (!text.contains(head)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 캐시 가중치 계산용 대략적인 크기 (서명 + 버킷 슬롯)
+     */
+    int estimatedBytes() {
+        return shingles.length * Long.BYTES + bandKeys.length * Long.BYTES * 2 + text.length() * 4;
+    }
+}
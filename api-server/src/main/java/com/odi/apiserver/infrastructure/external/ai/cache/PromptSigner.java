@@ -0,0 +1,245 @@
+package com.odi.apiserver.infrastructure.external.ai.cache;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 프롬프트 MinHash 서명 생성
+ * - 정규화: ChatCacheKey 정규화 후 문자/숫자만 남김 (공백, 문장부호, 이모지, ㅋㅋ 같은 낱자모 차이 무시)
+ * - 한글 음절은 자모로 분해해 어미/조사 한 글자 차이가 음절 전체 차이가 되지 않게 함
+ * - 마지막 단어의 의문/권유형 종결 어미는 떼어 냄 ("어디 갈까?", "어디 가지?", "어디 가나요?"가 모두 "어디 가")
+ * - 3-gram 집합의 MinHash(numHashes개)를 bands개 구간으로 나눠 해시한 값을 LSH 버킷 키로 사용
+ *   (Jaccard 유사도가 높을수록 한 구간 이상 일치해 같은 버킷에 들어갈 확률이 높음)
+ * - 후보는 3-gram 집합의 정확한 Jaccard 유사도로 최종 판정 (MinHash 추정 오차로 임계값 근처가 흔들리지 않게)
+ * - 숫자열("3시", "2명")과 maxTokens는 버킷 키에 섞어 값이 다르면 후보로도 잡히지 않게 함
+ * - 단어 첫머리(한글은 첫 음절) 목록을 함께 남겨, 다른 단어로 바꾼 프롬프트("비 오는 날" / "눈 오는 날")를 걸러냄
+ */
+public final class PromptSigner {
+    private static final int SHINGLE = 3;
+    private static final int HANGUL_BASE = 0xAC00;
+    private static final int HANGUL_LAST = 0xD7A3;
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+    // 띄어 쓴 보조 용언/군말("추천해 주세요", "좀") - 바뀌어도 질문이 달라지지 않으므로 첫머리 비교에서 제외
+    private static final Set<String> AUXILIARY_HEADS = Set.of("주", "줘", "줄", "좀");
+    // 문장 끝에서 떼어 낼 종결 어미 음절 ("요"를 먼저 뗀 뒤 한 음절)
+    private static final String SENTENCE_ENDINGS = "까지니냐나래어아죠";
+    private static final int JONGSEONG_RIEUL = 8;
+
+    private final int numHashes;
+    private final int bands;
+    private final int rows;
+    private final int maxPromptChars;
+    private final long[] seeds;
+
+    public PromptSigner(int numHashes, int bands, int maxPromptChars) {
+        if (bands <= 0 || numHashes < bands || numHashes % bands != 0) {
+            throw new IllegalArgumentException("numHashes는 bands의 배수여야 합니다: " + numHashes + "/" + bands);
+        }
+        this.numHashes = numHashes;
+        this.bands = bands;
+        this.rows = numHashes / bands;
+        this.maxPromptChars = maxPromptChars;
+        this.seeds = new long[numHashes];
+        long seed = 0x5DEECE66DL;
+        for (int i = 0; i < numHashes; i++) {
+            seed = mix(seed + GOLDEN);
+            seeds[i] = seed;
+        }
+    }
+
+    public int numHashes() {
+        return numHashes;
+    }
+
+    public int bands() {
+        return bands;
+    }
+
+    /**
+     * 서명 생성 (비었거나 maxPromptChars보다 길면 null - 유사 캐시 대상 아님)
+     */
+    public PromptSignature sign(String message, Integer maxTokens) {
+        if (message == null || message.length() > maxPromptChars) {
+            return null;
+        }
+        String normalized = ChatCacheKey.normalize(message);
+        StringBuilder text = new StringBuilder(normalized.length());
+        TreeSet<String> heads = new TreeSet<>();
+        int[] units = new int[normalized.length() * 3];
+        int length = 0;
+        long numbers = 0;
+        int wordStart = -1;
+        int wordUnits = 0;
+        // 첫머리는 단어가 끝난 뒤 한 단어 늦게 추가 (마지막 단어는 어미를 뗀 뒤 추가)
+        int lastWordStart = -1;
+        int lastWordUnits = 0;
+        for (int i = 0; i <= normalized.length(); ) {
+            int codePoint = i < normalized.length() ? normalized.codePointAt(i) : ' ';
+            i += i < normalized.length() ? Character.charCount(codePoint) : 1;
+            if (!isWordCharacter(codePoint)) {
+                if (wordStart >= 0) {
+                    if (lastWordStart >= 0) {
+                        addHead(heads, text, lastWordStart);
+                    }
+                    lastWordStart = wordStart;
+                    lastWordUnits = wordUnits;
+                    wordStart = -1;
+                }
+                continue;
+            }
+            if (Character.isDigit(codePoint)) {
+                numbers = mix(numbers ^ (wordStart >= 0 && Character.isDigit(text.codePointBefore(text.length()))
+                        ? codePoint : codePoint + 0x10000L));
+            }
+            if (wordStart < 0) {
+                wordStart = text.length();
+                wordUnits = length;
+            }
+            text.appendCodePoint(codePoint);
+            length = decompose(codePoint, units, length);
+        }
+        if (length == 0) {
+            return null;
+        }
+        if (trimSentenceEnding(text, lastWordStart)) {
+            length = lastWordUnits;
+            for (int i = lastWordStart; i < text.length(); ) {
+                int codePoint = text.codePointAt(i);
+                length = decompose(codePoint, units, length);
+                i += Character.charCount(codePoint);
+            }
+        }
+        addHead(heads, text, lastWordStart);
+
+        // 중복 제거한 3-gram 해시 (정확한 Jaccard 비교용) + 해시 함수별 최솟값 (버킷 키용)
+        int count = Math.max(1, length - SHINGLE + 1);
+        long[] shingles = new long[count];
+        for (int s = 0; s < count; s++) {
+            // 코드 포인트는 21비트라 3개를 그대로 이어 붙여도 충돌 없음
+            long shingle = 0;
+            for (int j = s; j < Math.min(s + SHINGLE, length); j++) {
+                shingle = shingle << 21 | units[j];
+            }
+            shingles[s] = mix(shingle);
+        }
+        Arrays.sort(shingles);
+        int distinct = 0;
+        for (int s = 0; s < count; s++) {
+            if (s == 0 || shingles[s] != shingles[distinct - 1]) {
+                shingles[distinct++] = shingles[s];
+            }
+        }
+        shingles = Arrays.copyOf(shingles, distinct);
+
+        int[] minHashes = new int[numHashes];
+        Arrays.fill(minHashes, Integer.MAX_VALUE);
+        for (long shingle : shingles) {
+            for (int i = 0; i < numHashes; i++) {
+                int value = (int) (mix(shingle ^ seeds[i]) >>> 32);
+                if (value < minHashes[i]) {
+                    minHashes[i] = value;
+                }
+            }
+        }
+
+        int tokens = maxTokens != null ? maxTokens : -1;
+        long[] bandKeys = new long[bands];
+        for (int b = 0; b < bands; b++) {
+            long key = mix(GOLDEN * (b + 1) ^ numbers) ^ tokens;
+            for (int r = 0; r < rows; r++) {
+                key = mix(key ^ (minHashes[b * rows + r] & 0xFFFFFFFFL));
+            }
+            bandKeys[b] = key;
+        }
+        return new PromptSignature(shingles, bandKeys, text.toString(), heads.toArray(new String[0]), numbers, tokens);
+    }
+
+    /**
+     * 한글 음절은 초성/중성/종성(종성 없음은 생략)으로, 그 외는 그대로 units에 추가
+     *
+     * @return 추가 후 길이
+     */
+    private static int decompose(int codePoint, int[] units, int length) {
+        if (isHangulSyllable(codePoint)) {
+            int offset = codePoint - HANGUL_BASE;
+            units[length++] = 0x1100 + offset / 588;
+            units[length++] = 0x1161 + offset % 588 / 28;
+            if (offset % 28 != 0) {
+                units[length++] = 0x11A7 + offset % 28;
+            }
+        } else {
+            units[length++] = codePoint;
+        }
+        return length;
+    }
+
+    /**
+     * 마지막 단어의 종결 어미 제거 (한 음절은 남김)
+     * - "요"를 떼고, 남은 끝 음절이 SENTENCE_ENDINGS면 한 음절 더 뗌
+     * - "ㄹ까"/"ㄹ래"는 앞 음절의 ㄹ 받침도 떼고("갈까" → "가"), "을까"/"을래"는 "을"까지 뗌("먹을까" → "먹")
+     *
+     * @return text를 바꿨으면 true
+     */
+    private static boolean trimSentenceEnding(StringBuilder text, int wordStart) {
+        int end = text.length();
+        if (end - wordStart > 1 && text.charAt(end - 1) == '요') {
+            end--;
+        }
+        if (end - wordStart > 1 && SENTENCE_ENDINGS.indexOf(text.charAt(end - 1)) >= 0) {
+            char ending = text.charAt(--end);
+            char previous = text.charAt(end - 1);
+            if (ending == '까' || ending == '래') {
+                if (previous == '을' && end - wordStart > 1) {
+                    end--;
+                } else if (isHangulSyllable(previous) && (previous - HANGUL_BASE) % 28 == JONGSEONG_RIEUL) {
+                    text.setCharAt(end - 1, (char) (previous - JONGSEONG_RIEUL));
+                }
+            }
+        }
+        if (end == text.length()) {
+            return false;
+        }
+        text.setLength(end);
+        return true;
+    }
+
+    private static void addHead(Set<String> heads, StringBuilder text, int wordStart) {
+        String head = head(text, wordStart);
+        if (!AUXILIARY_HEADS.contains(head)) {
+            heads.add(head);
+        }
+    }
+
+    private static boolean isHangulSyllable(int codePoint) {
+        return codePoint >= HANGUL_BASE && codePoint <= HANGUL_LAST;
+    }
+
+    /**
+     * 문자/숫자만 단어로 취급 (ㅋㅋ, ㅠㅠ 같은 낱자모는 제외)
+     */
+    private static boolean isWordCharacter(int codePoint) {
+        return Character.isLetterOrDigit(codePoint) && !(codePoint >= 0x3131 && codePoint <= 0x318E);
+    }
+
+    /**
+     * 단어 첫머리 - 한글은 첫 음절, 그 외는 앞 두 글자 (조사/어미가 바뀌어도 유지되는 부분)
+     */
+    private static String head(StringBuilder text, int wordStart) {
+        int first = text.codePointAt(wordStart);
+        int end = wordStart + Character.charCount(first);
+        if (!isHangulSyllable(first) && end < text.length()) {
+            end += Character.charCount(text.codePointAt(end));
+        }
+        return text.substring(wordStart, end);
+    }
+
+    /**
+     * SplitMix64 finalizer
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
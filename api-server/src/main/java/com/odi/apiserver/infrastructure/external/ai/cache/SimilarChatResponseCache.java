@@ -0,0 +1,148 @@
+package com.odi.apiserver.infrastructure.external.ai.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.odi.apiserver.domain.ai.ChatMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 유사 프롬프트 응답 캐시 (정확 일치 캐시 다음 단계)
+ * - 띄어쓰기/문장부호/조사·어미만 다른 프롬프트("강남역 근처 맛집 알려줘" / "강남역근처 맛집 알려 줘요")에 저장된 응답 재사용
+ * - 조회: 서명(PromptSigner)의 밴드 키로 LSH 버킷에서 후보를 모으고, Jaccard 유사도가 threshold 이상인 것 중 가장 유사한 응답
+ * - 엔트리는 Caffeine이 크기 가중치/TTL로 관리하고, 축출되면 LSH 버킷에서도 제거 (메모리 상한 유지)
+ * - chat.similarity-cache{result=hit|miss|skipped}로 적중률 확인 (skipped: 비었거나 너무 긴 프롬프트)
+ */
+@Component
+public class SimilarChatResponseCache {
+    // 엔트리당 고정 오버헤드 (객체 헤더, 참조 등 대략치)
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final boolean enabled;
+    private final double threshold;
+    private final PromptSigner signer;
+    private final PromptLshIndex index;
+    private final Cache<Long, Entry> entries;
+    private final AtomicLong ids = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter skipped;
+
+    public SimilarChatResponseCache(MeterRegistry meterRegistry,
+                                    @Value("${external.chat.similarity-cache.enabled:true}") boolean enabled,
+                                    @Value("${external.chat.similarity-cache.threshold:0.8}") double threshold,
+                                    @Value("${external.chat.similarity-cache.num-hashes:64}") int numHashes,
+                                    @Value("${external.chat.similarity-cache.bands:16}") int bands,
+                                    @Value("${external.chat.similarity-cache.bucket-capacity:16}") int bucketCapacity,
+                                    @Value("${external.chat.similarity-cache.max-prompt-chars:500}") int maxPromptChars,
+                                    @Value("${external.chat.similarity-cache.max-weight-bytes:10485760}") long maxWeightBytes,
+                                    @Value("${external.chat.similarity-cache.ttl:5m}") Duration ttl) {
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.signer = new PromptSigner(numHashes, bands, maxPromptChars);
+        this.index = new PromptLshIndex(bucketCapacity);
+        // evictionListener는 축출 스레드에서 동기로 실행되므로 버킷 정리가 축출과 함께 끝남
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((Long id, Entry entry) -> entry.estimatedBytes())
+                .expireAfterWrite(ttl)
+                .evictionListener((Long id, Entry entry, RemovalCause cause) -> {
+                    if (id != null && entry != null) {
+                        index.remove(id, entry.signature().bandKeys());
+                    }
+                })
+                .build();
+
+        this.hits = result(meterRegistry, "hit");
+        this.misses = result(meterRegistry, "miss");
+        this.skipped = result(meterRegistry, "skipped");
+        Gauge.builder("chat.similarity-cache.size", entries, Cache::estimatedSize)
+                .description("유사 캐시에 저장된 응답 수")
+                .register(meterRegistry);
+    }
+
+    private static Counter result(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("chat.similarity-cache")
+                .description("유사 프롬프트 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회와 저장에 같은 서명을 쓰도록 먼저 계산 (대상이 아니거나 비활성화 상태면 null)
+     */
+    public PromptSignature sign(ChatMessage chatMessage) {
+        if (!enabled) {
+            return null;
+        }
+        PromptSignature signature = signer.sign(chatMessage.getMessage(), chatMessage.getMaxTokens());
+        if (signature == null) {
+            skipped.increment();
+        }
+        return signature;
+    }
+
+    /**
+     * 가장 유사한 캐시 응답 (threshold 미만이면 null)
+     */
+    public String get(PromptSignature signature) {
+        if (signature == null) {
+            return null;
+        }
+        Entry best = null;
+        double bestSimilarity = threshold;
+        for (long bandKey : signature.bandKeys()) {
+            for (long id : index.candidates(bandKey)) {
+                Entry entry = entries.getIfPresent(id);
+                if (entry == null || entry == best) {
+                    continue;
+                }
+                double similarity = signature.similarity(entry.signature());
+                if (similarity >= bestSimilarity) {
+                    best = entry;
+                    bestSimilarity = similarity;
+                }
+            }
+        }
+        if (best == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return best.response();
+    }
+
+    public void put(PromptSignature signature, String response) {
+        if (signature == null || response == null || response.isBlank()) {
+            return;
+        }
+        // 버킷 등록을 먼저 해야 바로 축출되더라도 제거가 등록 뒤에 일어남 (버킷에 죽은 ID가 남지 않음)
+        long id = ids.incrementAndGet();
+        index.add(id, signature.bandKeys());
+        entries.put(id, new Entry(signature, response));
+    }
+
+    long estimatedSize() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    int bucketCount() {
+        entries.cleanUp();
+        return index.bucketCount();
+    }
+
+    private record Entry(PromptSignature signature, String response) {
+        int estimatedBytes() {
+            return signature.estimatedBytes() + response.length() * 2 + ENTRY_OVERHEAD_BYTES;
+        }
+    }
+}
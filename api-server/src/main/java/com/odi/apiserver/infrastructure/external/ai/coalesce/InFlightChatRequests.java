@@ -0,0 +1,52 @@
+package com.odi.apiserver.infrastructure.external.ai.coalesce;
+
+import com.odi.apiserver.common.concurrent.SingleFlight;
+import com.odi.apiserver.common.deadline.RequestDeadline;
+import com.odi.apiserver.infrastructure.external.ai.cache.ChatCacheKey;
+import com.odi.apiserver.infrastructure.external.ai.dto.ExternalChatResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * 동일 프롬프트의 진행 중(in-flight) 요청 합치기 (single-flight)
+ * - 같은 키로 동시에 들어온 요청은 하나의 upstream 호출을 공유 (SingleFlight)
+ * - 구독자 수를 참조 카운팅하여, 마지막 구독자가 떠날 때만 upstream 호출을 취소
+ * - 결과는 호출이 끝날 때까지 보관해 늦게 합류한 요청에도 전달하고, 끝나면 목록에서 제거
+ *   (이후 요청은 캐시 또는 새 호출로 처리)
+ * - upstream 호출은 첫 구독자의 Context로 실행하되 요청 기한은 빼고 보냄 (첫 요청의 기한으로 ai-server가 504를 내면
+ *   기한이 더 긴 합류 요청까지 실패하므로) - 각 요청은 자기 기한에 떠나고, 모두 떠나면 호출이 취소됨
+ */
+@Component
+public class InFlightChatRequests {
+    private final boolean enabled;
+    private final SingleFlight<ChatCacheKey, ExternalChatResponse> flights = new SingleFlight<>();
+
+    public InFlightChatRequests(@Value("${external.chat.coalescing.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Mono<ExternalChatResponse> execute(ChatCacheKey key, Supplier<Mono<ExternalChatResponse>> upstream) {
+        if (!enabled) {
+            return upstream.get();
+        }
+        return flights.execute(key, () -> upstream.get()
+                .contextWrite(context -> context.delete(RequestDeadline.CONTEXT_KEY)));
+    }
+
+    /**
+     * 현재 진행 중인 고유 upstream 호출 수
+     */
+    public int inFlightCount() {
+        return flights.size();
+    }
+
+    /**
+     * 기존 호출에 합류한 누적 요청 수
+     */
+    public long coalescedCount() {
+        return flights.joinedCount();
+    }
+}
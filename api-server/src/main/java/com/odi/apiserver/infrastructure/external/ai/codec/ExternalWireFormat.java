@@ -0,0 +1,92 @@
+package com.odi.apiserver.infrastructure.external.ai.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * api-server ↔ ai-server 본문 인코딩 협상 (external.chat.wire-format)
+ * - cbor: Accept에 CBOR를 JSON보다 앞에 두어 응답을 CBOR로 받고, ai-server가 CBOR로 답한 뒤부터 요청 본문도 CBOR로 보냄
+ * - CBOR를 모르는 ai-server는 JSON으로 답하므로 요청도 계속 JSON (별도 설정 없이 JSON으로 폴백)
+ * - CBOR 요청이 415/422로 거절되면(ai-server 롤백 등) 그 요청은 JSON으로 다시 보내고, 다시 CBOR 응답을 받을 때까지 JSON 유지
+ * - 스트리밍(SSE)은 항상 JSON
+ */
+@Component
+@Slf4j
+public class ExternalWireFormat {
+    private final boolean cborEnabled;
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+    private final MediaType[] accept;
+
+    // 마지막 성공 응답이 CBOR였는지 (ai-server가 CBOR 요청 본문도 읽을 수 있다는 신호)
+    private volatile boolean upstreamSpeaksCbor;
+
+    public ExternalWireFormat(Jackson2ObjectMapperBuilder objectMapperBuilder,
+                              ObjectMapper jsonMapper,
+                              @Value("${external.chat.wire-format:cbor}") String wireFormat) {
+        this.cborEnabled = "cbor".equalsIgnoreCase(wireFormat);
+        this.jsonMapper = jsonMapper;
+        // 애플리케이션 ObjectMapper와 같은 설정(알 수 없는 필드 무시 등)에 팩토리만 CBOR
+        this.cborMapper = objectMapperBuilder.factory(new CBORFactory()).build();
+        this.accept = cborEnabled
+                ? new MediaType[]{MediaType.APPLICATION_CBOR, MediaType.APPLICATION_JSON}
+                : new MediaType[]{MediaType.APPLICATION_JSON};
+        log.info("External chat wire format: {}", cborEnabled ? "cbor (json fallback)" : "json");
+    }
+
+    public ObjectMapper cborMapper() {
+        return cborMapper;
+    }
+
+    /**
+     * 본문 형식에 맞는 ObjectMapper (CBOR가 아니면 JSON)
+     */
+    public ObjectMapper mapper(MediaType contentType) {
+        return isCbor(contentType) ? cborMapper : jsonMapper;
+    }
+
+    public MediaType requestContentType() {
+        return cborEnabled && upstreamSpeaksCbor ? MediaType.APPLICATION_CBOR : MediaType.APPLICATION_JSON;
+    }
+
+    public MediaType[] accept() {
+        return accept.clone();
+    }
+
+    /**
+     * 성공 응답의 Content-Type으로 ai-server의 CBOR 지원 여부 갱신
+     */
+    public void responded(MediaType contentType) {
+        if (!cborEnabled) {
+            return;
+        }
+        boolean cbor = isCbor(contentType);
+        if (cbor != upstreamSpeaksCbor) {
+            upstreamSpeaksCbor = cbor;
+            log.info("External chat request body switched to {}", cbor ? "cbor" : "json");
+        }
+    }
+
+    /**
+     * 보낸 본문이 415/422로 거절됐을 때 JSON으로 다시 보낼지 (CBOR로 보낸 경우만 true)
+     */
+    public boolean rejected(MediaType sentContentType) {
+        if (!isCbor(sentContentType)) {
+            return false;
+        }
+        if (upstreamSpeaksCbor) {
+            upstreamSpeaksCbor = false;
+            log.warn("External chat server rejected cbor request body, falling back to json");
+        }
+        return true;
+    }
+
+    private static boolean isCbor(MediaType contentType) {
+        return contentType != null && MediaType.APPLICATION_CBOR.isCompatibleWith(contentType);
+    }
+}
@@ -0,0 +1,28 @@
+package com.odi.apiserver.infrastructure.external.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ExternalChatBatchRequest {
+    @JsonProperty("items")
+    private final List<Item> items;
+
+    @Getter
+    @Builder
+    public static class Item {
+        // 배치 응답을 요청별로 나누기 위한 식별자
+        @JsonProperty("request_id")
+        private final String requestId;
+
+        @JsonProperty("message")
+        private final String message;
+
+        @JsonProperty("max_tokens")
+        private final Integer maxTokens;
+    }
+}
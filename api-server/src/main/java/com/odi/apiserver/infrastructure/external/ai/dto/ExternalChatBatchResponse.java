@@ -0,0 +1,32 @@
+package com.odi.apiserver.infrastructure.external.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class ExternalChatBatchResponse {
+    @JsonProperty("results")
+    private List<Result> results;
+
+    @Getter
+    @NoArgsConstructor
+    public static class Result {
+        @JsonProperty("request_id")
+        private String requestId;
+
+        @JsonProperty("response")
+        private String response;
+
+        // 항목별 토큰 사용량 (chat.tokens.used 집계용, 없으면 null)
+        @JsonProperty("usage")
+        private ExternalChatResponse.Usage usage;
+
+        // 항목 단위 실패 사유 (성공 시 null)
+        @JsonProperty("error")
+        private String error;
+    }
+}
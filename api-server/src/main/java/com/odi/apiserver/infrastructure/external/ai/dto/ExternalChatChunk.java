@@ -0,0 +1,20 @@
+package com.odi.apiserver.infrastructure.external.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스트리밍 응답(SSE)의 이벤트 한 건
+ * - token 이벤트: content에 생성된 조각
+ * - error 이벤트: message에 오류 내용
+ */
+@Getter
+@NoArgsConstructor
+public class ExternalChatChunk {
+    @JsonProperty("content")
+    private String content;
+
+    @JsonProperty("message")
+    private String message;
+}
@@ -1,5 +1,6 @@
 package com.odi.apiserver.infrastructure.external.ai.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,6 +14,7 @@ public class ExternalChatRequest {
     @JsonProperty("max_tokens")
     private final Integer maxTokens;
 
-    // 내부 식별용 (외부 API에 전송하지 않음)
+    // 내부 식별용 (본문에는 싣지 않고 X-Request-Id 헤더로 전달)
+    @JsonIgnore
     private final String requestId;
 }
@@ -1,17 +1,20 @@
 package com.odi.apiserver.infrastructure.external.ai.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
 public class ExternalChatResponse {
     @JsonProperty("response")
     private String response;
 
     @JsonProperty("usage")
-    private String usage;
+    private Usage usage;
 
     /**
      * 응답이 성공인지 확인
@@ -29,4 +32,26 @@ public class ExternalChatResponse {
         }
         return null;
     }
+
+    /**
+     * 생성에 사용된 토큰 수 - max_tokens와 비교 가능한 completion 기준 (usage가 없으면 null)
+     */
+    public Integer getTokensUsed() {
+        return usage != null ? usage.getCompletionTokens() : null;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Usage {
+        @JsonProperty("prompt_tokens")
+        private Integer promptTokens;
+
+        @JsonProperty("completion_tokens")
+        private Integer completionTokens;
+
+        @JsonProperty("total_tokens")
+        private Integer totalTokens;
+    }
 }
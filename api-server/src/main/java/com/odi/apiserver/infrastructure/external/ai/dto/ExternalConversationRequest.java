@@ -0,0 +1,28 @@
+package com.odi.apiserver.infrastructure.external.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * ai-server /api/v1/chat/conversation 요청 (messages는 오래된 순, 마지막이 이번 사용자 메시지)
+ */
+@Getter
+@Builder
+public class ExternalConversationRequest {
+    @JsonProperty("messages")
+    private final List<Message> messages;
+
+    @JsonProperty("max_tokens")
+    private final Integer maxTokens;
+
+    // 내부 식별용 (본문에는 싣지 않고 X-Request-Id 헤더로 전달)
+    @JsonIgnore
+    private final String requestId;
+
+    public record Message(@JsonProperty("role") String role, @JsonProperty("content") String content) {
+    }
+}
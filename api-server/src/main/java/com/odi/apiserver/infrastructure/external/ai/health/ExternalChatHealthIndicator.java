@@ -0,0 +1,32 @@
+package com.odi.apiserver.infrastructure.external.ai.health;
+
+import com.odi.apiserver.application.port.out.ExternalChatPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.ReactiveHealthIndicator;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * ai-server 연결 상태 health indicator ("externalChat")
+ * - 스크레이프/프로브마다 ai-server를 호출하지 않도록 결과를 cache-ttl 동안 재사용
+ */
+@Component("externalChat")
+public class ExternalChatHealthIndicator implements ReactiveHealthIndicator {
+    private final Mono<Health> cachedHealth;
+
+    public ExternalChatHealthIndicator(ExternalChatPort externalChatPort,
+                                       @Value("${external.chat.health.cache-ttl:10s}") Duration cacheTtl) {
+        this.cachedHealth = Mono.defer(externalChatPort::healthCheck)
+                .map(healthy -> (healthy ? Health.up() : Health.down()).build())
+                .onErrorResume(error -> Mono.just(Health.down(error).build()))
+                .cache(cacheTtl);
+    }
+
+    @Override
+    public Mono<Health> health() {
+        return cachedHealth;
+    }
+}
@@ -0,0 +1,154 @@
+package com.odi.apiserver.infrastructure.external.ai.limit;
+
+import com.odi.apiserver.common.exception.BusinessException;
+import com.odi.apiserver.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.handler.timeout.ReadTimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ai-server 호출 적응형 동시성 제한 (AIMD)
+ * - 응답이 빠르고 한도를 충분히 쓰고 있으면 한도 +1 (가산 증가)
+ * - 느린 응답/타임아웃/5xx는 혼잡 신호로 보고 한도 × backoff-ratio (승산 감소)
+ * - 한도를 넘는 요청은 커넥션 풀에서 기다리지 않고 즉시 EXTERNAL_API_OVERLOADED로 거절
+ */
+@Component
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejectedCounter;
+    private volatile double limit;
+
+    public AdaptiveConcurrencyLimiter(MeterRegistry meterRegistry,
+                                      @Value("${external.chat.concurrency.enabled:true}") boolean enabled,
+                                      @Value("${external.chat.concurrency.initial-limit:20}") int initialLimit,
+                                      @Value("${external.chat.concurrency.min-limit:5}") int minLimit,
+                                      @Value("${external.chat.concurrency.max-limit:100}") int maxLimit,
+                                      @Value("${external.chat.concurrency.latency-threshold:8s}") Duration latencyThreshold,
+                                      @Value("${external.chat.concurrency.backoff-ratio:0.9}") double backoffRatio) {
+        this.enabled = enabled;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+
+        Gauge.builder("external.chat.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("현재 ai-server 동시 호출 한도")
+                .register(meterRegistry);
+        Gauge.builder("external.chat.concurrency.in-flight", inFlight, AtomicInteger::get)
+                .description("진행 중인 ai-server 호출 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("external.chat.concurrency.rejected")
+                .description("동시성 한도 초과로 거절된 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 단건 호출에 한도 적용 + 지연 시간 샘플링
+     */
+    public <T> Mono<T> limit(Mono<T> call) {
+        if (!enabled) {
+            return call;
+        }
+        return Mono.defer(() -> {
+            if (!tryAcquire()) {
+                return Mono.error(reject());
+            }
+            long start = System.nanoTime();
+            return call
+                    .doOnSuccess(result -> onSample(System.nanoTime() - start, false))
+                    .doOnError(error -> {
+                        if (isCongestionSignal(error)) {
+                            onSample(System.nanoTime() - start, true);
+                        }
+                    })
+                    .doFinally(signal -> inFlight.decrementAndGet());
+        });
+    }
+
+    /**
+     * 스트리밍 호출에 한도 적용 (길이가 응답 크기에 좌우되므로 지연 샘플링은 하지 않음)
+     */
+    public <T> Flux<T> limitStream(Flux<T> call) {
+        if (!enabled) {
+            return call;
+        }
+        return Flux.defer(() -> {
+            if (!tryAcquire()) {
+                return Flux.error(reject());
+            }
+            return call.doFinally(signal -> inFlight.decrementAndGet());
+        });
+    }
+
+    public double getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private BusinessException reject() {
+        rejectedCounter.increment();
+        log.debug("External chat request rejected: inFlight={}, limit={}", inFlight.get(), (int) limit);
+        return new BusinessException(ErrorCode.EXTERNAL_API_OVERLOADED);
+    }
+
+    private synchronized void onSample(long latencyNanos, boolean dropped) {
+        double current = limit;
+        double next;
+        if (dropped || latencyNanos > latencyThresholdNanos) {
+            next = Math.max(minLimit, current * backoffRatio);
+        } else if (inFlight.get() * 2 >= current) {
+            // 한도의 절반 이상을 쓰고 있을 때만 증가 (유휴 상태에서 한도가 무한정 커지는 것 방지)
+            next = Math.min(maxLimit, current + 1);
+        } else {
+            return;
+        }
+        if ((int) next != (int) current) {
+            log.debug("External chat concurrency limit changed: {} -> {}", (int) current, (int) next);
+        }
+        limit = next;
+    }
+
+    private boolean isCongestionSignal(Throwable error) {
+        if (error instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError();
+        }
+        return error instanceof TimeoutException
+                || error instanceof ReadTimeoutException
+                || error instanceof WebClientRequestException;
+    }
+}
@@ -0,0 +1,165 @@
+package com.odi.apiserver.infrastructure.external.ai.resilience;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.odi.apiserver.common.deadline.RequestDeadline;
+import com.odi.apiserver.common.exception.BusinessException;
+import com.odi.apiserver.common.exception.ErrorCode;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.handler.timeout.ReadTimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+import reactor.util.retry.RetryBackoffSpec;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * ai-server 호출 장애 대응 정책
+ * - 재시도: 요청이 처리되지 않았다고 볼 수 있는 실패(연결 실패, 502/503/504)만 지수 백오프 + 지터로 재시도
+ * - 재시도 예산: RetryBudget 잔액이 있을 때만 재시도
+ * - 요청 기한: ai-server가 기한 초과로 돌려준 504는 DEADLINE_EXCEEDED로 바꿔 재시도/서킷 브레이커 집계에서 제외하고,
+ *   기한이 이미 지난 요청은 재시도하지 않음
+ * - 서킷 브레이커(resilience4j): 열린 동안은 upstream 호출 없이 즉시 실패, half-open에서 일부 요청으로 회복 확인
+ */
+@Component
+@Slf4j
+public class ExternalChatResilience {
+    public static final String CIRCUIT_BREAKER_NAME = "externalChat";
+    private static final String UPSTREAM_DEADLINE_EXCEEDED = "DEADLINE_EXCEEDED";
+
+    private final ObjectMapper objectMapper;
+
+    private final CircuitBreaker circuitBreaker;
+    private final RetryBudget retryBudget;
+    private final RetryBackoffSpec retrySpec;
+    private final Counter budgetExhaustedCounter;
+
+    public ExternalChatResilience(CircuitBreakerRegistry circuitBreakerRegistry,
+                                  MeterRegistry meterRegistry,
+                                  ObjectMapper objectMapper,
+                                  @Value("${external.chat.retry.max-attempts:3}") int maxAttempts,
+                                  @Value("${external.chat.retry.delay:1s}") Duration delay,
+                                  @Value("${external.chat.retry.max-delay:5s}") Duration maxDelay,
+                                  @Value("${external.chat.retry.jitter:0.5}") double jitter,
+                                  @Value("${external.chat.retry.budget.deposit-ratio:0.1}") double depositRatio,
+                                  @Value("${external.chat.retry.budget.max-tokens:10}") int maxTokens) {
+        this.objectMapper = objectMapper;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+        this.retryBudget = new RetryBudget(depositRatio, maxTokens);
+        this.budgetExhaustedCounter = Counter.builder("external.chat.retry.budget.exhausted")
+                .description("재시도 예산 부족으로 재시도하지 않은 실패 수")
+                .register(meterRegistry);
+        Gauge.builder("external.chat.retry.budget.balance", retryBudget, RetryBudget::getBalance)
+                .description("남은 재시도 예산")
+                .register(meterRegistry);
+
+        this.retrySpec = Retry.backoff(Math.max(0, maxAttempts - 1), delay)
+                .maxBackoff(maxDelay)
+                .jitter(jitter)
+                .filter(this::shouldRetry)
+                .doBeforeRetry(signal -> log.warn("Retrying external chat request: attempt={}, cause={}",
+                        signal.totalRetries() + 1, signal.failure().toString()))
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+
+        circuitBreaker.getEventPublisher()
+                .onStateTransition(event -> log.warn("External chat circuit breaker: {}",
+                        event.getStateTransition()));
+    }
+
+    /**
+     * 단건 호출: upstream 기한 초과 변환 → 서킷 브레이커(시도 단위) → 재시도(기한 안에서만) → 예외 변환
+     */
+    public <T> Mono<T> decorate(Mono<T> attempt) {
+        return Mono.deferContextual(context -> {
+            RequestDeadline deadline = RequestDeadline.current(context);
+            return attempt
+                    .onErrorMap(this::isUpstreamDeadlineExceeded, ExternalChatResilience::deadlineExceeded)
+                    .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                    .retryWhen(deadline == null ? retrySpec : retrySpec.modifyErrorFilter(
+                            filter -> error -> !deadline.isExpired() && filter.test(error)))
+                    .doOnSuccess(result -> retryBudget.onSuccess())
+                    .onErrorMap(this::translate);
+        });
+    }
+
+    /**
+     * 스트리밍 호출: 일부 응답이 이미 전달됐을 수 있으므로 재시도 없이 서킷 브레이커만 적용
+     */
+    public <T> Flux<T> decorateStream(Flux<T> call) {
+        return call
+                .onErrorMap(this::isUpstreamDeadlineExceeded, ExternalChatResilience::deadlineExceeded)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .onErrorMap(this::translate);
+    }
+
+    private boolean shouldRetry(Throwable error) {
+        if (!isRetryable(error)) {
+            return false;
+        }
+        if (!retryBudget.tryWithdraw()) {
+            budgetExhaustedCounter.increment();
+            return false;
+        }
+        return true;
+    }
+
+    private boolean isRetryable(Throwable error) {
+        if (error instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            return status == 502 || status == 503 || status == 504;
+        }
+        // 응답을 기다리다 끊긴 경우(read timeout)는 이미 생성 중일 수 있으므로 재시도하지 않음
+        return error instanceof WebClientRequestException && !(error.getCause() instanceof ReadTimeoutException);
+    }
+
+    private boolean isUpstreamDeadlineExceeded(Throwable error) {
+        return error instanceof WebClientResponseException responseException
+                && isUpstreamDeadlineExceeded(responseException.getStatusCode().value(),
+                        responseException.getResponseBodyAsByteArray());
+    }
+
+    /**
+     * ai-server가 요청 기한(X-Request-Timeout-Ms) 초과로 돌려준 504인지 (error_code로 구분, 게이트웨이 504는 해당 없음)
+     * - 블로킹 모드(BlockingExternalChatAdapter)도 같은 기준으로 구분
+     */
+    public boolean isUpstreamDeadlineExceeded(int status, byte[] body) {
+        if (status != 504 || body == null || body.length == 0) {
+            return false;
+        }
+        try {
+            return UPSTREAM_DEADLINE_EXCEEDED.equals(objectMapper.readTree(body)
+                    .path("error_code").asText(null));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static Throwable deadlineExceeded(Throwable error) {
+        return new BusinessException(ErrorCode.DEADLINE_EXCEEDED, error);
+    }
+
+    private Throwable translate(Throwable error) {
+        if (error instanceof CallNotPermittedException) {
+            return new BusinessException(ErrorCode.EXTERNAL_API_ERROR, "외부 API 장애로 요청을 일시적으로 차단했습니다.");
+        }
+        if (error instanceof TimeoutException
+                || error instanceof ReadTimeoutException
+                || error.getCause() instanceof ReadTimeoutException) {
+            return new BusinessException(ErrorCode.EXTERNAL_API_TIMEOUT, error);
+        }
+        return error;
+    }
+}
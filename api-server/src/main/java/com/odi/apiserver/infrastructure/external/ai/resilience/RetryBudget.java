@@ -0,0 +1,46 @@
+package com.odi.apiserver.infrastructure.external.ai.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재시도 예산 (token bucket)
+ * - 성공 1건마다 depositRatio 만큼 적립, 재시도 1회마다 1개 차감
+ * - 장애 시 재시도가 전체 부하를 (1 + depositRatio) 배 이상으로 키우지 못하게 제한
+ * - 정수(1/1000 단위) CAS로 동작하여 락 없이 동시 사용 가능
+ */
+public class RetryBudget {
+    private static final long SCALE = 1000;
+
+    private final long depositMillis;
+    private final long maxMillis;
+    private final AtomicLong balanceMillis;
+
+    public RetryBudget(double depositRatio, int maxTokens) {
+        this.depositMillis = Math.round(depositRatio * SCALE);
+        this.maxMillis = maxTokens * SCALE;
+        this.balanceMillis = new AtomicLong(maxMillis);
+    }
+
+    public void onSuccess() {
+        balanceMillis.accumulateAndGet(depositMillis, (current, deposit) -> Math.min(maxMillis, current + deposit));
+    }
+
+    /**
+     * 재시도 1회분 차감 (잔액이 부족하면 false)
+     */
+    public boolean tryWithdraw() {
+        while (true) {
+            long current = balanceMillis.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (balanceMillis.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    public double getBalance() {
+        return (double) balanceMillis.get() / SCALE;
+    }
+}
@@ -1,8 +1,10 @@
 package com.odi.apiserver.infrastructure.external.mapper;
 
 import com.odi.apiserver.domain.ai.ChatMessage;
+import com.odi.apiserver.domain.ai.conversation.ConversationContext;
 import com.odi.apiserver.infrastructure.external.ai.dto.ExternalChatRequest;
 import com.odi.apiserver.infrastructure.external.ai.dto.ExternalChatResponse;
+import com.odi.apiserver.infrastructure.external.ai.dto.ExternalConversationRequest;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -15,9 +17,22 @@ public class ChatMessageMapper {
                 .build();
     }
 
+    public ExternalConversationRequest toExternalConversationRequest(ChatMessage chatMessage,
+                                                                    ConversationContext context) {
+        return ExternalConversationRequest.builder()
+                .messages(context.turns().stream()
+                        .map(turn -> new ExternalConversationRequest.Message(
+                                turn.getRole().getValue(), turn.getContent()))
+                        .toList())
+                .maxTokens(chatMessage.getMaxTokens())
+                .requestId(chatMessage.getRequestId())
+                .build();
+    }
+
     public ChatMessage toDomainWithResponse(ChatMessage originalMessage, ExternalChatResponse response) {
         return originalMessage.withResponse(
-                response.getResponse()
+                response.getResponse(),
+                response.getTokensUsed()
         );
     }
 }
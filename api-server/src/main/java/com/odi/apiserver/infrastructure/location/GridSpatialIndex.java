@@ -0,0 +1,293 @@
+package com.odi.apiserver.infrastructure.location;
+
+import com.odi.apiserver.domain.location.GeoDistance;
+import com.odi.apiserver.domain.location.NearbyPlace;
+import com.odi.apiserver.domain.location.entity.Place;
+import com.odi.apiserver.domain.location.entity.PlaceCategory;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 위경도 격자 기반 장소 인덱스 (불변 스냅샷)
+ * - 지구를 cellDegrees 간격 격자로 나누고, 장소를 셀 번호(행 우선) 순으로 정렬해 primitive 배열에 나란히 저장
+ *   (장소당 객체 없이 배열 몇 개만 사용, 같은 셀/행의 장소가 메모리상 연속이라 스캔이 캐시 친화적)
+ * - 반경 검색: 검색 원을 감싸는 위경도 범위의 행마다 이진 탐색으로 셀 구간을 찾아 순차 스캔
+ * - haversine 비교는 asin/sqrt 없이 중간값(a)으로 하고, 거리는 결과에 대해서만 계산
+ * - k-NN: 반경을 두 배씩 넓혀 가며 반경 검색 (반경 안에서 k개를 찾으면 그 k개가 최근접임이 보장됨)
+ * - 불변이므로 여러 스레드가 락 없이 동시에 조회 가능 (갱신은 새 스냅샷을 만들어 교체)
+ */
+public final class GridSpatialIndex {
+    private static final double DEG_TO_RAD = Math.PI / 180.0;
+    private static final double RAD_TO_DEG = 180.0 / Math.PI;
+    private static final double R = GeoDistance.EARTH_RADIUS_METERS;
+    private static final PlaceCategory[] CATEGORIES = PlaceCategory.values();
+
+    private final double cellDegrees;
+    private final int rows;
+    private final int columns;
+
+    // 셀 번호 순으로 정렬된 병렬 배열
+    private final int[] cellKeys;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final double[] cosLatitudes;
+    private final byte[] categories;
+    private final long[] ids;
+    private final String[] names;
+
+    private GridSpatialIndex(double cellDegrees, int size) {
+        this.cellDegrees = cellDegrees;
+        this.rows = (int) Math.ceil(180.0 / cellDegrees);
+        this.columns = (int) Math.ceil(360.0 / cellDegrees);
+        if ((long) rows * columns > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("격자 셀이 너무 작습니다: " + cellDegrees);
+        }
+        this.cellKeys = new int[size];
+        this.latitudes = new double[size];
+        this.longitudes = new double[size];
+        this.cosLatitudes = new double[size];
+        this.categories = new byte[size];
+        this.ids = new long[size];
+        this.names = new String[size];
+    }
+
+    public static GridSpatialIndex empty(double cellDegrees) {
+        return new GridSpatialIndex(cellDegrees, 0);
+    }
+
+    public static GridSpatialIndex build(Collection<Place> places, double cellDegrees) {
+        Place[] source = places.toArray(new Place[0]);
+        GridSpatialIndex index = new GridSpatialIndex(cellDegrees, source.length);
+
+        // (셀 번호 << 32 | 원래 위치)를 정렬해 객체 비교 없이 셀 순서 결정
+        long[] order = new long[source.length];
+        for (int i = 0; i < source.length; i++) {
+            long key = index.cellKey(source[i].getLatitude(), source[i].getLongitude());
+            order[i] = key << 32 | i;
+        }
+        Arrays.sort(order);
+
+        for (int i = 0; i < order.length; i++) {
+            Place place = source[(int) order[i]];
+            index.cellKeys[i] = (int) (order[i] >>> 32);
+            index.latitudes[i] = place.getLatitude();
+            index.longitudes[i] = place.getLongitude();
+            index.cosLatitudes[i] = Math.cos(place.getLatitude() * DEG_TO_RAD);
+            index.categories[i] = (byte) place.getCategory().ordinal();
+            index.ids[i] = place.getId();
+            index.names[i] = place.getName();
+        }
+        return index;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public double cellDegrees() {
+        return cellDegrees;
+    }
+
+    /**
+     * 반경 내 장소를 가까운 순으로 최대 limit개
+     */
+    public List<NearbyPlace> withinRadius(double latitude, double longitude, double radiusMeters,
+                                         int limit, long categoryMask) {
+        TopK top = new TopK(limit);
+        search(latitude, longitude, radiusMeters, categoryMask, top);
+        return top.drain(this);
+    }
+
+    /**
+     * 가장 가까운 장소 k개 (maxRadiusMeters 밖은 찾지 않음)
+     */
+    public List<NearbyPlace> nearest(double latitude, double longitude, int k, long categoryMask,
+                                     double maxRadiusMeters) {
+        TopK top = new TopK(k);
+        double radius = Math.min(cellDegrees * GeoDistance.METERS_PER_DEGREE, maxRadiusMeters);
+        while (true) {
+            top.clear();
+            search(latitude, longitude, radius, categoryMask, top);
+            if (top.size == k || radius >= maxRadiusMeters) {
+                return top.drain(this);
+            }
+            radius = Math.min(radius * 2, maxRadiusMeters);
+        }
+    }
+
+    private void search(double latitude, double longitude, double radiusMeters, long categoryMask, TopK top) {
+        if (ids.length == 0 || top.capacity == 0) {
+            return;
+        }
+        double angular = radiusMeters / R;
+        double sinHalf = Math.sin(Math.min(angular, Math.PI) / 2);
+        double threshold = sinHalf * sinHalf;
+        double cosLat = Math.cos(latitude * DEG_TO_RAD);
+
+        double latRadius = angular * RAD_TO_DEG;
+        double minLat = latitude - latRadius;
+        double maxLat = latitude + latRadius;
+        int rowFrom = row(Math.max(minLat, -90.0));
+        int rowTo = row(Math.min(maxLat, 90.0));
+
+        // 검색 원을 감싸는 경도 폭: asin(sin(r) / cos(lat)) - 극을 포함하거나 폭이 360도를 넘으면 전체
+        double lonRadius = Double.POSITIVE_INFINITY;
+        if (minLat > -90.0 && maxLat < 90.0) {
+            double s = Math.sin(angular) / cosLat;
+            if (angular < Math.PI / 2 && s < 1.0) {
+                lonRadius = Math.asin(s) * RAD_TO_DEG;
+            }
+        }
+
+        for (int row = rowFrom; row <= rowTo; row++) {
+            if (lonRadius >= 180.0) {
+                scan(row, 0, columns - 1, latitude, longitude, cosLat, threshold, categoryMask, top);
+                continue;
+            }
+            double minLon = longitude - lonRadius;
+            double maxLon = longitude + lonRadius;
+            if (minLon < -180.0) {
+                scan(row, column(minLon + 360.0), columns - 1, latitude, longitude, cosLat, threshold, categoryMask, top);
+                scan(row, 0, column(maxLon), latitude, longitude, cosLat, threshold, categoryMask, top);
+            } else if (maxLon > 180.0) {
+                scan(row, column(minLon), columns - 1, latitude, longitude, cosLat, threshold, categoryMask, top);
+                scan(row, 0, column(maxLon - 360.0), latitude, longitude, cosLat, threshold, categoryMask, top);
+            } else {
+                scan(row, column(minLon), column(maxLon), latitude, longitude, cosLat, threshold, categoryMask, top);
+            }
+        }
+    }
+
+    private void scan(int row, int columnFrom, int columnTo, double latitude, double longitude, double cosLat,
+                      double threshold, long categoryMask, TopK top) {
+        int base = row * columns;
+        int to = lowerBound(base + columnTo + 1);
+        for (int i = lowerBound(base + columnFrom); i < to; i++) {
+            if ((categoryMask >>> categories[i] & 1L) == 0) {
+                continue;
+            }
+            double sinLat = Math.sin((latitudes[i] - latitude) * DEG_TO_RAD / 2);
+            double sinLon = Math.sin((longitudes[i] - longitude) * DEG_TO_RAD / 2);
+            double a = sinLat * sinLat + cosLat * cosLatitudes[i] * sinLon * sinLon;
+            if (a <= threshold) {
+                top.offer(a, i);
+            }
+        }
+    }
+
+    private int lowerBound(int key) {
+        int low = 0;
+        int high = cellKeys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cellKeys[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int cellKey(double latitude, double longitude) {
+        return row(latitude) * columns + column(longitude);
+    }
+
+    private int row(double latitude) {
+        return Math.clamp((long) Math.floor((latitude + 90.0) / cellDegrees), 0, rows - 1);
+    }
+
+    private int column(double longitude) {
+        return Math.clamp((long) Math.floor((longitude + 180.0) / cellDegrees), 0, columns - 1);
+    }
+
+    private NearbyPlace toNearbyPlace(int i, double a) {
+        return NearbyPlace.builder()
+                .placeId(ids[i])
+                .name(names[i])
+                .category(CATEGORIES[categories[i]])
+                .latitude(latitudes[i])
+                .longitude(longitudes[i])
+                .distanceMeters(2 * R * Math.asin(Math.min(1.0, Math.sqrt(a))))
+                .build();
+    }
+
+    /**
+     * haversine 중간값(a) 기준 상위 k개를 유지하는 최대 힙 (primitive 배열)
+     */
+    private static final class TopK {
+        private final int capacity;
+        private final double[] keys;
+        private final int[] positions;
+        private int size;
+
+        private TopK(int capacity) {
+            this.capacity = Math.max(0, capacity);
+            this.keys = new double[this.capacity];
+            this.positions = new int[this.capacity];
+        }
+
+        private void clear() {
+            size = 0;
+        }
+
+        private void offer(double key, int position) {
+            if (size < capacity) {
+                int i = size++;
+                while (i > 0) {
+                    int parent = (i - 1) >>> 1;
+                    if (keys[parent] >= key) {
+                        break;
+                    }
+                    keys[i] = keys[parent];
+                    positions[i] = positions[parent];
+                    i = parent;
+                }
+                keys[i] = key;
+                positions[i] = position;
+            } else if (key < keys[0]) {
+                siftDown(key, position);
+            }
+        }
+
+        private void siftDown(double key, int position) {
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && keys[child + 1] > keys[child]) {
+                    child++;
+                }
+                if (keys[child] <= key) {
+                    break;
+                }
+                keys[i] = keys[child];
+                positions[i] = positions[child];
+                i = child;
+            }
+            keys[i] = key;
+            positions[i] = position;
+        }
+
+        /**
+         * 가까운 순으로 꺼내 결과 객체 생성 (힙은 비워짐)
+         */
+        private List<NearbyPlace> drain(GridSpatialIndex index) {
+            NearbyPlace[] result = new NearbyPlace[size];
+            while (size > 0) {
+                double key = keys[0];
+                int position = positions[0];
+                size--;
+                result[size] = index.toNearbyPlace(position, key);
+                if (size > 0) {
+                    siftDown(keys[size], positions[size]);
+                }
+            }
+            return Arrays.asList(result);
+        }
+    }
+}
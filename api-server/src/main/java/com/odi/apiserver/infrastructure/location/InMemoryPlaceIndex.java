@@ -0,0 +1,57 @@
+package com.odi.apiserver.infrastructure.location;
+
+import com.odi.apiserver.application.port.out.PlaceSearchPort;
+import com.odi.apiserver.domain.location.NearbyPlace;
+import com.odi.apiserver.domain.location.entity.Place;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 인메모리 주변 장소 검색
+ * - 조회는 volatile 스냅샷(GridSpatialIndex) 하나를 읽기만 하므로 락 없음
+ * - 대량 갱신은 새 스냅샷을 별도로 만든 뒤 참조만 교체 (교체 전까지 조회는 이전 스냅샷으로 계속 처리)
+ */
+@Component
+@Slf4j
+public class InMemoryPlaceIndex implements PlaceSearchPort {
+    private final double cellDegrees;
+    private final double maxRadiusMeters;
+    private volatile GridSpatialIndex snapshot;
+
+    public InMemoryPlaceIndex(MeterRegistry meterRegistry,
+                              @Value("${location.index.cell-degrees:0.01}") double cellDegrees,
+                              @Value("${location.search.max-radius-meters:50000}") double maxRadiusMeters) {
+        this.cellDegrees = cellDegrees;
+        this.maxRadiusMeters = maxRadiusMeters;
+        this.snapshot = GridSpatialIndex.empty(cellDegrees);
+
+        Gauge.builder("location.places", this, index -> index.snapshot.size())
+                .description("주변 검색 인덱스에 적재된 장소 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<NearbyPlace> findNearest(double latitude, double longitude, int k, long categoryMask) {
+        return snapshot.nearest(latitude, longitude, k, categoryMask, maxRadiusMeters);
+    }
+
+    @Override
+    public List<NearbyPlace> findWithinRadius(double latitude, double longitude, double radiusMeters, int limit,
+                                              long categoryMask) {
+        return snapshot.withinRadius(latitude, longitude, Math.min(radiusMeters, maxRadiusMeters), limit, categoryMask);
+    }
+
+    @Override
+    public void replaceAll(Collection<Place> places) {
+        long start = System.nanoTime();
+        GridSpatialIndex next = GridSpatialIndex.build(places, cellDegrees);
+        snapshot = next;
+        log.info("Place index reloaded: places={}, elapsedMs={}", next.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
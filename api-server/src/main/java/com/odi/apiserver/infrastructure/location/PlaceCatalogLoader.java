@@ -0,0 +1,106 @@
+package com.odi.apiserver.infrastructure.location;
+
+import com.odi.apiserver.application.port.out.PlaceSearchPort;
+import com.odi.apiserver.domain.location.entity.Place;
+import com.odi.apiserver.domain.location.entity.PlaceCategory;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 장소 목록 CSV를 읽어 주변 검색 인덱스를 통째로 교체
+ * - 형식: id,category,latitude,longitude,name (첫 줄 헤더, name은 마지막 열이라 쉼표 포함 가능)
+ * - location.places.file이 비어 있으면 적재하지 않음
+ * - reload-interval이 0보다 크면 주기적으로 다시 읽어 스냅샷 교체 (조회는 중단되지 않음)
+ */
+@Component
+@Slf4j
+public class PlaceCatalogLoader {
+    private final PlaceSearchPort placeSearchPort;
+    private final ResourceLoader resourceLoader;
+    private final String location;
+    private final Duration reloadInterval;
+    private Disposable reloading;
+
+    public PlaceCatalogLoader(PlaceSearchPort placeSearchPort,
+                              ResourceLoader resourceLoader,
+                              @Value("${location.places.file:}") String location,
+                              @Value("${location.places.reload-interval:0s}") Duration reloadInterval) {
+        this.placeSearchPort = placeSearchPort;
+        this.resourceLoader = resourceLoader;
+        this.location = location;
+        this.reloadInterval = reloadInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (location.isBlank()) {
+            return;
+        }
+        reload();
+        if (!reloadInterval.isZero() && !reloadInterval.isNegative()) {
+            reloading = Flux.interval(reloadInterval, reloadInterval, Schedulers.boundedElastic())
+                    .subscribe(tick -> reload());
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (reloading != null) {
+            reloading.dispose();
+        }
+    }
+
+    /**
+     * 읽기에 실패하면 기존 스냅샷을 그대로 유지
+     */
+    public void reload() {
+        try {
+            placeSearchPort.replaceAll(read(resourceLoader.getResource(location)));
+        } catch (Exception e) {
+            log.error("Failed to load places from {}", location, e);
+        }
+    }
+
+    static List<Place> read(Resource resource) throws IOException {
+        List<Place> places = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line = reader.readLine(); // 헤더
+            int lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] columns = line.split(",", 5);
+                if (columns.length < 5) {
+                    throw new IOException("잘못된 장소 데이터 (" + lineNumber + "행): " + line);
+                }
+                places.add(Place.of(
+                        Long.parseLong(columns[0].strip()),
+                        columns[4].strip(),
+                        PlaceCategory.valueOf(columns[1].strip()),
+                        Double.parseDouble(columns[2].strip()),
+                        Double.parseDouble(columns[3].strip())));
+            }
+        }
+        return places;
+    }
+}
@@ -0,0 +1,17 @@
+package com.odi.apiserver.infrastructure.persistence.jdbc;
+
+import com.odi.apiserver.application.port.out.ChatHistoryPort;
+import com.odi.apiserver.domain.ai.ChatMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 기록 저장 비활성화 시 사용 (chat.history.enabled=false)
+ */
+@Component
+@ConditionalOnProperty(name = "chat.history.enabled", havingValue = "false", matchIfMissing = true)
+public class NoOpChatHistoryAdapter implements ChatHistoryPort {
+    @Override
+    public void save(ChatMessage chatMessage) {
+    }
+}
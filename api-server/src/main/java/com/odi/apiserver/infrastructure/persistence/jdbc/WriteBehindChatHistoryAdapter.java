@@ -0,0 +1,218 @@
+package com.odi.apiserver.infrastructure.persistence.jdbc;
+
+import com.odi.apiserver.application.port.out.ChatHistoryPort;
+import com.odi.apiserver.domain.ai.ChatMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 기록 write-behind 저장
+ * - save()는 bounded 큐에 넣기만 하고 즉시 반환 (요청 경로에 DB 지연이 섞이지 않음)
+ * - 전용 writer 스레드가 큐를 비우며 JDBC batch insert (최대 batch-size건씩, 한 트랜잭션)
+ * - batch insert가 실패하면 한 번 더 시도하고, 그래도 실패하면 한 건씩 넣어 문제 있는 기록만 버림
+ * - 큐가 가득 차면 overflow 정책에 따라 새 기록(drop-newest) 또는 가장 오래된 기록(drop-oldest)을 버림
+ * - 종료 시 shutdown-timeout 안에서 남은 기록을 모두 flush
+ */
+@Component
+@ConditionalOnProperty(name = "chat.history.enabled", havingValue = "true")
+@Slf4j
+public class WriteBehindChatHistoryAdapter implements ChatHistoryPort {
+    static final String INSERT_SQL = "INSERT INTO chat_history "
+            + "(request_id, user_id, message, response, max_tokens, tokens_used, status, created_at, processed_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    public enum OverflowPolicy { DROP_NEWEST, DROP_OLDEST }
+
+    private final JdbcTemplate jdbcTemplate;
+    // 재시도해도 일부만 들어간 batch가 중복 저장되지 않도록 batch 단위로 묶음
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<ChatMessage> queue;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Duration shutdownTimeout;
+    private final OverflowPolicy overflowPolicy;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public WriteBehindChatHistoryAdapter(JdbcTemplate jdbcTemplate,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${chat.history.queue-capacity:10000}") int queueCapacity,
+                                         @Value("${chat.history.batch-size:500}") int batchSize,
+                                         @Value("${chat.history.flush-interval:200ms}") Duration flushInterval,
+                                         @Value("${chat.history.shutdown-timeout:10s}") Duration shutdownTimeout,
+                                         @Value("${chat.history.overflow:drop-newest}") String overflow) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(jdbcTemplate.getDataSource()));
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.shutdownTimeout = shutdownTimeout;
+        this.overflowPolicy = OverflowPolicy.valueOf(overflow.trim().toUpperCase().replace('-', '_'));
+
+        Gauge.builder("chat.history.queue.size", queue, BlockingQueue::size)
+                .description("저장 대기 중인 채팅 기록 수")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("chat.history.written")
+                .description("DB에 저장된 채팅 기록 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("chat.history.dropped")
+                .description("큐 초과로 버려진 채팅 기록 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("chat.history.failed")
+                .description("insert 실패로 유실된 채팅 기록 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        writer = Thread.ofPlatform().name("chat-history-writer").daemon().start(this::writeLoop);
+        log.info("Chat history write-behind enabled: batchSize={}, flushInterval={}, overflow={}",
+                batchSize, flushInterval, overflowPolicy);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (writer == null) {
+            flush(new ArrayList<>(batchSize));
+            return;
+        }
+        writer.join(shutdownTimeout.toMillis());
+        if (writer.isAlive()) {
+            log.warn("Chat history writer did not finish within {}: remaining={}", shutdownTimeout, queue.size());
+            writer.interrupt();
+        }
+    }
+
+    @Override
+    public void save(ChatMessage chatMessage) {
+        if (queue.offer(chatMessage)) {
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.DROP_OLDEST && queue.poll() != null) {
+            droppedCounter.increment();
+            if (queue.offer(chatMessage)) {
+                return;
+            }
+        }
+        droppedCounter.increment();
+    }
+
+    int pending() {
+        return queue.size();
+    }
+
+    private void writeLoop() {
+        List<ChatMessage> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                ChatMessage first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        // 종료: 남은 기록 flush
+        flush(batch);
+    }
+
+    private void flush(List<ChatMessage> batch) {
+        while (!queue.isEmpty()) {
+            queue.drainTo(batch, batchSize);
+            write(batch);
+        }
+    }
+
+    private void write(List<ChatMessage> batch) {
+        try {
+            if (insertBatch(batch) || insertBatch(batch)) {
+                writtenCounter.increment(batch.size());
+                return;
+            }
+            // 일시적 장애가 아니라 특정 기록 문제일 수 있으므로 한 건씩 넣어 나머지는 살림
+            for (ChatMessage message : batch) {
+                insertOne(message);
+            }
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private boolean insertBatch(List<ChatMessage> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), WriteBehindChatHistoryAdapter::bind));
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Chat history batch insert failed: size={}", batch.size(), e);
+            return false;
+        }
+    }
+
+    private void insertOne(ChatMessage message) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, statement -> bind(statement, message));
+            writtenCounter.increment();
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.warn("Chat history insert failed: requestId={}", message.getRequestId(), e);
+        }
+    }
+
+    private static void bind(PreparedStatement statement, ChatMessage message) throws SQLException {
+        statement.setString(1, message.getRequestId());
+        statement.setString(2, message.getUserId());
+        statement.setString(3, message.getMessage());
+        statement.setString(4, message.getResponse());
+        setInteger(statement, 5, message.getMaxTokens());
+        setInteger(statement, 6, message.getTokensUsed());
+        statement.setString(7, message.getStatus() != null ? message.getStatus().name() : null);
+        statement.setTimestamp(8, toTimestamp(message.getCreatedAt()));
+        statement.setTimestamp(9, toTimestamp(message.getProcessedAt()));
+    }
+
+    private static void setInteger(PreparedStatement statement, int index, Integer value) throws SQLException {
+        if (value != null) {
+            statement.setInt(index, value);
+        } else {
+            statement.setNull(index, Types.INTEGER);
+        }
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+}
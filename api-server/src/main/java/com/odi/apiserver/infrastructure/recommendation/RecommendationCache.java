@@ -0,0 +1,144 @@
+package com.odi.apiserver.infrastructure.recommendation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.odi.apiserver.application.port.out.RecommendationCachePort;
+import com.odi.apiserver.common.concurrent.SingleFlight;
+import com.odi.apiserver.domain.recommendation.RecommendationKey;
+import com.odi.apiserver.domain.recommendation.entity.Recommendation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 추천 결과 캐시 (셀/날씨/시간대 키)
+ * - fresh(ttl 이내): 바로 응답, refresh-ahead 시점을 지났으면 백그라운드에서 미리 다시 생성
+ *   (자주 조회되는 키는 만료 전에 갱신되어 사용자가 생성 지연을 겪지 않음)
+ * - stale(ttl ~ stale-ttl): 다시 생성해서 응답하되, 생성이 실패하거나 결과가 없으면 만료된 결과로 응답 (stale-if-error)
+ * - 같은 키의 생성(요청/백그라운드 갱신)은 SingleFlight로 하나로 합침 (백그라운드 갱신은 진행 중인 생성이 없을 때만 시작)
+ * - 결과 크기 기반 가중치로 전체 메모리 상한 유지, stale-ttl이 지나면 제거
+ * - recommendation.cache{result=hit|miss|expired}로 적중률 확인 (hit / 전체), stale은 expired 중 만료 결과로 응답한 수
+ */
+@Component
+@Slf4j
+public class RecommendationCache implements RecommendationCachePort {
+    private final long ttlNanos;
+    private final long refreshAheadNanos;
+    private final LongSupplier clock;
+    private final Cache<RecommendationKey, Entry> cache;
+    private final SingleFlight<RecommendationKey, Recommendation> flights = new SingleFlight<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter expired;
+    private final Counter staleServed;
+    private final Counter loadFailures;
+    private final Counter refreshes;
+
+    @Autowired
+    public RecommendationCache(MeterRegistry meterRegistry,
+                               @Value("${recommendation.cache.ttl:10m}") Duration ttl,
+                               @Value("${recommendation.cache.refresh-ahead:8m}") Duration refreshAhead,
+                               @Value("${recommendation.cache.stale-ttl:2h}") Duration staleTtl,
+                               @Value("${recommendation.cache.max-weight-bytes:33554432}") long maxWeightBytes) {
+        this(meterRegistry, ttl, refreshAhead, staleTtl, maxWeightBytes, System::nanoTime);
+    }
+
+    RecommendationCache(MeterRegistry meterRegistry, Duration ttl, Duration refreshAhead, Duration staleTtl,
+                        long maxWeightBytes, LongSupplier clock) {
+        this.ttlNanos = ttl.toNanos();
+        this.refreshAheadNanos = Math.min(refreshAhead.toNanos(), ttlNanos);
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((RecommendationKey key, Entry entry) -> entry.value().estimatedBytes())
+                .expireAfterWrite(staleTtl.compareTo(ttl) > 0 ? staleTtl : ttl)
+                .ticker(clock::getAsLong)
+                .build();
+
+        this.hits = result(meterRegistry, "hit");
+        this.misses = result(meterRegistry, "miss");
+        this.expired = result(meterRegistry, "expired");
+        this.staleServed = result(meterRegistry, "stale");
+        this.loadFailures = Counter.builder("recommendation.cache.load.failures")
+                .description("추천 생성 실패 횟수 (요청/백그라운드 갱신 포함)")
+                .register(meterRegistry);
+        this.refreshes = Counter.builder("recommendation.cache.refresh")
+                .description("만료 전 백그라운드 갱신 횟수")
+                .register(meterRegistry);
+        Gauge.builder("recommendation.cache.size", cache, Cache::estimatedSize)
+                .description("캐시된 추천 결과 수")
+                .register(meterRegistry);
+    }
+
+    private static Counter result(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("recommendation.cache")
+                .description("추천 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Recommendation> get(RecommendationKey key, Supplier<Mono<Recommendation>> loader) {
+        return Mono.defer(() -> {
+            Entry entry = cache.getIfPresent(key);
+            if (entry == null) {
+                misses.increment();
+                return load(key, loader);
+            }
+
+            long age = clock.getAsLong() - entry.createdNanos();
+            if (age < ttlNanos) {
+                hits.increment();
+                if (age >= refreshAheadNanos) {
+                    refreshInBackground(key, loader);
+                }
+                return Mono.just(entry.value());
+            }
+
+            expired.increment();
+            return load(key, loader)
+                    .switchIfEmpty(Mono.error(() -> new IllegalStateException("추천 생성 결과가 없습니다")))
+                    .onErrorResume(error -> {
+                        log.debug("Serving stale recommendation for {}: {}", key, error.toString());
+                        staleServed.increment();
+                        return Mono.just(entry.value());
+                    });
+        });
+    }
+
+    long estimatedSize() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private void refreshInBackground(RecommendationKey key, Supplier<Mono<Recommendation>> loader) {
+        // 요청 구독과 분리해 구독 (요청이 취소되어도 갱신은 끝까지 진행, 실패하면 기존 결과 유지)
+        if (flights.startIfAbsent(key, () -> generate(key, loader),
+                error -> log.debug("Recommendation refresh failed for {}: {}", key, error.toString()))) {
+            refreshes.increment();
+        }
+    }
+
+    private Mono<Recommendation> load(RecommendationKey key, Supplier<Mono<Recommendation>> loader) {
+        return flights.execute(key, () -> generate(key, loader));
+    }
+
+    private Mono<Recommendation> generate(RecommendationKey key, Supplier<Mono<Recommendation>> loader) {
+        return loader.get()
+                .doOnNext(value -> cache.put(key, new Entry(value, clock.getAsLong())))
+                .doOnError(error -> loadFailures.increment());
+    }
+
+    private record Entry(Recommendation value, long createdNanos) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.odi.apiserver.infrastructure.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.odi.apiserver.application.port.out.ConversationStorePort;
+import com.odi.apiserver.domain.ai.conversation.Conversation;
+import com.odi.apiserver.domain.ai.conversation.ConversationTurn;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 인메모리 대화 세션 저장소 (Caffeine)
+ * - 마지막 접근 후 idle-timeout이 지나면 만료
+ * - 세션 크기(발화 문자열) 기반 가중치로 전체 메모리 상한 유지, 넘으면 W-TinyLFU로 축출
+ * - 세션당 발화 수는 max-turns로 제한 (오래된 턴부터 버림)
+ * - 인스턴스 로컬 저장소이므로 여러 인스턴스 운영 시 세션 고정(sticky) 라우팅 필요
+ */
+@Component
+@Slf4j
+public class InMemoryConversationStore implements ConversationStorePort {
+    private final int maxTurns;
+    private final Cache<String, Conversation> cache;
+
+    public InMemoryConversationStore(MeterRegistry meterRegistry,
+                                     @Value("${conversation.session.idle-timeout:30m}") Duration idleTimeout,
+                                     @Value("${conversation.session.max-weight-bytes:67108864}") long maxWeightBytes,
+                                     @Value("${conversation.session.max-turns:40}") int maxTurns) {
+        this.maxTurns = maxTurns;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterAccess(idleTimeout)
+                .maximumWeight(maxWeightBytes)
+                .weigher((String sessionId, Conversation conversation) -> conversation.estimatedBytes())
+                .build();
+
+        Gauge.builder("conversation.sessions", cache, Cache::estimatedSize)
+                .description("메모리에 보관 중인 대화 세션 수")
+                .register(meterRegistry);
+        log.info("Conversation sessions: idleTimeout={}, maxWeightBytes={}, maxTurns={}",
+                idleTimeout, maxWeightBytes, maxTurns);
+    }
+
+    @Override
+    public Optional<Conversation> find(String sessionId) {
+        return Optional.ofNullable(cache.getIfPresent(sessionId));
+    }
+
+    @Override
+    public Conversation append(String sessionId, ConversationTurn user, ConversationTurn assistant) {
+        // compute로 세션 단위 원자적 갱신 (같은 세션의 동시 턴이 서로를 덮어쓰지 않음)
+        return cache.asMap().compute(sessionId, (id, current) ->
+                (current != null ? current : Conversation.start(id)).append(user, assistant, maxTurns));
+    }
+
+    @Override
+    public void remove(String sessionId) {
+        cache.invalidate(sessionId);
+    }
+
+    long estimatedSize() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+}
@@ -0,0 +1,92 @@
+package com.odi.apiserver.infrastructure.weather;
+
+import com.odi.apiserver.application.port.out.WeatherProviderPort;
+import com.odi.apiserver.domain.recommendation.entity.WeatherCondition;
+import com.odi.apiserver.domain.weather.WeatherGrid;
+import com.odi.apiserver.domain.weather.WeatherGridSpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 파일에서 예보 격자를 읽는 제공자 (외부 예보 API 연동 전 / 테스트용)
+ * - 형식: 첫 줄 version,originLatitude,originLongitude,stepDegrees,rows,columns
+ *   이후 셀마다 temperature,precipitation,CONDITION 한 줄 (행 우선, 남서쪽 셀부터)
+ * - 파일을 다시 쓰고 version을 올리면 다음 적재 주기에 새 스냅샷으로 교체됨
+ */
+@Component
+public class FileWeatherProvider implements WeatherProviderPort {
+    private final ResourceLoader resourceLoader;
+    private final String location;
+
+    public FileWeatherProvider(ResourceLoader resourceLoader,
+                               @Value("${weather.provider.file:}") String location) {
+        this.resourceLoader = resourceLoader;
+        this.location = location;
+    }
+
+    @Override
+    public Mono<WeatherGrid> fetchLatest() {
+        if (location.isBlank()) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> read(resourceLoader.getResource(location)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    static WeatherGrid read(Resource resource) throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new IOException("빈 예보 파일입니다: " + resource.getDescription());
+            }
+            String[] fields = header.split(",");
+            if (fields.length != 6) {
+                throw new IOException("잘못된 예보 헤더: " + header);
+            }
+            long version = Long.parseLong(fields[0].strip());
+            WeatherGridSpec spec = new WeatherGridSpec(
+                    Double.parseDouble(fields[1].strip()),
+                    Double.parseDouble(fields[2].strip()),
+                    Double.parseDouble(fields[3].strip()),
+                    Integer.parseInt(fields[4].strip()),
+                    Integer.parseInt(fields[5].strip()));
+
+            int cells = spec.cellCount();
+            float[] temperatures = new float[cells];
+            float[] precipitations = new float[cells];
+            byte[] conditions = new byte[cells];
+            int index = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (index == cells) {
+                    throw new IOException("예보 셀이 격자보다 많습니다 (" + cells + "개)");
+                }
+                String[] values = line.split(",");
+                if (values.length != 3) {
+                    throw new IOException("잘못된 예보 데이터 (" + (index + 1) + "번째 셀): " + line);
+                }
+                temperatures[index] = Float.parseFloat(values[0].strip());
+                precipitations[index] = Float.parseFloat(values[1].strip());
+                conditions[index] = WeatherGrid.encode(WeatherCondition.valueOf(values[2].strip()));
+                index++;
+            }
+            if (index != cells) {
+                throw new IOException("예보 셀 수가 맞지 않습니다: expected=" + cells + ", actual=" + index);
+            }
+            return new WeatherGrid(version, spec, temperatures, precipitations, conditions);
+        }
+    }
+}
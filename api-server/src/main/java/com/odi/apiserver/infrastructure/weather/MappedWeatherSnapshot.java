@@ -0,0 +1,147 @@
+package com.odi.apiserver.infrastructure.weather;
+
+import com.odi.apiserver.domain.recommendation.entity.WeatherCondition;
+import com.odi.apiserver.domain.weather.WeatherGrid;
+import com.odi.apiserver.domain.weather.WeatherGridSpec;
+import com.odi.apiserver.domain.weather.WeatherReading;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * 메모리 매핑된 예보 스냅샷 파일 (읽기 전용, 불변)
+ * - 레이아웃(little endian): 헤더 64바이트 + 열 단위 배열
+ *   [0] magic 'ODIW' int, [4] 포맷 버전 int, [8] 스냅샷 버전 long,
+ *   [16] 원점 위도 double, [24] 원점 경도 double, [32] 간격 double, [40] 행 수 int, [44] 열 수 int,
+ *   [64] 기온 float[n], 강수량 float[n], 날씨 상태 byte[n]
+ * - 파일을 열 때 역직렬화하지 않고 매핑만 하므로 재시작 직후 바로 조회 가능 (페이지는 조회 시 OS가 적재)
+ * - 조회는 절대 위치 get만 사용해 여러 스레드가 동시에 읽어도 안전
+ */
+final class MappedWeatherSnapshot {
+    static final int MAGIC = 0x5749444F; // "ODIW" (little endian)
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_BYTES = 64;
+    static final String FILE_PREFIX = "weather-";
+    static final String FILE_SUFFIX = ".snapshot";
+
+    private static final WeatherCondition[] CONDITIONS = WeatherCondition.values();
+
+    private final Path path;
+    private final long version;
+    private final WeatherGridSpec spec;
+    private final MappedByteBuffer buffer;
+    private final int temperatureOffset;
+    private final int precipitationOffset;
+    private final int conditionOffset;
+
+    private MappedWeatherSnapshot(Path path, MappedByteBuffer buffer) throws IOException {
+        this.path = path;
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IOException("날씨 스냅샷 파일이 아닙니다: " + path);
+        }
+        if (buffer.getInt(4) != FORMAT_VERSION) {
+            throw new IOException("지원하지 않는 스냅샷 포맷 버전입니다: " + buffer.getInt(4));
+        }
+        this.version = buffer.getLong(8);
+        this.spec = new WeatherGridSpec(buffer.getDouble(16), buffer.getDouble(24), buffer.getDouble(32),
+                buffer.getInt(40), buffer.getInt(44));
+
+        int cells = spec.cellCount();
+        if ((long) buffer.capacity() != fileSize(cells)) {
+            throw new IOException("스냅샷 파일 크기가 맞지 않습니다: " + path);
+        }
+        this.temperatureOffset = HEADER_BYTES;
+        this.precipitationOffset = temperatureOffset + cells * Float.BYTES;
+        this.conditionOffset = precipitationOffset + cells * Float.BYTES;
+    }
+
+    static long fileSize(int cells) {
+        return HEADER_BYTES + (long) cells * (Float.BYTES * 2 + 1);
+    }
+
+    static String fileName(long version) {
+        // 고정 길이 숫자라 파일명 정렬 = 버전 순서
+        return String.format("%s%019d%s", FILE_PREFIX, version, FILE_SUFFIX);
+    }
+
+    static MappedWeatherSnapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return new MappedWeatherSnapshot(path, buffer);
+        }
+    }
+
+    /**
+     * 임시 파일에 기록하고 fsync 후 원자적 rename - 쓰는 도중 죽어도 완성된 스냅샷만 남음
+     */
+    static Path write(Path directory, WeatherGrid grid) throws IOException {
+        WeatherGridSpec spec = grid.getSpec();
+        int cells = spec.cellCount();
+        long size = fileSize(cells);
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("스냅샷이 너무 큽니다: " + size + " bytes");
+        }
+
+        Path target = directory.resolve(fileName(grid.getVersion()));
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(0, MAGIC)
+                    .putInt(4, FORMAT_VERSION)
+                    .putLong(8, grid.getVersion())
+                    .putDouble(16, spec.originLatitude())
+                    .putDouble(24, spec.originLongitude())
+                    .putDouble(32, spec.stepDegrees())
+                    .putInt(40, spec.rows())
+                    .putInt(44, spec.columns());
+            buffer.position(HEADER_BYTES);
+            buffer.asFloatBuffer().put(grid.getTemperatures());
+            buffer.position(HEADER_BYTES + cells * Float.BYTES);
+            buffer.asFloatBuffer().put(grid.getPrecipitations());
+            buffer.position(HEADER_BYTES + cells * Float.BYTES * 2);
+            buffer.put(grid.getConditions());
+            buffer.force();
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return target;
+    }
+
+    Optional<WeatherReading> find(double latitude, double longitude) {
+        int index = spec.indexOf(latitude, longitude);
+        if (index < 0) {
+            return Optional.empty();
+        }
+        int condition = buffer.get(conditionOffset + index);
+        if (condition < 0 || condition >= CONDITIONS.length) {
+            return Optional.empty();
+        }
+        return Optional.of(new WeatherReading(
+                CONDITIONS[condition],
+                buffer.getFloat(temperatureOffset + index * Float.BYTES),
+                buffer.getFloat(precipitationOffset + index * Float.BYTES),
+                version));
+    }
+
+    long version() {
+        return version;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    int cellCount() {
+        return spec.cellCount();
+    }
+}
@@ -0,0 +1,92 @@
+package com.odi.apiserver.infrastructure.weather;
+
+import com.odi.apiserver.application.port.out.WeatherLookupPort;
+import com.odi.apiserver.application.port.out.WeatherProviderPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+
+/**
+ * 주기적으로 최신 예보 격자를 가져와 스냅샷 교체
+ * - 요청마다 외부 날씨를 조회하지 않고, 발표 주기에 맞춰 격자 전체를 한 번에 적재
+ * - 이미 가진 버전 이하면 기록하지 않음 / 실패하면 기존 스냅샷으로 계속 응답하고 다음 주기에 재시도
+ * - 적재가 주기보다 오래 걸려도 겹쳐 실행하지 않음 (concatMap)
+ */
+@Component
+@Slf4j
+public class WeatherIngestor {
+    private final WeatherProviderPort weatherProviderPort;
+    private final WeatherLookupPort weatherLookupPort;
+    private final boolean enabled;
+    private final Duration interval;
+    private final Counter installed;
+    private final Counter failures;
+    private Disposable ingesting;
+
+    public WeatherIngestor(WeatherProviderPort weatherProviderPort,
+                           WeatherLookupPort weatherLookupPort,
+                           MeterRegistry meterRegistry,
+                           @Value("${weather.ingestion.enabled:true}") boolean enabled,
+                           @Value("${weather.ingestion.interval:10m}") Duration interval) {
+        this.weatherProviderPort = weatherProviderPort;
+        this.weatherLookupPort = weatherLookupPort;
+        this.enabled = enabled;
+        this.interval = interval;
+        this.installed = Counter.builder("weather.ingestion")
+                .tag("result", "installed")
+                .description("날씨 스냅샷 적재 결과")
+                .register(meterRegistry);
+        this.failures = Counter.builder("weather.ingestion")
+                .tag("result", "failed")
+                .description("날씨 스냅샷 적재 결과")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (!enabled || interval.isZero() || interval.isNegative()) {
+            return;
+        }
+        ingesting = Flux.interval(Duration.ZERO, interval, Schedulers.boundedElastic())
+                .onBackpressureDrop()
+                .concatMap(tick -> ingest(), 1)
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (ingesting != null) {
+            ingesting.dispose();
+        }
+    }
+
+    /**
+     * 한 번 적재 (실패는 기록만 하고 완료로 처리)
+     */
+    public Mono<Void> ingest() {
+        return weatherProviderPort.fetchLatest()
+                .filter(grid -> grid.getVersion() > weatherLookupPort.currentVersion())
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(grid -> {
+                    weatherLookupPort.install(grid);
+                    installed.increment();
+                })
+                .onErrorResume(error -> {
+                    failures.increment();
+                    log.error("Weather ingestion failed", error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+}
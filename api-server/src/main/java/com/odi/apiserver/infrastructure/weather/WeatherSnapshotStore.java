@@ -0,0 +1,131 @@
+package com.odi.apiserver.infrastructure.weather;
+
+import com.odi.apiserver.application.port.out.WeatherLookupPort;
+import com.odi.apiserver.domain.weather.WeatherGrid;
+import com.odi.apiserver.domain.weather.WeatherReading;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 메모리 매핑 스냅샷 기반 날씨 조회
+ * - 조회는 volatile 스냅샷 하나를 읽기만 하므로 락 없음 (요청 경로에서 외부 날씨 API를 호출하지 않음)
+ * - 새 격자는 버전별 파일로 기록한 뒤 매핑해 참조만 교체 (교체 전까지 조회는 이전 스냅샷으로 계속 처리)
+ * - 시작 시 디렉터리의 최신 스냅샷 파일을 바로 매핑하므로 재시작 후 첫 적재 전에도 조회 가능
+ * - 오래된 파일은 retain개만 남기고 삭제 (이전 매핑은 참조가 사라지면 GC가 해제)
+ */
+@Component
+@Slf4j
+public class WeatherSnapshotStore implements WeatherLookupPort {
+    private final Path directory;
+    private final int retain;
+    private volatile MappedWeatherSnapshot snapshot;
+
+    public WeatherSnapshotStore(MeterRegistry meterRegistry,
+                                @Value("${weather.snapshot.directory:${java.io.tmpdir}/odi-weather}") Path directory,
+                                @Value("${weather.snapshot.retain:2}") int retain) {
+        this.directory = directory;
+        this.retain = Math.max(1, retain);
+        this.snapshot = openLatest();
+
+        Gauge.builder("weather.snapshot.version", this, store -> store.currentVersion())
+                .description("현재 날씨 스냅샷의 예보 발표 시각 (epoch ms)")
+                .register(meterRegistry);
+        Gauge.builder("weather.snapshot.cells", this, store -> {
+                    MappedWeatherSnapshot current = store.snapshot;
+                    return current != null ? current.cellCount() : 0;
+                })
+                .description("현재 날씨 스냅샷의 격자 셀 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<WeatherReading> find(double latitude, double longitude) {
+        MappedWeatherSnapshot current = snapshot;
+        return current != null ? current.find(latitude, longitude) : Optional.empty();
+    }
+
+    @Override
+    public long currentVersion() {
+        MappedWeatherSnapshot current = snapshot;
+        return current != null ? current.version() : -1;
+    }
+
+    /**
+     * 적재 스레드 하나에서만 호출된다고 가정 (동시 호출 시 버전이 더 낮은 스냅샷으로 되돌아가지 않도록 synchronized)
+     */
+    @Override
+    public synchronized void install(WeatherGrid grid) {
+        if (grid.getVersion() <= currentVersion()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            Files.createDirectories(directory);
+            MappedWeatherSnapshot next = MappedWeatherSnapshot.open(MappedWeatherSnapshot.write(directory, grid));
+            snapshot = next;
+            log.info("Weather snapshot installed: version={}, cells={}, elapsedMs={}",
+                    next.version(), next.cellCount(), (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException e) {
+            throw new UncheckedIOException("날씨 스냅샷 기록 실패: " + directory, e);
+        }
+        prune();
+    }
+
+    private MappedWeatherSnapshot openLatest() {
+        List<Path> files = snapshotFiles();
+        // 최신 파일이 손상되었으면 그 이전 파일로
+        for (int i = files.size() - 1; i >= 0; i--) {
+            try {
+                MappedWeatherSnapshot opened = MappedWeatherSnapshot.open(files.get(i));
+                log.info("Weather snapshot opened: version={}, file={}", opened.version(), files.get(i));
+                return opened;
+            } catch (IOException e) {
+                log.warn("Skipping unreadable weather snapshot {}: {}", files.get(i), e.toString());
+            }
+        }
+        return null;
+    }
+
+    private void prune() {
+        List<Path> files = snapshotFiles();
+        for (int i = 0; i < files.size() - retain; i++) {
+            try {
+                Files.deleteIfExists(files.get(i));
+            } catch (IOException e) {
+                log.warn("Failed to delete old weather snapshot {}: {}", files.get(i), e.toString());
+            }
+        }
+    }
+
+    /**
+     * 스냅샷 파일 목록 (오래된 순) - 파일명이 고정 길이 버전이라 이름순 = 버전순
+     */
+    private List<Path> snapshotFiles() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(MappedWeatherSnapshot.FILE_PREFIX)
+                                && name.endsWith(MappedWeatherSnapshot.FILE_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            log.warn("Failed to list weather snapshots in {}: {}", directory, e.toString());
+            return List.of();
+        }
+    }
+}
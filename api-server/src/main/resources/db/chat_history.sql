@@ -0,0 +1,14 @@
+-- 채팅 기록 (write-behind 저장, MySQL / H2 MySQL 모드 공용)
+CREATE TABLE IF NOT EXISTS chat_history (
+    id           BIGINT AUTO_INCREMENT PRIMARY KEY,
+    request_id   VARCHAR(32)  NOT NULL,
+    user_id      VARCHAR(50),
+    message      TEXT         NOT NULL,
+    response     TEXT,
+    max_tokens   INT,
+    tokens_used  INT,
+    status       VARCHAR(16)  NOT NULL,
+    created_at   DATETIME(3),
+    processed_at DATETIME(3),
+    INDEX idx_chat_history_request_id (request_id)
+);
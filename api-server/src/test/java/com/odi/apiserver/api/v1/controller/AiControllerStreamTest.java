@@ -0,0 +1,86 @@
+package com.odi.apiserver.api.v1.controller;
+
+import com.odi.apiserver.support.StubAiServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class AiControllerStreamTest {
+    private static final StubAiServer STUB = StubAiServer.start(Duration.ZERO);
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> EVENT_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("external.chat.base-url", STUB::baseUrl);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        STUB.reset();
+    }
+
+    private Flux<ServerSentEvent<String>> stream() {
+        return webTestClient.post()
+                .uri("/api/v1/ai/greeting/stream")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(Map.of("message", "안녕", "maxTokens", 100))
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(EVENT_TYPE)
+                .getResponseBody();
+    }
+
+    @Test
+    void endsWithDoneWhenUpstreamCompletes() {
+        List<String> events = stream().map(ServerSentEvent::event).collectList().block(Duration.ofSeconds(5));
+
+        assertThat(events).containsExactly("token", "token", "token", "done");
+    }
+
+    @Test
+    void endsWithErrorInsteadOfDoneWhenUpstreamIsTruncated() {
+        STUB.truncateNextStream();
+
+        List<ServerSentEvent<String>> events = stream().collectList().block(Duration.ofSeconds(5));
+
+        assertThat(events).extracting(ServerSentEvent::event).containsExactly("token", "token", "token", "error");
+        assertThat(events.getLast().data()).contains("EXTERNAL_API_ERROR");
+    }
+
+    @Test
+    void cancelsUpstreamWhenClientLeaves() {
+        STUB.streamTokens(100, Duration.ofMillis(50));
+
+        stream().take(2).blockLast(Duration.ofSeconds(5));
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(STUB.streamCancellationCount()).isEqualTo(1));
+    }
+}
@@ -0,0 +1,96 @@
+package com.odi.apiserver.common.deadline;
+
+import com.odi.apiserver.common.exception.BusinessException;
+import com.odi.apiserver.common.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestDeadlineTest {
+    private final DeadlineFilter filter = new DeadlineFilter(Jackson2ObjectMapperBuilder.json().build(), true,
+            Duration.ofSeconds(30), Duration.ofSeconds(10), Duration.ofSeconds(30), Duration.ofSeconds(15));
+
+    private static <T> Mono<T> within(Mono<T> source, Duration timeout) {
+        return RequestDeadline.bound(source)
+                .contextWrite(context -> context.put(RequestDeadline.CONTEXT_KEY, RequestDeadline.after(timeout)));
+    }
+
+    @Test
+    void passesThroughWithoutDeadline() {
+        assertThat(RequestDeadline.bound(Mono.just("ok")).block()).isEqualTo("ok");
+        assertThat(RequestDeadline.bound(Flux.just(1, 2)).collectList().block()).containsExactly(1, 2);
+    }
+
+    @Test
+    void cancelsUpstreamWhenDeadlinePasses() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Mono<String> slow = Mono.<String>never().doOnCancel(() -> cancelled.set(true));
+
+        assertThatThrownBy(() -> within(slow, Duration.ofMillis(50)).block(Duration.ofSeconds(5)))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.DEADLINE_EXCEEDED));
+        assertThat(cancelled).isTrue();
+    }
+
+    @Test
+    void doesNotSubscribeWhenAlreadyExpired() {
+        AtomicBoolean subscribed = new AtomicBoolean();
+        Mono<String> upstream = Mono.fromCallable(() -> {
+            subscribed.set(true);
+            return "ok";
+        });
+
+        assertThatThrownBy(() -> within(upstream, Duration.ZERO).block())
+                .isInstanceOf(BusinessException.class);
+        assertThat(subscribed).isFalse();
+    }
+
+    @Test
+    void boundsWholeStreamNotEachItem() {
+        // 조각 간격(30ms)은 기한보다 짧지만 전체는 기한(100ms)을 넘김
+        Flux<Long> stream = Flux.interval(Duration.ofMillis(30)).take(20);
+
+        List<Long> received = new ArrayList<>();
+        assertThatThrownBy(() -> RequestDeadline.bound(stream)
+                .doOnNext(received::add)
+                .contextWrite(context -> context.put(RequestDeadline.CONTEXT_KEY,
+                        RequestDeadline.after(Duration.ofMillis(100))))
+                .blockLast(Duration.ofSeconds(5)))
+                .isInstanceOf(BusinessException.class);
+        assertThat(received).hasSizeBetween(1, 4);
+    }
+
+    @Test
+    void latestPicksLaterDeadlineAndTreatsMissingAsUnbounded() {
+        RequestDeadline soon = RequestDeadline.after(Duration.ofSeconds(1));
+        RequestDeadline later = RequestDeadline.after(Duration.ofSeconds(10));
+
+        assertThat(RequestDeadline.latest(soon, later)).isSameAs(later);
+        assertThat(RequestDeadline.latest(later, soon)).isSameAs(later);
+        assertThat(RequestDeadline.latest(soon, null)).isNull();
+    }
+
+    @Test
+    void resolvesTimeoutFromHeaderOrEndpointDefault() {
+        assertThat(filter.timeoutFor("/api/v1/ai/greeting", null)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(filter.timeoutFor("/api/v1/ai/greeting", "3000")).isEqualTo(Duration.ofSeconds(3));
+        // 상한을 넘는 값은 max로, 숫자가 아니면 기본값
+        assertThat(filter.timeoutFor("/api/v1/ai/greeting", "600000")).isEqualTo(Duration.ofSeconds(30));
+        assertThat(filter.timeoutFor("/api/v1/ai/greeting", "soon")).isEqualTo(Duration.ofSeconds(10));
+        // 이미 지난 기한은 0 이하 그대로 (필터가 바로 거절)
+        assertThat(filter.timeoutFor("/api/v1/ai/conversations", "0")).isZero();
+        assertThat(filter.timeoutFor("/api/v1/ai/conversations", "-20")).isNegative();
+        // 기본값이 없는 엔드포인트는 헤더가 있을 때만
+        assertThat(filter.timeoutFor("/api/v1/places/nearby", null)).isNull();
+        assertThat(filter.timeoutFor("/api/v1/places/nearby", "500")).isEqualTo(Duration.ofMillis(500));
+    }
+}
@@ -0,0 +1,47 @@
+package com.odi.apiserver.common.id;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestIdFilterTest {
+    private final RequestIdFilter filter = new RequestIdFilter();
+
+    private MockServerWebExchange exchange(String inbound) {
+        return MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/ai/greeting")
+                .header(RequestIdFilter.HEADER, inbound));
+    }
+
+    @Test
+    void alwaysIssuesFreshIdAndKeepsInboundSeparately() {
+        // 생성기 형식과 같은 값을 보내도 그대로 쓰지 않음
+        String inbound = RequestIdGenerator.nextId();
+        MockServerWebExchange exchange = exchange(inbound);
+        AtomicReference<String> contextId = new AtomicReference<>();
+
+        filter.filter(exchange, ignored -> Mono.deferContextual(context -> {
+            contextId.set(RequestIdFilter.requestId(context));
+            return Mono.empty();
+        })).block();
+
+        String requestId = RequestIdFilter.requestId(exchange);
+        assertThat(requestId).isNotEqualTo(inbound).isEqualTo(contextId.get());
+        assertThat(exchange.getResponse().getHeaders().getFirst(RequestIdFilter.HEADER)).isEqualTo(requestId);
+        assertThat(RequestIdFilter.inboundRequestId(exchange)).isEqualTo(inbound);
+    }
+
+    @Test
+    void dropsInboundIdThatIsUnsafeToLog() {
+        MockServerWebExchange exchange = exchange("abc\" status=200 forged=1");
+
+        filter.filter(exchange, ignored -> Mono.empty()).block();
+
+        assertThat(RequestIdFilter.inboundRequestId(exchange)).isNull();
+        assertThat(RequestIdGenerator.isValid(RequestIdFilter.requestId(exchange))).isTrue();
+    }
+}
@@ -0,0 +1,78 @@
+package com.odi.apiserver.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestIdGeneratorTest {
+    private static final int THREADS = 32;
+    private static final int IDS_PER_THREAD = 50_000;
+
+    @Test
+    void generatesUniqueIdsUnderContention() throws Exception {
+        Set<String> ids = ConcurrentHashMap.newKeySet(THREADS * IDS_PER_THREAD);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    String previous = "";
+                    boolean ordered = true;
+                    for (int i = 0; i < IDS_PER_THREAD; i++) {
+                        String id = RequestIdGenerator.nextId();
+                        ids.add(id);
+                        ordered &= id.compareTo(previous) > 0;
+                        previous = id;
+                    }
+                    return ordered;
+                }));
+            }
+            start.countDown();
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).as("스레드 내 생성 순서 = 문자열 정렬 순서").isTrue();
+            }
+        }
+
+        assertThat(ids).hasSize(THREADS * IDS_PER_THREAD);
+    }
+
+    @Test
+    void encodesFixedLengthIdsThatPassValidation() {
+        String id = RequestIdGenerator.nextId();
+
+        assertThat(id).hasSize(RequestIdGenerator.LENGTH);
+        assertThat(RequestIdGenerator.isValid(id)).isTrue();
+        assertThat(RequestIdGenerator.isValid("chat_1a2b3c4d")).isFalse();
+        assertThat(RequestIdGenerator.isValid(null)).isFalse();
+    }
+
+    @Test
+    void rejectsIdsThatCannotHaveBeenGenerated() {
+        // 첫 글자 8 이상은 64bit를 넘고, 4~7은 아직 오지 않은 시각(2059년 이후)의 타임스탬프
+        assertThat(RequestIdGenerator.isValid("F000000000000")).isFalse();
+        assertThat(RequestIdGenerator.isValid("8000000000000")).isFalse();
+        assertThat(RequestIdGenerator.isValid("4000000000000")).isFalse();
+        assertThat(RequestIdGenerator.isValid("0000000000000")).isTrue();
+        // 소문자, Crockford에서 뺀 글자(I, L, O, U)
+        assertThat(RequestIdGenerator.isValid("0000000000a00")).isFalse();
+        assertThat(RequestIdGenerator.isValid("0000000000U00")).isFalse();
+    }
+
+    @Test
+    void embedsNodeId() {
+        long id = RequestIdGenerator.nextLong();
+
+        assertThat((id >>> 12) & 0x3FF).isEqualTo(RequestIdGenerator.nodeId());
+    }
+}
@@ -0,0 +1,56 @@
+package com.odi.apiserver.common.logging;
+
+import org.junit.jupiter.api.Test;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessLoggerTest {
+
+    @Test
+    void alwaysLogsErrorsAndSlowRequestsEvenWhenSamplingIsOff() {
+        AccessLogger logger = new AccessLogger(true, 0.0, Duration.ofSeconds(1), false, 64);
+
+        assertThat(logger.shouldLog(completed(200, 10))).isFalse();
+        assertThat(logger.shouldLog(completed(503, 10))).isTrue();
+        assertThat(logger.shouldLog(completed(200, 1_500))).isTrue();
+    }
+
+    @Test
+    void omitsPayloadUnlessEnabled() {
+        AccessLogRecord record = completed(200, 10);
+        record.chatRequest("안녕하세요 test@example.com", 100);
+
+        String line = new AccessLogger(true, 1.0, Duration.ofSeconds(1), false, 64).format(record);
+
+        assertThat(line).contains("messageLength=22").doesNotContain("example.com");
+    }
+
+    @Test
+    void truncatesAndRedactsPayload() {
+        AccessLogger logger = new AccessLogger(true, 1.0, Duration.ofSeconds(1), true, 30);
+
+        String redacted = logger.redact("연락처 010-1234-5678, 메일 someone@example.com 으로 주세요");
+
+        assertThat(redacted).contains("<phone>").doesNotContain("1234").endsWith("…");
+    }
+
+    @Test
+    void recordOutsideRequestContextIgnoresWrites() {
+        AccessLogRecord record = AccessLogRecord.current(Context.empty());
+        record.upstream(503, 10L);
+        record.errorCode("EXTERNAL_API_ERROR");
+
+        // 요청 밖 호출끼리 공유하는 인스턴스이므로 값이 남지 않아야 함
+        assertThat(AccessLogRecord.current(Context.empty()).getUpstreamStatus()).isZero();
+        assertThat(AccessLogRecord.current(Context.empty()).getErrorCode()).isNull();
+    }
+
+    private AccessLogRecord completed(int status, long durationMillis) {
+        AccessLogRecord record = new AccessLogRecord("POST", "/api/v1/ai/greeting", 0L);
+        record.complete(status, false, Duration.ofMillis(durationMillis).toNanos());
+        return record;
+    }
+}
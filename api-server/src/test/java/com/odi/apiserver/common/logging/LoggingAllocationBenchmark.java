@@ -0,0 +1,76 @@
+package com.odi.apiserver.common.logging;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.helpers.MessageFormatter;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+
+/**
+ * 요청당 로깅 할당량 비교 하네스 (호출 스레드 기준)
+ * - legacy: 요청 경로의 INFO 로그 8건을 메시지 포맷팅까지 수행 (기존 call site 재현)
+ * - access: AccessLogRecord 1개 + 샘플링된 경우에만 한 줄 포맷팅
+ * - 실행: ./gradlew benchmark --tests '*LoggingAllocationBenchmark' -Dbench.iterations=200000 -Dbench.sampleRate=0.01
+ */
+@Tag("benchmark")
+class LoggingAllocationBenchmark {
+    private static final int ITERATIONS = Integer.getInteger("bench.iterations", 200_000);
+    private static final double SAMPLE_RATE = Double.parseDouble(System.getProperty("bench.sampleRate", "0.01"));
+    private static final String MESSAGE = "오늘 서울 날씨에 맞는 옷차림을 추천해줘. 우산이 필요할까?";
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static long sink;
+
+    @Test
+    void compareLegacyAndAccessLogAllocation() {
+        AccessLogger accessLogger = new AccessLogger(true, SAMPLE_RATE, Duration.ofSeconds(3), false, 64);
+
+        measure("legacy", this::legacyRequest);
+        measure("access", () -> accessLogRequest(accessLogger));
+
+        long legacy = measure("legacy", this::legacyRequest);
+        long access = measure("access", () -> accessLogRequest(accessLogger));
+
+        System.out.printf("%n=== Logging allocation per request (iterations=%d, sampleRate=%.3f) ===%n", ITERATIONS, SAMPLE_RATE);
+        System.out.printf("legacy  %,d bytes/request%n", legacy);
+        System.out.printf("access  %,d bytes/request%n", access);
+    }
+
+    private long measure(String label, Runnable request) {
+        long before = THREADS.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            request.run();
+        }
+        return (THREADS.getCurrentThreadAllocatedBytes() - before) / ITERATIONS;
+    }
+
+    private void legacyRequest() {
+        format("Chat request received: message={}, maxTokens={}", MESSAGE, 100);
+        format("Processing chat request message: {}", MESSAGE);
+        format("Sending message to external chat server: {}", MESSAGE);
+        format("🚀 Sending request to: {}", "http://localhost:8000/api/v1/chat/simple");
+        format("📤 Request body: {}", "ExternalChatRequest(message=" + MESSAGE + ", maxTokens=100)");
+        format("Request: {} {}", "POST", "http://localhost:8000/api/v1/chat/simple");
+        format("Response Status: {}", "200 OK");
+        format("External chat response mapped to domain: requestId={}", "a1b2c3d4");
+    }
+
+    private void format(String pattern, Object... args) {
+        sink += MessageFormatter.arrayFormat(pattern, args).getMessage().length();
+    }
+
+    private void accessLogRequest(AccessLogger accessLogger) {
+        AccessLogRecord record = new AccessLogRecord("POST", "/api/v1/ai/greeting", System.nanoTime());
+        record.chatRequest(MESSAGE, 100);
+        record.requestId("a1b2c3d4");
+        record.cacheHit(false);
+        record.upstream(200, 1_000_000L);
+        record.complete(200, false, System.nanoTime());
+        if (accessLogger.shouldLog(record)) {
+            sink += accessLogger.format(record).length();
+        }
+    }
+}
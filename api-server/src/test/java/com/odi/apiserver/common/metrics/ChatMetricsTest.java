@@ -0,0 +1,37 @@
+package com.odi.apiserver.common.metrics;
+
+import com.odi.apiserver.common.exception.BusinessException;
+import com.odi.apiserver.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChatMetricsTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ChatMetrics chatMetrics = new ChatMetrics(registry);
+
+    @Test
+    void tagsTimerWithOutcomeAndErrorCode() {
+        assertThat(chatMetrics.timed("chat.usecase", "execute", Mono.just("ok")).block()).isEqualTo("ok");
+        assertThatThrownBy(() -> chatMetrics.timed("chat.usecase", "execute",
+                        Mono.error(new BusinessException(ErrorCode.EXTERNAL_API_TIMEOUT))).block())
+                .isInstanceOf(BusinessException.class);
+
+        assertThat(registry.get("chat.usecase").tags("outcome", "success", "error_code", ChatMetrics.NONE)
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get("chat.usecase").tags("outcome", "error", "error_code", "EXTERNAL_API_TIMEOUT")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void countsRequestedAndUsedTokens() {
+        chatMetrics.recordTokens(100, 42);
+        chatMetrics.recordTokens(100, null);
+
+        assertThat(registry.get("chat.tokens.requested").counter().count()).isEqualTo(200);
+        assertThat(registry.get("chat.tokens.used").counter().count()).isEqualTo(42);
+    }
+}
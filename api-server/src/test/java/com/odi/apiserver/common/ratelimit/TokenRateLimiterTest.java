@@ -0,0 +1,129 @@
+package com.odi.apiserver.common.ratelimit;
+
+import com.odi.apiserver.common.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenRateLimiterTest {
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    // 100 토큰/초, 버스트 1000 토큰, 10.0.0.0/8 대역의 로드밸런서 뒤
+    private TokenRateLimiter limiter() {
+        return new TokenRateLimiter(new SimpleMeterRegistry(), true, 100, 1000, 100,
+                Duration.ofMinutes(10), List.of("10.0.0.0/8"), clock::get);
+    }
+
+    private static MockServerWebExchange exchange(String remoteIp, String forwardedFor) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.post("/api/v1/ai/greeting")
+                .remoteAddress(new InetSocketAddress(remoteIp, 50000));
+        if (forwardedFor != null) {
+            request.header(TokenRateLimiter.FORWARDED_FOR, forwardedFor);
+        }
+        return MockServerWebExchange.from(request);
+    }
+
+    @Test
+    void chargesByRequestedTokensAndReportsRetryAfter() {
+        TokenRateLimiter limiter = limiter();
+
+        assertThat(limiter.tryAcquire("key:a", 600)).isZero();
+        assertThat(limiter.tryAcquire("key:a", 400)).isZero();
+        long wait = limiter.tryAcquire("key:a", 200);
+
+        // 200 토큰이 다시 차려면 2초
+        assertThat(wait).isEqualTo(Duration.ofSeconds(2).toNanos());
+        clock.addAndGet(wait);
+        assertThat(limiter.tryAcquire("key:a", 200)).isZero();
+    }
+
+    @Test
+    void isolatesClients() {
+        TokenRateLimiter limiter = limiter();
+
+        assertThat(limiter.tryAcquire("key:a", 1000)).isZero();
+        assertThat(limiter.tryAcquire("key:a", 1)).isPositive();
+        assertThat(limiter.tryAcquire("key:b", 1000)).isZero();
+    }
+
+    @Test
+    void capsOversizedRequestsAtBurst() {
+        TokenRateLimiter limiter = limiter();
+
+        assertThat(limiter.tryAcquire("key:a", 4000)).isZero();
+        assertThat(limiter.tryAcquire("key:a", 1)).isPositive();
+    }
+
+    @Test
+    void neverAdmitsMoreThanBurstUnderConcurrency() throws Exception {
+        TokenRateLimiter limiter = limiter();
+        AtomicInteger admitted = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < 10_000; i++) {
+                executor.execute(() -> {
+                    if (limiter.tryAcquire("key:shared", 10) == 0) {
+                        admitted.incrementAndGet();
+                    }
+                });
+            }
+        }
+
+        assertThat(admitted.get()).isEqualTo(100);
+    }
+
+    @Test
+    void keysOnRemoteAddressAndIgnoresClientSuppliedHeaders() {
+        TokenRateLimiter limiter = limiter();
+        InetSocketAddress client = new InetSocketAddress("203.0.113.7", 50000);
+
+        // 요청마다 다른 헤더 값을 보내도 같은 버킷
+        String first = limiter.clientKey(MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/ai/greeting")
+                .remoteAddress(client).header("X-API-Key", "k1").header("X-User-Id", "u1"))).block();
+        String second = limiter.clientKey(MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/ai/greeting")
+                .remoteAddress(client).header("X-API-Key", "k2").header("X-User-Id", "u2"))).block();
+
+        assertThat(first).isEqualTo("ip:203.0.113.7").isEqualTo(second);
+    }
+
+    @Test
+    void separatesClientsBehindTrustedProxy() {
+        TokenRateLimiter limiter = limiter();
+        // 같은 로드밸런서(10.0.0.5)를 거친 서로 다른 클라이언트
+        MockServerWebExchange first = exchange("10.0.0.5", "203.0.113.7");
+        MockServerWebExchange second = exchange("10.0.0.5", "198.51.100.20, 10.0.3.1");
+
+        assertThat(limiter.clientKey(first).block()).isEqualTo("ip:203.0.113.7");
+        assertThat(limiter.clientKey(second).block()).isEqualTo("ip:198.51.100.20");
+
+        // 한 클라이언트가 버킷을 비워도 다른 클라이언트는 그대로 통과
+        limiter.acquire(first, 1000).block();
+        assertThatThrownBy(() -> limiter.acquire(first, 1000).block())
+                .isInstanceOf(RateLimitExceededException.class);
+        limiter.acquire(second, 1000).block();
+    }
+
+    @Test
+    void ignoresForwardedForFromUntrustedPeersAndSpoofedHops() {
+        TokenRateLimiter limiter = limiter();
+
+        // 직접 연결한 클라이언트가 보낸 X-Forwarded-For는 무시
+        assertThat(limiter.clientKey(exchange("203.0.113.7", "198.51.100.20")).block())
+                .isEqualTo("ip:203.0.113.7");
+        // 프록시가 오른쪽에 붙인 주소만 사용 (왼쪽은 클라이언트가 넣은 값)
+        assertThat(limiter.clientKey(exchange("10.0.0.5", "198.51.100.20, 203.0.113.7")).block())
+                .isEqualTo("ip:203.0.113.7");
+    }
+}
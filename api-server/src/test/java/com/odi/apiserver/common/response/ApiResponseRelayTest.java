@@ -0,0 +1,99 @@
+package com.odi.apiserver.common.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.odi.apiserver.common.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ApiResponseRelayTest {
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ApiResponseRelay relay = new ApiResponseRelay(objectMapper);
+
+    private static Flux<DataBuffer> chunks(String... parts) {
+        return Flux.fromArray(parts)
+                .map(part -> DefaultDataBufferFactory.sharedInstance.wrap(part.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private JsonNode relay(Flux<DataBuffer> upstream, Map<String, ?> dataFields) throws Exception {
+        String body = DataBufferUtils.join(relay.success(DefaultDataBufferFactory.sharedInstance, upstream,
+                        () -> dataFields, "처리되었습니다.", "req-1"))
+                .map(buffer -> buffer.toString(StandardCharsets.UTF_8))
+                .block();
+        return objectMapper.readTree(body);
+    }
+
+    @Test
+    void wrapsUpstreamObjectSplitAcrossBuffers() throws Exception {
+        JsonNode response = relay(chunks("  ", "\n{", " \"resp", "onse\":\"비 오는 날엔 \\\"실내\\\" 전시 ☔\",",
+                "\"usage\":{\"completion_tokens\":34}}"), Map.of("processedAt", "2026-10-17T10:00:00"));
+
+        assertThat(response.path("success").asBoolean()).isTrue();
+        assertThat(response.path("code").asInt()).isEqualTo(200);
+        assertThat(response.path("message").asText()).isEqualTo("처리되었습니다.");
+        assertThat(response.path("traceId").asText()).isEqualTo("req-1");
+        assertThat(response.path("timestamp").isTextual()).isTrue();
+        assertThat(response.path("data").path("processedAt").asText()).isEqualTo("2026-10-17T10:00:00");
+        assertThat(response.path("data").path("response").asText()).isEqualTo("비 오는 날엔 \"실내\" 전시 ☔");
+        assertThat(response.path("data").path("usage").path("completion_tokens").asInt()).isEqualTo(34);
+    }
+
+    @Test
+    void passesUpstreamBuffersThroughWithoutCopying() {
+        DataBuffer first = DefaultDataBufferFactory.sharedInstance.wrap("{\"response\":\"a".getBytes(StandardCharsets.UTF_8));
+        DataBuffer second = DefaultDataBufferFactory.sharedInstance.wrap("bc\"}".getBytes(StandardCharsets.UTF_8));
+
+        List<DataBuffer> relayed = relay.success(DefaultDataBufferFactory.sharedInstance, Flux.just(first, second),
+                Map::of, "ok", "req-1").collectList().block();
+
+        // 봉투 앞부분, upstream 조각 2개(같은 인스턴스), 봉투 뒷부분
+        assertThat(relayed).hasSize(4);
+        assertThat(relayed.get(1)).isSameAs(first);
+        assertThat(relayed.get(2)).isSameAs(second);
+        assertThat(relayed.get(0).toString(StandardCharsets.UTF_8)).endsWith("\"data\":{");
+    }
+
+    @Test
+    void handlesEmptyUpstreamObject() throws Exception {
+        JsonNode response = relay(chunks("{", "}"), Map.of("processedAt", "now"));
+
+        assertThat(response.path("data").size()).isEqualTo(1);
+        assertThat(response.path("data").path("processedAt").asText()).isEqualTo("now");
+    }
+
+    @Test
+    void rejectsNonObjectOrEmptyUpstreamBody() {
+        assertThatThrownBy(() -> relay(chunks("[1,2]"), Map.of()))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> relay(chunks(" ", "\n"), Map.of()))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> relay(Flux.empty(), Map.of()))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void matchesMaterializedEnvelopeFields() throws Exception {
+        JsonNode relayed = relay(chunks("{\"response\":\"안녕\"}"), Map.of("processedAt", "now"));
+        JsonNode materialized = objectMapper.valueToTree(ApiResponse.success(Map.of("response", "안녕"), "처리되었습니다.", "req-1"));
+
+        assertThat(fieldNames(relayed)).isEqualTo(fieldNames(materialized));
+    }
+
+    private static List<String> fieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+}
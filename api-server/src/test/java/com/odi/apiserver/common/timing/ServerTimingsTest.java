@@ -0,0 +1,51 @@
+package com.odi.apiserver.common.timing;
+
+import org.junit.jupiter.api.Test;
+import reactor.util.context.Context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerTimingsTest {
+
+    @Test
+    void writesOnlyRecordedStagesAndPrefixesUpstreamMetrics() {
+        ServerTimings timings = new ServerTimings(0L);
+        timings.record(ServerTimings.Stage.VALIDATE, System.nanoTime());
+        timings.upstreamStarted();
+        timings.upstreamRequestSent();
+        timings.upstreamResponded("app;dur=12.5, clova;dur=11.0");
+
+        String header = timings.toHeaderValue(1_234_567L);
+
+        assertThat(header)
+                .startsWith("total;dur=1.234, validate;dur=")
+                .contains("pool;dur=", "upstream;dur=")
+                .doesNotContain("cache;dur=", "encode;dur=")
+                .endsWith("ai-app;dur=12.5, ai-clova;dur=11.0");
+    }
+
+    @Test
+    void accumulatesRepeatedStages() {
+        ServerTimings timings = new ServerTimings(0L);
+        long start = System.nanoTime() - 2_000_000L;
+        timings.record(ServerTimings.Stage.UPSTREAM, start);
+        long first = timings.duration(ServerTimings.Stage.UPSTREAM);
+        timings.record(ServerTimings.Stage.UPSTREAM, System.nanoTime() - 1_000_000L);
+
+        assertThat(timings.duration(ServerTimings.Stage.UPSTREAM)).isGreaterThanOrEqualTo(first + 1_000_000L);
+    }
+
+    @Test
+    void timingsOutsideRequestContextIgnoreWrites() {
+        ServerTimings timings = ServerTimings.current(Context.empty());
+        timings.upstreamStarted();
+        timings.upstreamResponded("app;dur=1.0");
+        timings.record(ServerTimings.Stage.MAP, System.nanoTime() - 1_000_000L);
+
+        // 요청 밖 호출끼리 공유하는 인스턴스이므로 값이 남지 않아야 함
+        ServerTimings shared = ServerTimings.current(Context.empty());
+        assertThat(shared.duration(ServerTimings.Stage.MAP)).isZero();
+        assertThat(shared.duration(ServerTimings.Stage.UPSTREAM)).isZero();
+        assertThat(shared.toHeaderValue(0L)).isEqualTo("total;dur=0.000");
+    }
+}
@@ -0,0 +1,71 @@
+package com.odi.apiserver.domain.ai.conversation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConversationTest {
+    // 40자 ASCII = 10토큰 + 오버헤드 4 = 14토큰, 쌍당 28토큰
+    private static final String FORTY_CHARS = "a".repeat(40);
+
+    private Conversation conversationWithPairs(int pairs) {
+        Conversation conversation = Conversation.start("session");
+        for (int i = 0; i < pairs; i++) {
+            conversation = conversation.append(ConversationTurn.user(FORTY_CHARS),
+                    ConversationTurn.assistant(String.format("%040d", i)), 100);
+        }
+        return conversation;
+    }
+
+    @Test
+    void estimatesAsciiAndHangulDifferently() {
+        assertThat(TokenEstimator.estimate("hello")).isEqualTo(2);
+        assertThat(TokenEstimator.estimate("안녕하세요")).isEqualTo(5);
+        assertThat(TokenEstimator.estimateMessage("")).isEqualTo(4);
+    }
+
+    @Test
+    void keepsNewestPairsWithinBudget() {
+        Conversation conversation = conversationWithPairs(5);
+        int current = TokenEstimator.estimateMessage("hi");
+
+        ConversationContext context = conversation.contextFor("hi", current + 28 * 2);
+
+        assertThat(context.turns()).hasSize(5);
+        assertThat(context.turns().get(1).getContent()).isEqualTo(String.format("%040d", 3));
+        assertThat(context.turns().get(4).getContent()).isEqualTo("hi");
+        assertThat(context.droppedTurns()).isEqualTo(6);
+        assertThat(context.estimatedTokens()).isEqualTo(current + 28 * 2);
+    }
+
+    @Test
+    void dropsWholePairsOnly() {
+        Conversation conversation = conversationWithPairs(5);
+        int current = TokenEstimator.estimateMessage("hi");
+
+        ConversationContext context = conversation.contextFor("hi", current + 28 * 2 - 1);
+
+        assertThat(context.turns()).hasSize(3);
+        assertThat(context.turns().get(0).getRole()).isEqualTo(ConversationRole.USER);
+        assertThat(context.droppedTurns()).isEqualTo(8);
+    }
+
+    @Test
+    void alwaysSendsCurrentMessageEvenOverBudget() {
+        ConversationContext context = conversationWithPairs(5).contextFor("hi", 1);
+
+        assertThat(context.turns()).extracting(ConversationTurn::getContent).containsExactly("hi");
+        assertThat(context.droppedTurns()).isEqualTo(10);
+    }
+
+    @Test
+    void capsStoredTurns() {
+        Conversation conversation = Conversation.start("session");
+        for (int i = 0; i < 3; i++) {
+            conversation = conversation.append(ConversationTurn.user("q" + i), ConversationTurn.assistant("a" + i), 4);
+        }
+
+        assertThat(conversation.getTurns()).extracting(ConversationTurn::getContent)
+                .containsExactly("q1", "a1", "q2", "a2");
+    }
+}
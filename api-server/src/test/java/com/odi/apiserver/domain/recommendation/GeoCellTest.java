@@ -0,0 +1,24 @@
+package com.odi.apiserver.domain.recommendation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GeoCellTest {
+    @Test
+    void encodesGeohashAndCellCenter() {
+        GeoCell cell = GeoCell.of(57.64911, 10.40744, 11);
+
+        assertThat(cell.hash()).isEqualTo("u4pruydqqvj");
+        assertThat(cell.latitude()).isCloseTo(57.64911, within(0.0001));
+        assertThat(cell.longitude()).isCloseTo(10.40744, within(0.0001));
+    }
+
+    @Test
+    void nearbyPointsShareCell() {
+        assertThat(GeoCell.of(37.5665, 126.9780, 6).hash())
+                .isEqualTo(GeoCell.of(37.5668, 126.9783, 6).hash())
+                .hasSize(6);
+    }
+}
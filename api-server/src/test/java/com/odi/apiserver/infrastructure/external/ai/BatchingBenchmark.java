@@ -0,0 +1,66 @@
+package com.odi.apiserver.infrastructure.external.ai;
+
+import com.odi.apiserver.ApiServerApplication;
+import com.odi.apiserver.application.port.out.ExternalChatPort;
+import com.odi.apiserver.support.PortLoadRunner;
+import com.odi.apiserver.support.StubAiServer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+
+/**
+ * 마이크로 배칭 on/off 비교 하네스
+ * - 높은 요청률에서 처리량, 지연, ai-server로 나간 HTTP 요청 수 비교
+ * - 실행: ./gradlew benchmark --tests '*BatchingBenchmark' -Dbench.requests=20000 -Dbench.concurrency=500
+ */
+@Tag("benchmark")
+class BatchingBenchmark {
+    private static final int REQUESTS = Integer.getInteger("bench.requests", 20000);
+    private static final int CONCURRENCY = Integer.getInteger("bench.concurrency", 500);
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(Long.getLong("bench.upstreamLatencyMs", 20));
+    private static final String WINDOW = System.getProperty("bench.batchWindow", "5ms");
+    private static final int MAX_BATCH_SIZE = Integer.getInteger("bench.batchSize", 16);
+
+    @Test
+    void compareUnbatchedAndBatched() {
+        try (StubAiServer stub = StubAiServer.start(UPSTREAM_LATENCY)) {
+            PortLoadRunner.Result unbatched = run(false, stub);
+            int unbatchedHttpRequests = stub.chatRequestCount() + stub.batchRequestCount();
+            stub.reset();
+
+            PortLoadRunner.Result batched = run(true, stub);
+            int batchedHttpRequests = stub.chatRequestCount() + stub.batchRequestCount();
+
+            System.out.printf("%n=== Micro-batching comparison (requests=%d, concurrency=%d, upstream=%dms, window=%s, maxBatch=%d) ===%n",
+                    REQUESTS, CONCURRENCY, UPSTREAM_LATENCY.toMillis(), WINDOW, MAX_BATCH_SIZE);
+            System.out.println(unbatched + "  upstreamHttpRequests=" + unbatchedHttpRequests);
+            System.out.println(batched + "  upstreamHttpRequests=" + batchedHttpRequests
+                    + String.format("  avgBatch=%.1f", (double) stub.batchItemCount() / Math.max(1, stub.batchRequestCount())));
+        }
+    }
+
+    private PortLoadRunner.Result run(boolean batching, StubAiServer stub) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ApiServerApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "external.chat.base-url=" + stub.baseUrl(),
+                        "external.chat.cache.enabled=false",
+                        "external.chat.similarity-cache.enabled=false",
+                        "external.chat.coalescing.enabled=false",
+                        "external.chat.concurrency.enabled=false",
+                        "external.chat.pool.pending-acquire-timeout=60s",
+                        "external.chat.batch.enabled=" + batching,
+                        "external.chat.batch.window=" + WINDOW,
+                        "external.chat.batch.max-size=" + MAX_BATCH_SIZE,
+                        "logging.level.com.odi=WARN",
+                        "logging.level.org.springframework.web.reactive.function.client=WARN")
+                .run()) {
+            return PortLoadRunner.run(batching ? "batched" : "unbatched",
+                    context.getBean(ExternalChatPort.class), REQUESTS, CONCURRENCY);
+        }
+    }
+}
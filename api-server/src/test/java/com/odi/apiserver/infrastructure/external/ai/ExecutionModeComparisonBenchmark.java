@@ -0,0 +1,60 @@
+package com.odi.apiserver.infrastructure.external.ai;
+
+import com.odi.apiserver.ApiServerApplication;
+import com.odi.apiserver.application.port.out.ExternalChatPort;
+import com.odi.apiserver.support.PortLoadRunner;
+import com.odi.apiserver.support.StubAiServer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+
+/**
+ * upstream 호출 실행 모드 비교 하네스 (reactive WebClient vs 가상 스레드 블로킹, 요청 처리는 둘 다 WebFlux)
+ * - 느린 upstream(StubAiServer) 앞에서 처리량, p99 지연, 힙/스레드 사용량 측정
+ * - 실행: ./gradlew benchmark -Dbench.requests=5000 -Dbench.concurrency=1000 -Dbench.upstreamLatencyMs=500
+ */
+@Tag("benchmark")
+class ExecutionModeComparisonBenchmark {
+    private static final int REQUESTS = Integer.getInteger("bench.requests", 5000);
+    private static final int CONCURRENCY = Integer.getInteger("bench.concurrency", 1000);
+    private static final int UPSTREAM_CONCURRENCY = Integer.getInteger("bench.upstreamConcurrency", 100);
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(Long.getLong("bench.upstreamLatencyMs", 500));
+
+    @Test
+    void compareReactiveAndBlockingModes() {
+        try (StubAiServer stub = StubAiServer.start(UPSTREAM_LATENCY)) {
+            PortLoadRunner.Result reactive = run("reactive", stub);
+            PortLoadRunner.Result blocking = run("blocking", stub);
+
+            System.out.printf("%n=== Execution mode comparison (requests=%d, concurrency=%d, upstream=%dms, upstreamConcurrency=%d) ===%n",
+                    REQUESTS, CONCURRENCY, UPSTREAM_LATENCY.toMillis(), UPSTREAM_CONCURRENCY);
+            System.out.println(reactive);
+            System.out.println(blocking);
+        }
+    }
+
+    private PortLoadRunner.Result run(String mode, StubAiServer stub) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ApiServerApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "external.chat.mode=" + mode,
+                        "external.chat.base-url=" + stub.baseUrl(),
+                        "external.chat.cache.enabled=false",
+                        "external.chat.similarity-cache.enabled=false",
+                        "external.chat.coalescing.enabled=false",
+                        "external.chat.concurrency.enabled=false",
+                        "external.chat.pool.max-connections=" + UPSTREAM_CONCURRENCY,
+                        "external.chat.pool.pending-acquire-timeout=60s",
+                        "external.chat.blocking.max-concurrency=" + UPSTREAM_CONCURRENCY,
+                        "external.chat.blocking.acquire-timeout=60s",
+                        "logging.level.com.odi=WARN",
+                        "logging.level.org.springframework.web.reactive.function.client=WARN")
+                .run()) {
+            return PortLoadRunner.run(mode, context.getBean(ExternalChatPort.class), REQUESTS, CONCURRENCY);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.odi.apiserver.infrastructure.external.ai;
+
+import com.odi.apiserver.common.deadline.RequestDeadline;
+import com.odi.apiserver.common.exception.BusinessException;
+import com.odi.apiserver.common.exception.ErrorCode;
+import com.odi.apiserver.infrastructure.external.ai.dto.ExternalChatRequest;
+import com.odi.apiserver.infrastructure.external.ai.dto.ExternalChatResponse;
+import com.odi.apiserver.infrastructure.external.ai.resilience.ExternalChatResilience;
+import com.odi.apiserver.support.StubAiServer;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class ExternalChatClientResilienceTest {
+    private static final StubAiServer STUB = StubAiServer.start(Duration.ZERO);
+
+    @Autowired
+    private ExternalChatClient externalChatClient;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("external.chat.base-url", STUB::baseUrl);
+        registry.add("external.chat.retry.delay", () -> "10ms");
+        registry.add("external.chat.retry.max-delay", () -> "50ms");
+        registry.add("resilience4j.circuitbreaker.instances.externalChat.sliding-window-size", () -> "4");
+        registry.add("resilience4j.circuitbreaker.instances.externalChat.minimum-number-of-calls", () -> "4");
+        registry.add("resilience4j.circuitbreaker.instances.externalChat.wait-duration-in-open-state", () -> "60s");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        STUB.reset();
+        circuitBreakerRegistry.circuitBreaker(ExternalChatResilience.CIRCUIT_BREAKER_NAME).reset();
+    }
+
+    @Test
+    void retriesTransientFailuresUntilSuccess() {
+        STUB.failNext(2, 503);
+
+        ExternalChatResponse response = externalChatClient.sendMessage(request()).block();
+
+        assertThat(response).isNotNull();
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(STUB.chatRequestCount()).isEqualTo(3);
+    }
+
+    @Test
+    void doesNotRetryClientErrors() {
+        STUB.failNext(1, 400);
+
+        assertThatThrownBy(() -> externalChatClient.sendMessage(request()).block())
+                .isInstanceOf(WebClientResponseException.BadRequest.class);
+        assertThat(STUB.chatRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void treatsUpstreamDeadlineExceededAsFinal() {
+        STUB.failNext(1, 504, "DEADLINE_EXCEEDED");
+
+        assertThatThrownBy(() -> externalChatClient.sendMessage(request()).block())
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.DEADLINE_EXCEEDED));
+        assertThat(STUB.chatRequestCount()).isEqualTo(1);
+        assertThat(circuitBreakerRegistry.circuitBreaker(ExternalChatResilience.CIRCUIT_BREAKER_NAME)
+                .getMetrics().getNumberOfFailedCalls()).isZero();
+    }
+
+    @Test
+    void doesNotRetryAfterRequestDeadlinePasses() {
+        STUB.failNext(2, 503);
+
+        // 첫 시도가 실패할 무렵이면 기한이 이미 지나 재시도하지 않음
+        RequestDeadline deadline = RequestDeadline.after(Duration.ofMillis(1));
+        assertThatThrownBy(() -> externalChatClient.sendMessage(request())
+                .contextWrite(context -> context.put(RequestDeadline.CONTEXT_KEY, deadline))
+                .block())
+                .isInstanceOf(WebClientResponseException.ServiceUnavailable.class);
+        assertThat(STUB.chatRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void opensCircuitAndFailsFastWithoutCallingUpstream() {
+        STUB.failNext(100, 500);
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> externalChatClient.sendMessage(request()).block())
+                    .isInstanceOf(WebClientResponseException.InternalServerError.class);
+        }
+        int callsBeforeOpen = STUB.chatRequestCount();
+
+        assertThatThrownBy(() -> externalChatClient.sendMessage(request()).block())
+                .isInstanceOf(BusinessException.class)
+                .extracting(error -> ((BusinessException) error).getErrorCode())
+                .isEqualTo(ErrorCode.EXTERNAL_API_ERROR);
+        assertThat(STUB.chatRequestCount()).isEqualTo(callsBeforeOpen);
+        assertThat(circuitBreakerRegistry.circuitBreaker(ExternalChatResilience.CIRCUIT_BREAKER_NAME).getState())
+                .isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private ExternalChatRequest request() {
+        return ExternalChatRequest.builder()
+                .message("안녕")
+                .maxTokens(100)
+                .requestId("chat_test")
+                .build();
+    }
+}
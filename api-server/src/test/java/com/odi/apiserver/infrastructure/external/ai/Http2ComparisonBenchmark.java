@@ -0,0 +1,56 @@
+package com.odi.apiserver.infrastructure.external.ai;
+
+import com.odi.apiserver.ApiServerApplication;
+import com.odi.apiserver.application.port.out.ExternalChatPort;
+import com.odi.apiserver.support.PortLoadRunner;
+import com.odi.apiserver.support.StubAiServer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+
+/**
+ * api-server ↔ ai-server 프로토콜 비교 하네스 (HTTP/1.1 vs h2c)
+ * - 커넥션 수, p99 지연, CPU 시간 비교
+ * - 실행: ./gradlew benchmark --tests '*Http2ComparisonBenchmark' -Dbench.requests=20000 -Dbench.concurrency=200
+ */
+@Tag("benchmark")
+class Http2ComparisonBenchmark {
+    private static final int REQUESTS = Integer.getInteger("bench.requests", 20000);
+    private static final int CONCURRENCY = Integer.getInteger("bench.concurrency", 200);
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(Long.getLong("bench.upstreamLatencyMs", 50));
+
+    @Test
+    void compareHttp11AndH2c() {
+        try (StubAiServer stub = StubAiServer.start(UPSTREAM_LATENCY)) {
+            System.out.printf("%n=== HTTP/1.1 vs h2c (requests=%d, concurrency=%d, upstream=%dms) ===%n",
+                    REQUESTS, CONCURRENCY, UPSTREAM_LATENCY.toMillis());
+            for (String mode : new String[]{"disabled", "prior-knowledge", "upgrade"}) {
+                stub.reset();
+                PortLoadRunner.Result result = run(mode, stub);
+                System.out.println(result + "  tcpConnections=" + stub.connectionCount());
+            }
+        }
+    }
+
+    private PortLoadRunner.Result run(String http2Mode, StubAiServer stub) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ApiServerApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "external.chat.base-url=" + stub.baseUrl(),
+                        "external.chat.http2.mode=" + http2Mode,
+                        "external.chat.cache.enabled=false",
+                        "external.chat.similarity-cache.enabled=false",
+                        "external.chat.coalescing.enabled=false",
+                        "external.chat.concurrency.enabled=false",
+                        "external.chat.pool.pending-acquire-timeout=60s",
+                        "logging.level.com.odi=WARN",
+                        "logging.level.org.springframework.web.reactive.function.client=WARN")
+                .run()) {
+            return PortLoadRunner.run("http2=" + http2Mode, context.getBean(ExternalChatPort.class), REQUESTS, CONCURRENCY);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.odi.apiserver.infrastructure.external.ai;
+
+import com.odi.apiserver.ApiServerApplication;
+import com.odi.apiserver.application.port.out.ExternalChatPort;
+import com.odi.apiserver.domain.ai.ChatMessage;
+import com.odi.apiserver.support.StubAiServer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * 유사 프롬프트 캐시 적중 vs upstream 왕복 비교 하네스
+ * - upstream: 처음 보는 프롬프트 (유사 캐시 미스 → ai-server 호출, 서명/조회 비용 포함)
+ * - similar: 같은 프롬프트를 띄어쓰기/문장부호만 바꿔 다시 요청 (정확 일치 캐시는 끄고 유사 캐시로만 적중)
+ * - 실행: ./gradlew benchmark --tests '*SimilarityCacheBenchmark' -Dbench.requests=2000 -Dbench.upstreamLatencyMs=300
+ */
+@Tag("benchmark")
+class SimilarityCacheBenchmark {
+    private static final int REQUESTS = Integer.getInteger("bench.requests", 2000);
+    private static final int CONCURRENCY = Integer.getInteger("bench.concurrency", 100);
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(Long.getLong("bench.upstreamLatencyMs", 300));
+
+    private static final String[] PLACES = {"강남역", "홍대입구역", "성수동", "잠실", "여의도", "을지로", "연남동", "판교"};
+    private static final String[] TOPICS = {"맛집", "카페", "데이트 코스", "산책로", "실내 놀거리", "술집", "브런치", "전시"};
+
+    @Test
+    void compareSimilarHitAndUpstreamRoundTrip() {
+        try (StubAiServer stub = StubAiServer.start(UPSTREAM_LATENCY);
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(ApiServerApplication.class)
+                     .web(WebApplicationType.NONE)
+                     .properties(
+                             "external.chat.base-url=" + stub.baseUrl(),
+                             "external.chat.cache.enabled=false",
+                             "external.chat.similarity-cache.enabled=true",
+                             "external.chat.coalescing.enabled=false",
+                             "external.chat.concurrency.enabled=false",
+                             "external.chat.pool.pending-acquire-timeout=60s",
+                             "logging.level.com.odi=WARN",
+                             "logging.level.org.springframework.web.reactive.function.client=WARN")
+                     .run()) {
+            ExternalChatPort port = context.getBean(ExternalChatPort.class);
+
+            // 워밍업 (커넥션/JIT) - 본 측정과 겹치지 않는 번호
+            drive(port, i -> prompt(REQUESTS + i), Math.min(REQUESTS, 200));
+            stub.reset();
+
+            long[] upstream = drive(port, SimilarityCacheBenchmark::prompt, REQUESTS);
+            int upstreamRequests = stub.chatRequestCount();
+            stub.reset();
+
+            long[] similar = drive(port, i -> prompt(i).replace(" ", "") + "!!", REQUESTS);
+            int similarRequests = stub.chatRequestCount();
+
+            System.out.printf("%n=== Similarity cache vs upstream (requests=%d, concurrency=%d, upstream=%dms) ===%n",
+                    REQUESTS, CONCURRENCY, UPSTREAM_LATENCY.toMillis());
+            print("upstream", upstream, upstreamRequests);
+            print("similar-hit", similar, similarRequests);
+        }
+    }
+
+    private static String prompt(int i) {
+        return String.format("%s 근처 %s 추천해줘 %d", PLACES[i % PLACES.length], TOPICS[i / PLACES.length % TOPICS.length], i);
+    }
+
+    private static long[] drive(ExternalChatPort port, IntFunction<String> messages, int requests) {
+        long[] latencies = new long[requests];
+        Flux.range(0, requests)
+                .flatMap(i -> {
+                    long start = System.nanoTime();
+                    return port.sendMessage(ChatMessage.createRequest(messages.apply(i), 100))
+                            .doOnSuccess(message -> latencies[i] = System.nanoTime() - start);
+                }, CONCURRENCY)
+                .blockLast();
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static void print(String label, long[] sortedLatencies, int upstreamRequests) {
+        System.out.printf("%-12s p50=%10.3f ms  p99=%10.3f ms  upstreamHttpRequests=%d%n", label,
+                percentile(sortedLatencies, 0.50), percentile(sortedLatencies, 0.99), upstreamRequests);
+    }
+
+    private static double percentile(long[] sortedLatencies, double quantile) {
+        int index = Math.max(0, (int) Math.ceil(sortedLatencies.length * quantile) - 1);
+        return sortedLatencies[index] / 1_000_000.0;
+    }
+}
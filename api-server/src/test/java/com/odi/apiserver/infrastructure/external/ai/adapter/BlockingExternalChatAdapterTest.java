@@ -0,0 +1,65 @@
+package com.odi.apiserver.infrastructure.external.ai.adapter;
+
+import com.odi.apiserver.application.port.out.ExternalChatPort;
+import com.odi.apiserver.common.exception.BusinessException;
+import com.odi.apiserver.common.exception.ErrorCode;
+import com.odi.apiserver.domain.ai.ChatMessage;
+import com.odi.apiserver.support.StubAiServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "external.chat.mode=blocking",
+        "external.chat.cache.enabled=false",
+        "external.chat.similarity-cache.enabled=false",
+        "external.chat.coalescing.enabled=false"
+})
+class BlockingExternalChatAdapterTest {
+    private static final StubAiServer STUB = StubAiServer.start(Duration.ZERO);
+
+    @Autowired
+    private ExternalChatPort externalChatPort;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("external.chat.base-url", STUB::baseUrl);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        STUB.reset();
+    }
+
+    @Test
+    void mapsUpstreamDeadlineExceededLikeReactiveMode() {
+        STUB.failNext(1, 504, "DEADLINE_EXCEEDED");
+
+        assertThatThrownBy(() -> externalChatPort.sendMessage(ChatMessage.createRequest("안녕", 100)).block())
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.DEADLINE_EXCEEDED));
+    }
+
+    @Test
+    void mapsGatewayTimeoutWithoutErrorCodeToExternalApiError() {
+        STUB.failNext(1, 504);
+
+        assertThatThrownBy(() -> externalChatPort.sendMessage(ChatMessage.createRequest("안녕", 100)).block())
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.EXTERNAL_API_ERROR));
+    }
+}
@@ -0,0 +1,44 @@
+package com.odi.apiserver.infrastructure.external.ai.batch;
+
+import com.odi.apiserver.common.exception.BusinessException;
+import com.odi.apiserver.common.exception.ErrorCode;
+import com.odi.apiserver.infrastructure.external.ai.dto.ExternalChatRequest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChatRequestBatcherTest {
+
+    @Test
+    void rejectsBatchSizeAboveUpstreamLimit() {
+        assertThatThrownBy(() -> new ChatRequestBatcher(null, true, ChatRequestBatcher.UPSTREAM_MAX_BATCH_SIZE + 1,
+                Duration.ofMillis(5), 8, 1024))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(new ChatRequestBatcher(null, true, ChatRequestBatcher.UPSTREAM_MAX_BATCH_SIZE,
+                Duration.ofMillis(5), 8, 1024).isEnabled()).isTrue();
+    }
+
+    @Test
+    void rejectsAsOverloadedWhenQueueIsFull() {
+        // start()를 호출하지 않아 큐를 비우는 구독자가 없음
+        ChatRequestBatcher batcher = new ChatRequestBatcher(null, true, 16, Duration.ofMillis(5), 8, 8);
+        for (int i = 0; i < 8; i++) {
+            batcher.submit(request(i)).subscribe();
+        }
+
+        assertThatThrownBy(() -> batcher.submit(request(8)).block(Duration.ofSeconds(1)))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.EXTERNAL_API_OVERLOADED));
+    }
+
+    private static ExternalChatRequest request(int i) {
+        return ExternalChatRequest.builder()
+                .message("안녕")
+                .maxTokens(100)
+                .requestId("chat_" + i)
+                .build();
+    }
+}
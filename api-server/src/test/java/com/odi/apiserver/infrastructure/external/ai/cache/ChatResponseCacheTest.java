@@ -0,0 +1,35 @@
+package com.odi.apiserver.infrastructure.external.ai.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatResponseCacheTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ChatResponseCache cache = new ChatResponseCache(meterRegistry, true, 1 << 20,
+            Duration.ofMinutes(5), 0.1);
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", ChatResponseCache.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    @Test
+    void publishesHitAndMissCounts() {
+        ChatCacheKey key = new ChatCacheKey("오늘 날씨 어때?", 100);
+
+        assertThat(cache.get(key)).isNull();
+        cache.put(key, "맑고 선선해요");
+        assertThat(cache.get(key)).isEqualTo("맑고 선선해요");
+        assertThat(cache.get(key)).isEqualTo("맑고 선선해요");
+
+        assertThat(gets("miss")).isEqualTo(1);
+        assertThat(gets("hit")).isEqualTo(2);
+    }
+}
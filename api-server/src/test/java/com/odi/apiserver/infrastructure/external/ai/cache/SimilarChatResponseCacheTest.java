@@ -0,0 +1,185 @@
+package com.odi.apiserver.infrastructure.external.ai.cache;
+
+import com.odi.apiserver.domain.ai.ChatMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimilarChatResponseCacheTest {
+    private static final List<String> BASES = List.of(
+            "비 오는 날 실내 데이트 코스 추천해줘",
+            "강남역 근처 맛집 알려줘",
+            "오늘 서울 날씨에 맞는 옷차림을 추천해줘. 우산이 필요할까?",
+            "주말에 아이랑 갈 만한 곳 있어?",
+            "Recommend a cafe near Seoul Station",
+            "퇴근하고 혼자 조용히 책 읽을 수 있는 카페 추천해줘",
+            "미세먼지 심한 날 운동할 만한 실내 장소 알려줘",
+            "3시에 친구 만나기 좋은 장소 추천",
+            "한강에서 자전거 타기 좋은 코스 알려줘",
+            "오늘 어디 갈까?");
+
+    // 같은 질문 (기대 응답 = BASES 인덱스)
+    private static final List<Variant> DUPLICATES = List.of(
+            new Variant(0, "비오는 날 실내 데이트 코스 추천해 줘!"),
+            new Variant(0, "비 오는 날 실내 데이트 코스 추천해주세요"),
+            new Variant(0, "비 오는 날 실내 데이트 코스 좀 추천해줘"),
+            new Variant(1, "강남역 근처 맛집 알려줘요"),
+            new Variant(1, "강남역근처 맛집 알려 줘 ㅎㅎ"),
+            new Variant(1, "강남역 근처 맛집 알려줘!!!"),
+            new Variant(2, "오늘 서울 날씨에 맞는 옷차림을 추천해 줘 우산이 필요할까"),
+            new Variant(3, "주말에 아이랑 갈만한 곳 있어??"),
+            new Variant(3, "주말에 아이랑 갈 만한 곳 있나요?"),
+            new Variant(4, "recommend a cafe near seoul station!!"),
+            new Variant(4, "Recommend a cafe near Seoul station?"),
+            new Variant(5, "퇴근하고 혼자 조용히 책 읽을 수 있는 카페 추천해 주세요"),
+            new Variant(5, "퇴근하고 혼자 조용히 책 읽을수 있는 카페 추천해줘~"),
+            new Variant(6, "미세먼지 심한 날 운동할 만한 실내 장소 알려주세요"),
+            new Variant(6, "미세먼지 심한날 운동할만한 실내 장소 알려줘 😷"),
+            new Variant(7, "3시에 친구 만나기 좋은 장소 추천!"),
+            new Variant(7, "3시에 친구 만나기 좋은 장소 추천해줘"),
+            new Variant(8, "한강에서 자전거 타기 좋은 코스 알려줘요"),
+            new Variant(8, "한강에서 자전거 타기 좋은 코스 알려 주세요"),
+            new Variant(9, "오늘 어디 갈까"),
+            new Variant(9, "오늘 어디 가지?"),
+            new Variant(9, "오늘 어디 갈까요?"),
+            new Variant(9, "오늘 어디 가나요?"),
+            new Variant(9, "오늘 어디 갈래?"));
+
+    // 같은 질문이지만 현재 규칙으로는 적중하지 않는 경우 (알려진 false negative)
+    // - 조사 두 개("을", "이")가 빠지면 Jaccard가 임계값(0.8) 아래로 내려감 (약 0.78)
+    private static final List<Variant> KNOWN_MISSES = List.of(
+            new Variant(2, "오늘 서울 날씨에 맞는 옷차림 추천해줘. 우산 필요할까?"));
+
+    // 비슷해 보이지만 다른 질문 (어떤 응답도 재사용하면 안 됨)
+    private static final List<String> DIFFERENT = List.of(
+            "눈 오는 날 실내 데이트 코스 추천해줘",
+            "비 오는 날 야외 데이트 코스 추천해줘",
+            "홍대입구역 근처 맛집 알려줘",
+            "강남역 근처 카페 알려줘",
+            "오늘 부산 날씨에 맞는 옷차림을 추천해줘. 우산이 필요할까?",
+            "내일 서울 날씨에 맞는 옷차림을 추천해줘. 우산이 필요할까?",
+            "주말에 강아지랑 갈 만한 곳 있어?",
+            "Recommend a bar near Seoul Station",
+            "퇴근하고 혼자 조용히 술 마실 수 있는 바 추천해줘",
+            "출근하고 혼자 조용히 책 읽을 수 있는 카페 추천해줘",
+            "미세먼지 심한 날 운동할 만한 야외 장소 알려줘",
+            "5시에 친구 만나기 좋은 장소 추천",
+            "한강에서 산책하기 좋은 코스 알려줘",
+            "내일 어디 갈까?",
+            "내일 어디 가지?",
+            "오늘 어디 놀까?",
+            "오늘 뭐 먹을까?");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private SimilarChatResponseCache cache(long maxWeightBytes) {
+        return new SimilarChatResponseCache(meterRegistry, true, 0.8, 64, 16, 16, 500, maxWeightBytes,
+                Duration.ofMinutes(5));
+    }
+
+    private static String lookup(SimilarChatResponseCache cache, String message, int maxTokens) {
+        return cache.get(cache.sign(ChatMessage.createRequest(message, maxTokens)));
+    }
+
+    private static void store(SimilarChatResponseCache cache, String message, int maxTokens, String response) {
+        cache.put(cache.sign(ChatMessage.createRequest(message, maxTokens)), response);
+    }
+
+    private SimilarChatResponseCache cacheWithBases() {
+        SimilarChatResponseCache cache = cache(10 * 1024 * 1024);
+        for (int i = 0; i < BASES.size(); i++) {
+            store(cache, BASES.get(i), 100, "응답-" + i);
+        }
+        return cache;
+    }
+
+    @Test
+    void everyDuplicateHitsItsBase() {
+        SimilarChatResponseCache cache = cacheWithBases();
+
+        // 띄어쓰기/문장부호/어미/보조 용언/종결 어미 변형은 모두 원래 질문의 응답을 재사용
+        for (Variant variant : DUPLICATES) {
+            assertThat(lookup(cache, variant.message(), 100))
+                    .as(variant.message())
+                    .isEqualTo("응답-" + variant.base());
+        }
+    }
+
+    @Test
+    void knownFalseNegativesMiss() {
+        SimilarChatResponseCache cache = cacheWithBases();
+
+        // 규칙을 바꿔 적중하게 되면 이 목록을 DUPLICATES로 옮길 것
+        for (Variant variant : KNOWN_MISSES) {
+            assertThat(lookup(cache, variant.message(), 100))
+                    .as(variant.message())
+                    .isNull();
+        }
+    }
+
+    @Test
+    void differentQuestionsNeverHit() {
+        SimilarChatResponseCache cache = cacheWithBases();
+
+        // 단어를 바꾼 질문은 하나도 적중하면 안 됨
+        for (String message : DIFFERENT) {
+            assertThat(lookup(cache, message, 100)).as(message).isNull();
+        }
+    }
+
+    @Test
+    void exactRepeatAlwaysHits() {
+        SimilarChatResponseCache cache = cache(1024 * 1024);
+        store(cache, "오늘 어디 갈까?", 100, "응답");
+
+        assertThat(lookup(cache, "오늘 어디 갈까?", 100)).isEqualTo("응답");
+        assertThat(meterRegistry.counter("chat.similarity-cache", "result", "hit").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void differentMaxTokensOrNumbersNeverMatch() {
+        SimilarChatResponseCache cache = cache(1024 * 1024);
+        store(cache, "3시에 친구 만나기 좋은 장소 추천", 100, "응답");
+
+        assertThat(lookup(cache, "3시에 친구 만나기 좋은 장소 추천", 200)).isNull();
+        assertThat(lookup(cache, "13시에 친구 만나기 좋은 장소 추천", 100)).isNull();
+        assertThat(lookup(cache, "3시 30분에 친구 만나기 좋은 장소 추천", 100)).isNull();
+    }
+
+    @Test
+    void skipsPromptsWithoutWordsOrTooLong() {
+        SimilarChatResponseCache cache = cache(1024 * 1024);
+
+        assertThat(cache.sign(ChatMessage.createRequest("?!", 100))).isNull();
+        assertThat(cache.sign(ChatMessage.createRequest("가".repeat(501), 100))).isNull();
+        assertThat(meterRegistry.counter("chat.similarity-cache", "result", "skipped").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void evictionKeepsMemoryBoundedAndCleansBuckets() {
+        SimilarChatResponseCache cache = cache(32 * 1024);
+        for (int i = 0; i < 2000; i++) {
+            store(cache, "서울 " + i + "번 출구 근처 맛집 알려줘", 100, "응답-" + i);
+        }
+
+        long size = cache.estimatedSize();
+        assertThat(size).isBetween(1L, 100L);
+        // 축출된 엔트리의 버킷은 정리되어 남은 엔트리 수 x 밴드 수를 넘지 않음
+        assertThat(cache.bucketCount()).isLessThanOrEqualTo((int) size * 16);
+    }
+
+    @Test
+    void disabledCacheNeverSigns() {
+        SimilarChatResponseCache cache = new SimilarChatResponseCache(meterRegistry, false, 0.8, 64, 16, 16, 500,
+                1024 * 1024, Duration.ofMinutes(5));
+
+        assertThat(cache.sign(ChatMessage.createRequest("오늘 어디 갈까?", 100))).isNull();
+    }
+
+    private record Variant(int base, String message) {
+    }
+}
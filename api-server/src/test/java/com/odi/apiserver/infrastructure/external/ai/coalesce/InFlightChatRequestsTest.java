@@ -0,0 +1,115 @@
+package com.odi.apiserver.infrastructure.external.ai.coalesce;
+
+import com.odi.apiserver.common.deadline.RequestDeadline;
+import com.odi.apiserver.infrastructure.external.ai.cache.ChatCacheKey;
+import com.odi.apiserver.infrastructure.external.ai.dto.ExternalChatResponse;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InFlightChatRequestsTest {
+    private static final ChatCacheKey KEY = new ChatCacheKey("오늘 어디 갈까?", 100);
+    private static final ExternalChatResponse RESPONSE = ExternalChatResponse.of("공원 산책 어때?", null);
+
+    private final InFlightChatRequests requests = new InFlightChatRequests(true);
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    private Mono<ExternalChatResponse> counted(Mono<ExternalChatResponse> upstream) {
+        return Mono.defer(() -> {
+            upstreamCalls.incrementAndGet();
+            return upstream;
+        });
+    }
+
+    @Test
+    void concurrentIdenticalRequestsShareOneUpstreamCall() {
+        Sinks.One<ExternalChatResponse> upstream = Sinks.one();
+        List<ExternalChatResponse> received = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            requests.execute(KEY, () -> counted(upstream.asMono())).subscribe(received::add);
+        }
+        assertThat(requests.inFlightCount()).isEqualTo(1);
+
+        upstream.tryEmitValue(RESPONSE);
+
+        assertThat(received).hasSize(3).containsOnly(RESPONSE);
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(requests.coalescedCount()).isEqualTo(2);
+        assertThat(requests.inFlightCount()).isZero();
+    }
+
+    @Test
+    void lateJoinerAfterValueStillReceivesIt() {
+        // 값은 나왔지만 아직 완료 신호 전인 upstream (목록에서 빠지기 전 구간)
+        Sinks.Many<ExternalChatResponse> upstream = Sinks.many().unicast().onBackpressureBuffer();
+        requests.execute(KEY, () -> counted(Mono.fromDirect(upstream.asFlux()))).subscribe();
+        upstream.tryEmitNext(RESPONSE);
+
+        ExternalChatResponse late = requests.execute(KEY, () -> counted(Mono.just(RESPONSE)))
+                .block(Duration.ofSeconds(1));
+
+        assertThat(late).isEqualTo(RESPONSE);
+        assertThat(upstreamCalls).hasValue(1);
+
+        upstream.tryEmitComplete();
+        assertThat(requests.inFlightCount()).isZero();
+    }
+
+    @Test
+    void cancellingOneSubscriberKeepsTheOthers() {
+        AtomicBoolean upstreamCancelled = new AtomicBoolean();
+        Sinks.One<ExternalChatResponse> upstream = Sinks.one();
+        Mono<ExternalChatResponse> call = upstream.asMono().doOnCancel(() -> upstreamCancelled.set(true));
+        List<ExternalChatResponse> received = new CopyOnWriteArrayList<>();
+
+        Disposable first = requests.execute(KEY, () -> counted(call)).subscribe(received::add);
+        requests.execute(KEY, () -> counted(call)).subscribe(received::add);
+        first.dispose();
+
+        assertThat(upstreamCancelled).isFalse();
+        upstream.tryEmitValue(RESPONSE);
+        assertThat(received).containsExactly(RESPONSE);
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    void sharedCallDoesNotCarryTheLeadersDeadline() {
+        Mono<ExternalChatResponse> call = Mono.deferContextual(context ->
+                Mono.just(ExternalChatResponse.of(String.valueOf(RequestDeadline.current(context)), null)));
+
+        ExternalChatResponse response = requests.execute(KEY, () -> call)
+                .contextWrite(context -> context.put(RequestDeadline.CONTEXT_KEY,
+                        RequestDeadline.after(Duration.ofMillis(100))))
+                .block(Duration.ofSeconds(1));
+
+        assertThat(response.getResponse()).isEqualTo("null");
+    }
+
+    @Test
+    void cancelsUpstreamWhenLastSubscriberLeaves() {
+        AtomicBoolean upstreamCancelled = new AtomicBoolean();
+        Mono<ExternalChatResponse> call = Mono.<ExternalChatResponse>never().doOnCancel(() -> upstreamCancelled.set(true));
+
+        Disposable first = requests.execute(KEY, () -> counted(call)).subscribe();
+        Disposable second = requests.execute(KEY, () -> counted(call)).subscribe();
+        first.dispose();
+        second.dispose();
+
+        assertThat(upstreamCancelled).isTrue();
+        assertThat(requests.inFlightCount()).isZero();
+
+        // 취소된 호출에 묶이지 않고 새 호출로 처리
+        assertThat(requests.execute(KEY, () -> counted(Mono.just(RESPONSE))).block(Duration.ofSeconds(1)))
+                .isEqualTo(RESPONSE);
+        assertThat(upstreamCalls).hasValue(2);
+    }
+}
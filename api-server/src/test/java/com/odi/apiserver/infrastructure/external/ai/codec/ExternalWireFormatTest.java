@@ -0,0 +1,72 @@
+package com.odi.apiserver.infrastructure.external.ai.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.odi.apiserver.infrastructure.external.ai.dto.ExternalChatResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExternalWireFormatTest {
+
+    private static ExternalWireFormat wireFormat(String format) {
+        return new ExternalWireFormat(Jackson2ObjectMapperBuilder.json(), Jackson2ObjectMapperBuilder.json().build(),
+                format);
+    }
+
+    @Test
+    void sendsJsonUntilUpstreamAnswersInCbor() {
+        ExternalWireFormat wireFormat = wireFormat("cbor");
+
+        assertThat(wireFormat.accept()).containsExactly(MediaType.APPLICATION_CBOR, MediaType.APPLICATION_JSON);
+        assertThat(wireFormat.requestContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+
+        wireFormat.responded(MediaType.APPLICATION_JSON);
+        assertThat(wireFormat.requestContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+
+        wireFormat.responded(MediaType.APPLICATION_CBOR);
+        assertThat(wireFormat.requestContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+    }
+
+    @Test
+    void rejectedCborBodyFallsBackToJson() {
+        ExternalWireFormat wireFormat = wireFormat("cbor");
+        wireFormat.responded(MediaType.APPLICATION_CBOR);
+
+        assertThat(wireFormat.rejected(MediaType.APPLICATION_CBOR)).isTrue();
+        assertThat(wireFormat.requestContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        // JSON 본문이 거절된 건 형식 문제가 아니므로 다시 보내지 않음
+        assertThat(wireFormat.rejected(MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    @Test
+    void jsonModeNeverNegotiatesCbor() {
+        ExternalWireFormat wireFormat = wireFormat("json");
+
+        wireFormat.responded(MediaType.APPLICATION_CBOR);
+
+        assertThat(wireFormat.accept()).containsExactly(MediaType.APPLICATION_JSON);
+        assertThat(wireFormat.requestContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+    }
+
+    @Test
+    void cborMapperReadsUpstreamResponseLikeJsonMapper() throws Exception {
+        ExternalWireFormat wireFormat = wireFormat("cbor");
+        ObjectMapper cborMapper = wireFormat.mapper(MediaType.APPLICATION_CBOR);
+        // ai-server가 필드를 추가해도 JSON과 마찬가지로 무시
+        byte[] body = cborMapper.writeValueAsBytes(Map.of(
+                "response", "비 오는 날엔 실내 전시를 추천해요 ☔",
+                "usage", Map.of("prompt_tokens", 12, "completion_tokens", 34, "total_tokens", 46),
+                "model", "HCX-005"));
+
+        ExternalChatResponse response = cborMapper.readValue(body, ExternalChatResponse.class);
+
+        assertThat(response.getResponse()).isEqualTo("비 오는 날엔 실내 전시를 추천해요 ☔");
+        assertThat(response.getTokensUsed()).isEqualTo(34);
+        assertThat(wireFormat.mapper(MediaType.parseMediaType("application/json;charset=UTF-8")))
+                .isNotSameAs(cborMapper);
+    }
+}
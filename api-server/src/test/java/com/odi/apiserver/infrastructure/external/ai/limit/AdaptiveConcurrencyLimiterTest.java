@@ -0,0 +1,110 @@
+package com.odi.apiserver.infrastructure.external.ai.limit;
+
+import com.odi.apiserver.common.exception.BusinessException;
+import com.odi.apiserver.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveConcurrencyLimiterTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 초기 한도 4, 2~10 사이, 100ms 넘으면 느린 응답, 감소 시 절반
+    private AdaptiveConcurrencyLimiter limiter(Duration latencyThreshold) {
+        return new AdaptiveConcurrencyLimiter(meterRegistry, true, 4, 2, 10, latencyThreshold, 0.5);
+    }
+
+    @Test
+    void growsLimitWhenFastAndBusy() {
+        AdaptiveConcurrencyLimiter limiter = limiter(Duration.ofSeconds(1));
+        Sinks.One<String> first = Sinks.one();
+        Sinks.One<String> second = Sinks.one();
+        limiter.limit(first.asMono()).subscribe();
+        limiter.limit(second.asMono()).subscribe();
+
+        // 완료 시점에 한도의 절반 이상(2/4)을 쓰고 있었으므로 +1, 다음 완료(1/5)는 유휴에 가까워 그대로
+        first.tryEmitValue("ok");
+        second.tryEmitValue("ok");
+
+        assertThat(limiter.getLimit()).isEqualTo(5.0);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void doesNotGrowWhileMostlyIdle() {
+        AdaptiveConcurrencyLimiter limiter = limiter(Duration.ofSeconds(1));
+
+        for (int i = 0; i < 10; i++) {
+            limiter.limit(Mono.just("ok")).block();
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(4.0);
+    }
+
+    @Test
+    void shrinksLimitWhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = limiter(Duration.ofMillis(10));
+
+        limiter.limit(Mono.delay(Duration.ofMillis(50)).thenReturn("ok")).block();
+
+        assertThat(limiter.getLimit()).isEqualTo(2.0);
+    }
+
+    @Test
+    void shrinksLimitOnCongestionErrorsButNotOnOtherErrors() {
+        AdaptiveConcurrencyLimiter limiter = limiter(Duration.ofSeconds(1));
+
+        assertThatThrownBy(() -> limiter.limit(Mono.error(new BusinessException(ErrorCode.INVALID_REQUEST))).block())
+                .isInstanceOf(BusinessException.class);
+        assertThat(limiter.getLimit()).isEqualTo(4.0);
+
+        assertThatThrownBy(() -> limiter.limit(Mono.error(new TimeoutException())).block())
+                .hasCauseInstanceOf(TimeoutException.class);
+        assertThat(limiter.getLimit()).isEqualTo(2.0);
+
+        // 최소 한도 아래로는 줄지 않음
+        assertThatThrownBy(() -> limiter.limit(Mono.error(new TimeoutException())).block());
+        assertThat(limiter.getLimit()).isEqualTo(2.0);
+    }
+
+    @Test
+    void rejectsImmediatelyAtLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(Duration.ofSeconds(1));
+        for (int i = 0; i < 4; i++) {
+            limiter.limit(Mono.never()).subscribe();
+        }
+
+        assertThatThrownBy(() -> limiter.limit(Mono.just("ok")).block())
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.EXTERNAL_API_OVERLOADED));
+        assertThatThrownBy(() -> limiter.limitStream(Flux.just("ok")).blockLast())
+                .isInstanceOf(BusinessException.class);
+        assertThat(meterRegistry.counter("external.chat.concurrency.rejected").count()).isEqualTo(2.0);
+        assertThat(limiter.getInFlight()).isEqualTo(4);
+    }
+
+    @Test
+    void releasesPermitOnErrorAndCancel() {
+        AdaptiveConcurrencyLimiter limiter = limiter(Duration.ofSeconds(1));
+
+        assertThatThrownBy(() -> limiter.limit(Mono.error(new IllegalStateException("boom"))).block());
+        assertThat(limiter.getInFlight()).isZero();
+
+        Disposable call = limiter.limit(Mono.never()).subscribe();
+        Disposable stream = limiter.limitStream(Flux.never()).subscribe();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+
+        call.dispose();
+        stream.dispose();
+        assertThat(limiter.getInFlight()).isZero();
+    }
+}
@@ -0,0 +1,33 @@
+package com.odi.apiserver.infrastructure.external.ai.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryBudgetTest {
+
+    @Test
+    void deniesRetriesUntilSuccessesRefillBudget() {
+        RetryBudget budget = new RetryBudget(0.5, 2);
+
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isFalse();
+
+        budget.onSuccess();
+        assertThat(budget.tryWithdraw()).isFalse();
+
+        budget.onSuccess();
+        assertThat(budget.tryWithdraw()).isTrue();
+    }
+
+    @Test
+    void balanceIsCappedAtMaxTokens() {
+        RetryBudget budget = new RetryBudget(1.0, 1);
+
+        budget.onSuccess();
+        budget.onSuccess();
+
+        assertThat(budget.getBalance()).isEqualTo(1.0);
+    }
+}
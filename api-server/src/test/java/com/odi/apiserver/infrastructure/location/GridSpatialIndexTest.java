@@ -0,0 +1,101 @@
+package com.odi.apiserver.infrastructure.location;
+
+import com.odi.apiserver.domain.location.GeoDistance;
+import com.odi.apiserver.domain.location.NearbyPlace;
+import com.odi.apiserver.domain.location.entity.Place;
+import com.odi.apiserver.domain.location.entity.PlaceCategory;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GridSpatialIndexTest {
+    private static final PlaceCategory[] CATEGORIES = PlaceCategory.values();
+
+    private List<Place> randomPlaces(Random random, int count, double minLat, double maxLat,
+                                     double minLon, double maxLon) {
+        List<Place> places = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            places.add(Place.of(i, "place-" + i, CATEGORIES[random.nextInt(CATEGORIES.length)],
+                    minLat + random.nextDouble() * (maxLat - minLat),
+                    minLon + random.nextDouble() * (maxLon - minLon)));
+        }
+        return places;
+    }
+
+    // 전수 비교용 정답
+    private List<Long> bruteForce(List<Place> places, double lat, double lon, double radius, int limit, long mask) {
+        return places.stream()
+                .filter(place -> (mask & place.getCategory().bit()) != 0)
+                .filter(place -> GeoDistance.meters(lat, lon, place.getLatitude(), place.getLongitude()) <= radius)
+                .sorted(Comparator.comparingDouble(place ->
+                        GeoDistance.meters(lat, lon, place.getLatitude(), place.getLongitude())))
+                .limit(limit)
+                .map(Place::getId)
+                .toList();
+    }
+
+    private List<Long> ids(List<NearbyPlace> places) {
+        return places.stream().map(NearbyPlace::getPlaceId).toList();
+    }
+
+    @Test
+    void radiusAndNearestMatchBruteForce() {
+        Random random = new Random(7);
+        List<Place> places = randomPlaces(random, 20_000, 33.0, 38.6, 124.6, 131.0);
+        GridSpatialIndex index = GridSpatialIndex.build(places, 0.01);
+        long cafeOrPark = PlaceCategory.mask(Set.of(PlaceCategory.CAFE, PlaceCategory.PARK));
+
+        for (int q = 0; q < 200; q++) {
+            double lat = 33.0 + random.nextDouble() * 5.6;
+            double lon = 124.6 + random.nextDouble() * 6.4;
+
+            assertThat(ids(index.withinRadius(lat, lon, 5_000, 20, PlaceCategory.ALL)))
+                    .isEqualTo(bruteForce(places, lat, lon, 5_000, 20, PlaceCategory.ALL));
+            assertThat(ids(index.withinRadius(lat, lon, 8_000, 20, cafeOrPark)))
+                    .isEqualTo(bruteForce(places, lat, lon, 8_000, 20, cafeOrPark));
+            assertThat(ids(index.nearest(lat, lon, 10, cafeOrPark, 200_000)))
+                    .isEqualTo(bruteForce(places, lat, lon, 200_000, 10, cafeOrPark));
+        }
+    }
+
+    @Test
+    void reportsDistancesInAscendingOrder() {
+        GridSpatialIndex index = GridSpatialIndex.build(List.of(
+                Place.of(1, "시청", PlaceCategory.CULTURE, 37.5663, 126.9779),
+                Place.of(2, "광화문", PlaceCategory.TOURIST_ATTRACTION, 37.5759, 126.9768),
+                Place.of(3, "남산", PlaceCategory.PARK, 37.5512, 126.9882)), 0.01);
+
+        List<NearbyPlace> result = index.nearest(37.5665, 126.9780, 3, PlaceCategory.ALL, 50_000);
+
+        assertThat(ids(result)).containsExactly(1L, 2L, 3L);
+        assertThat(result.get(0).getDistanceMeters()).isLessThan(50);
+        assertThat(result.get(1).getDistanceMeters()).isBetween(1_000.0, 1_100.0);
+    }
+
+    @Test
+    void searchesAcrossAntimeridian() {
+        GridSpatialIndex index = GridSpatialIndex.build(List.of(
+                Place.of(1, "east", PlaceCategory.ETC, 0.0, 179.999),
+                Place.of(2, "west", PlaceCategory.ETC, 0.0, -179.999)), 0.01);
+
+        assertThat(ids(index.withinRadius(0.0, 179.9995, 1_000, 10, PlaceCategory.ALL)))
+                .containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void stopsAtMaxRadius() {
+        GridSpatialIndex index = GridSpatialIndex.build(List.of(
+                Place.of(1, "near", PlaceCategory.CAFE, 37.0, 127.0),
+                Place.of(2, "far", PlaceCategory.CAFE, 38.0, 127.0)), 0.01);
+
+        assertThat(ids(index.nearest(37.0, 127.0, 5, PlaceCategory.ALL, 10_000))).containsExactly(1L);
+        assertThat(index.nearest(37.0, 127.0, 5, PlaceCategory.ALL, 10_000)).hasSize(1);
+        assertThat(GridSpatialIndex.empty(0.01).nearest(37.0, 127.0, 5, PlaceCategory.ALL, 10_000)).isEmpty();
+    }
+}
@@ -0,0 +1,51 @@
+package com.odi.apiserver.infrastructure.persistence.jdbc;
+
+import com.odi.apiserver.domain.ai.ChatMessage;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * write-behind 저장 하네스 (H2)
+ * - 요청 스레드 관점의 save() 지연 분포: 기록 저장을 켜도 요청 지연이 평평한지 확인
+ * - writer의 batch insert 처리량 (rows/s)
+ * - 실행: ./gradlew benchmark --tests '*ChatHistoryWriteBehindBenchmark' -Dbench.records=200000 -Dbench.batchSize=500
+ */
+@Tag("benchmark")
+class ChatHistoryWriteBehindBenchmark {
+    private static final int RECORDS = Integer.getInteger("bench.records", 200_000);
+    private static final int BATCH_SIZE = Integer.getInteger("bench.batchSize", 500);
+
+    @Test
+    void measureSaveLatencyAndInsertThroughput() throws Exception {
+        H2ChatHistory h2 = new H2ChatHistory();
+        WriteBehindChatHistoryAdapter adapter = h2.adapter(RECORDS, BATCH_SIZE, "drop-newest");
+
+        List<ChatMessage> messages = new ArrayList<>(RECORDS);
+        for (int i = 0; i < RECORDS; i++) {
+            messages.add(H2ChatHistory.completed(i));
+        }
+
+        adapter.start();
+        Histogram saveLatency = new Histogram(TimeUnit.SECONDS.toNanos(1), 3);
+        long start = System.nanoTime();
+        for (ChatMessage message : messages) {
+            long saveStart = System.nanoTime();
+            adapter.save(message);
+            saveLatency.recordValue(System.nanoTime() - saveStart);
+        }
+        adapter.stop();
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("%n=== Chat history write-behind (records=%d, batchSize=%d, H2) ===%n", RECORDS, BATCH_SIZE);
+        System.out.printf("save()   p50=%.1f us  p99=%.1f us  p999=%.1f us  max=%.1f us%n",
+                saveLatency.getValueAtPercentile(50) / 1_000.0, saveLatency.getValueAtPercentile(99) / 1_000.0,
+                saveLatency.getValueAtPercentile(99.9) / 1_000.0, saveLatency.getMaxValue() / 1_000.0);
+        System.out.printf("insert   rows=%d  throughput=%.0f rows/s%n",
+                h2.rowCount(), h2.rowCount() / (elapsed / 1_000_000_000.0));
+    }
+}
@@ -0,0 +1,42 @@
+package com.odi.apiserver.infrastructure.persistence.jdbc;
+
+import com.odi.apiserver.domain.ai.ChatMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 채팅 기록 테스트용 H2(MySQL 모드) 저장소와 어댑터 생성 도우미
+ */
+final class H2ChatHistory {
+    final JdbcTemplate jdbcTemplate;
+
+    H2ChatHistory() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:chat-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/chat_history.sql")).execute(dataSource);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    WriteBehindChatHistoryAdapter adapter(int queueCapacity, int batchSize, String overflow) {
+        return adapter(jdbcTemplate, queueCapacity, batchSize, overflow);
+    }
+
+    WriteBehindChatHistoryAdapter adapter(JdbcTemplate jdbcTemplate, int queueCapacity, int batchSize, String overflow) {
+        return new WriteBehindChatHistoryAdapter(jdbcTemplate, new SimpleMeterRegistry(),
+                queueCapacity, batchSize, Duration.ofMillis(20), Duration.ofSeconds(10), overflow);
+    }
+
+    int rowCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chat_history", Integer.class);
+    }
+
+    static ChatMessage completed(int index) {
+        return ChatMessage.createRequest("기록 테스트 메시지 " + index, 100).withResponse("응답 " + index, 18);
+    }
+}
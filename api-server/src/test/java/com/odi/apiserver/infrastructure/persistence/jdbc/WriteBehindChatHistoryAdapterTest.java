@@ -0,0 +1,121 @@
+package com.odi.apiserver.infrastructure.persistence.jdbc;
+
+import com.odi.apiserver.domain.ai.ChatMessage;
+import com.odi.apiserver.domain.ai.ChatStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WriteBehindChatHistoryAdapterTest {
+    private final H2ChatHistory h2 = new H2ChatHistory();
+
+    @Test
+    void persistsCompletedAndFailedMessagesInBatches() throws Exception {
+        WriteBehindChatHistoryAdapter adapter = h2.adapter(10_000, 100, "drop-newest");
+        adapter.start();
+
+        for (int i = 0; i < 1_000; i++) {
+            adapter.save(H2ChatHistory.completed(i));
+        }
+        adapter.save(ChatMessage.createRequest("실패 요청", 100).withFailure("timeout"));
+        adapter.stop();
+
+        assertThat(h2.rowCount()).isEqualTo(1_001);
+        Map<String, Object> failed = h2.jdbcTemplate.queryForMap(
+                "SELECT status, response, tokens_used FROM chat_history WHERE message = '실패 요청'");
+        assertThat(failed).containsEntry("STATUS", "FAILED").containsEntry("RESPONSE", "timeout");
+    }
+
+    @Test
+    void flushesEverythingQueuedOnShutdown() throws Exception {
+        // writer를 시작하지 않은 상태에서 종료해도 큐에 남은 기록은 모두 저장
+        WriteBehindChatHistoryAdapter adapter = h2.adapter(10_000, 100, "drop-newest");
+        for (int i = 0; i < 2_500; i++) {
+            adapter.save(H2ChatHistory.completed(i));
+        }
+
+        adapter.stop();
+
+        assertThat(h2.rowCount()).isEqualTo(2_500);
+        assertThat(adapter.pending()).isZero();
+    }
+
+    @Test
+    void dropsNewestWhenQueueIsFull() throws Exception {
+        WriteBehindChatHistoryAdapter adapter = h2.adapter(10, 10, "drop-newest");
+        for (int i = 0; i < 15; i++) {
+            adapter.save(H2ChatHistory.completed(i));
+        }
+
+        adapter.stop();
+
+        assertThat(h2.rowCount()).isEqualTo(10);
+        assertThat(h2.jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM chat_history WHERE message = '기록 테스트 메시지 14'", Integer.class)).isZero();
+    }
+
+    @Test
+    void dropsOldestWhenConfigured() throws Exception {
+        WriteBehindChatHistoryAdapter adapter = h2.adapter(10, 10, "drop-oldest");
+        for (int i = 0; i < 15; i++) {
+            adapter.save(H2ChatHistory.completed(i));
+        }
+
+        adapter.stop();
+
+        assertThat(h2.rowCount()).isEqualTo(10);
+        assertThat(h2.jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM chat_history WHERE message = '기록 테스트 메시지 0'", Integer.class)).isZero();
+    }
+
+    @Test
+    void retriesFailedBatchOnceWithoutDuplicates() throws Exception {
+        AtomicInteger failures = new AtomicInteger(1);
+        JdbcTemplate flaky = new JdbcTemplate(h2.jdbcTemplate.getDataSource()) {
+            @Override
+            public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
+                                           ParameterizedPreparedStatementSetter<T> setter) {
+                if (failures.getAndDecrement() > 0) {
+                    throw new DataAccessResourceFailureException("connection reset");
+                }
+                return super.batchUpdate(sql, batchArgs, batchSize, setter);
+            }
+        };
+        WriteBehindChatHistoryAdapter adapter = h2.adapter(flaky, 100, 100, "drop-newest");
+        for (int i = 0; i < 20; i++) {
+            adapter.save(H2ChatHistory.completed(i));
+        }
+
+        adapter.stop();
+
+        assertThat(h2.rowCount()).isEqualTo(20);
+    }
+
+    @Test
+    void fallsBackToRowByRowAndDropsOnlyTheBadRecord() throws Exception {
+        WriteBehindChatHistoryAdapter adapter = h2.adapter(100, 100, "drop-newest");
+        for (int i = 0; i < 5; i++) {
+            adapter.save(H2ChatHistory.completed(i));
+        }
+        // request_id VARCHAR(32)보다 길어 insert가 항상 실패하는 기록
+        adapter.save(ChatMessage.builder()
+                .requestId("x".repeat(40))
+                .message("저장 불가 기록")
+                .status(ChatStatus.COMPLETED)
+                .build());
+
+        adapter.stop();
+
+        // 실패한 batch는 트랜잭션으로 되돌려지므로 한 건씩 다시 넣어도 중복 없음
+        assertThat(h2.rowCount()).isEqualTo(5);
+        assertThat(h2.jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM chat_history WHERE message = '저장 불가 기록'", Integer.class)).isZero();
+    }
+}
@@ -0,0 +1,148 @@
+package com.odi.apiserver.infrastructure.recommendation;
+
+import com.odi.apiserver.domain.recommendation.GeoCell;
+import com.odi.apiserver.domain.recommendation.RecommendationKey;
+import com.odi.apiserver.domain.recommendation.entity.Recommendation;
+import com.odi.apiserver.domain.recommendation.entity.TimeOfDay;
+import com.odi.apiserver.domain.recommendation.entity.WeatherCondition;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecommendationCacheTest {
+    private static final RecommendationKey KEY = new RecommendationKey(
+            GeoCell.of(37.5665, 126.9780, 6), WeatherCondition.RAIN, TimeOfDay.EVENING);
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger generated = new AtomicInteger();
+
+    // ttl 10분, 8분부터 미리 갱신, 만료 후 2시간까지 stale 허용
+    private RecommendationCache cache() {
+        return new RecommendationCache(meterRegistry, Duration.ofMinutes(10), Duration.ofMinutes(8),
+                Duration.ofHours(2), 1 << 20, clock::get);
+    }
+
+    private Mono<Recommendation> generate() {
+        return Mono.fromSupplier(() -> Recommendation.builder()
+                .key(KEY)
+                .places(List.of())
+                .message("추천 " + generated.incrementAndGet())
+                .generatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("recommendation.cache", "result", result).count();
+    }
+
+    @Test
+    void servesCachedResultWithinTtl() {
+        RecommendationCache cache = cache();
+
+        assertThat(cache.get(KEY, this::generate).block().getMessage()).isEqualTo("추천 1");
+        advance(Duration.ofMinutes(5));
+        assertThat(cache.get(KEY, this::generate).block().getMessage()).isEqualTo("추천 1");
+
+        assertThat(generated).hasValue(1);
+        assertThat(count("miss")).isEqualTo(1);
+        assertThat(count("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void refreshesAheadOfExpiryWithoutBlockingTheCaller() {
+        RecommendationCache cache = cache();
+        cache.get(KEY, this::generate).block();
+
+        advance(Duration.ofMinutes(9));
+        // 갱신 시점 이후 조회: 기존 결과로 즉시 응답하고 백그라운드에서 다시 생성
+        assertThat(cache.get(KEY, this::generate).block().getMessage()).isEqualTo("추천 1");
+        assertThat(cache.get(KEY, this::generate).block().getMessage()).isEqualTo("추천 2");
+
+        advance(Duration.ofMinutes(5));
+        assertThat(cache.get(KEY, this::generate).block().getMessage()).isEqualTo("추천 2");
+        assertThat(count("expired")).isZero();
+    }
+
+    @Test
+    void servesStaleResultWhenRegenerationFails() {
+        RecommendationCache cache = cache();
+        cache.get(KEY, this::generate).block();
+
+        advance(Duration.ofMinutes(30));
+        Recommendation result = cache.get(KEY, () -> Mono.error(new IllegalStateException("upstream down"))).block();
+
+        assertThat(result.getMessage()).isEqualTo("추천 1");
+        assertThat(count("stale")).isEqualTo(1);
+
+        advance(Duration.ofHours(3));
+        assertThat(cache.get(KEY, this::generate).block().getMessage()).isEqualTo("추천 2");
+    }
+
+    @Test
+    void servesStaleResultWhenRegenerationReturnsNothing() {
+        RecommendationCache cache = cache();
+        cache.get(KEY, this::generate).block();
+
+        advance(Duration.ofMinutes(30));
+        assertThat(cache.get(KEY, Mono::empty).block().getMessage()).isEqualTo("추천 1");
+        assertThat(count("stale")).isEqualTo(1);
+    }
+
+    @Test
+    void startsOnlyOneBackgroundRefreshAtATime() {
+        RecommendationCache cache = cache();
+        cache.get(KEY, this::generate).block();
+        advance(Duration.ofMinutes(9));
+
+        Sinks.One<Recommendation> upstream = Sinks.one();
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            assertThat(cache.get(KEY, () -> {
+                calls.incrementAndGet();
+                return upstream.asMono();
+            }).block().getMessage()).isEqualTo("추천 1");
+        }
+        assertThat(calls).hasValue(1);
+        assertThat(meterRegistry.counter("recommendation.cache.refresh").count()).isEqualTo(1);
+
+        upstream.tryEmitValue(generate().block());
+        assertThat(cache.get(KEY, this::generate).block().getMessage()).isEqualTo("추천 2");
+    }
+
+    @Test
+    void coalescesConcurrentGeneration() {
+        RecommendationCache cache = cache();
+        Sinks.One<Recommendation> upstream = Sinks.one();
+        AtomicInteger calls = new AtomicInteger();
+
+        Mono<Recommendation> first = cache.get(KEY, () -> {
+            calls.incrementAndGet();
+            return upstream.asMono();
+        }).cache();
+        Mono<Recommendation> second = cache.get(KEY, () -> {
+            calls.incrementAndGet();
+            return upstream.asMono();
+        }).cache();
+        first.subscribe();
+        second.subscribe();
+
+        upstream.tryEmitValue(generate().block());
+
+        assertThat(first.block()).isSameAs(second.block());
+        assertThat(calls).hasValue(1);
+    }
+}
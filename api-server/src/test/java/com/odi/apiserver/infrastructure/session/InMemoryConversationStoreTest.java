@@ -0,0 +1,57 @@
+package com.odi.apiserver.infrastructure.session;
+
+import com.odi.apiserver.domain.ai.conversation.Conversation;
+import com.odi.apiserver.domain.ai.conversation.ConversationTurn;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryConversationStoreTest {
+    private InMemoryConversationStore store(long maxWeightBytes) {
+        return new InMemoryConversationStore(new SimpleMeterRegistry(), Duration.ofMinutes(30), maxWeightBytes, 1000);
+    }
+
+    @Test
+    void appendsTurnsAndRemovesSession() {
+        InMemoryConversationStore store = store(1 << 20);
+
+        store.append("s1", ConversationTurn.user("안녕"), ConversationTurn.assistant("반가워"));
+        store.append("s1", ConversationTurn.user("뭐해?"), ConversationTurn.assistant("대화 중이야"));
+
+        assertThat(store.find("s1")).map(Conversation::turnCount).contains(4);
+        store.remove("s1");
+        assertThat(store.find("s1")).isEmpty();
+    }
+
+    @Test
+    void concurrentTurnsInSameSessionAreNotLost() throws Exception {
+        InMemoryConversationStore store = store(1 << 24);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 200; i++) {
+                int n = i;
+                executor.submit(() -> store.append("s1", ConversationTurn.user("q" + n), ConversationTurn.assistant("a" + n)));
+            }
+        }
+
+        assertThat(store.find("s1")).map(Conversation::turnCount).contains(400);
+    }
+
+    @Test
+    void evictsSessionsBeyondMemoryCap() {
+        InMemoryConversationStore store = store(64 * 1024);
+        String content = "가".repeat(1000);
+
+        for (int i = 0; i < 200; i++) {
+            store.append("s" + i, ConversationTurn.user(content), ConversationTurn.assistant(content));
+        }
+
+        // 세션당 약 4KB -> 64KB 상한이면 많아야 16개 남짓
+        assertThat(store.estimatedSize()).isLessThanOrEqualTo(16);
+    }
+}
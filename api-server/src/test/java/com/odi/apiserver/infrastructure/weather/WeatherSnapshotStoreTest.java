@@ -0,0 +1,157 @@
+package com.odi.apiserver.infrastructure.weather;
+
+import com.odi.apiserver.domain.recommendation.entity.WeatherCondition;
+import com.odi.apiserver.domain.weather.WeatherGrid;
+import com.odi.apiserver.domain.weather.WeatherGridSpec;
+import com.odi.apiserver.domain.weather.WeatherReading;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WeatherSnapshotStoreTest {
+    // 서울 일대 0.1도 격자 (2행 x 3열)
+    private static final WeatherGridSpec SPEC = new WeatherGridSpec(37.4, 126.8, 0.1, 2, 3);
+
+    @TempDir
+    Path directory;
+
+    private WeatherSnapshotStore store(int retain) {
+        return new WeatherSnapshotStore(new SimpleMeterRegistry(), directory, retain);
+    }
+
+    private static WeatherGrid grid(long version, WeatherCondition condition) {
+        int cells = SPEC.cellCount();
+        float[] temperatures = new float[cells];
+        float[] precipitations = new float[cells];
+        byte[] conditions = new byte[cells];
+        for (int i = 0; i < cells; i++) {
+            temperatures[i] = 10 + i;
+            precipitations[i] = i * 0.5f;
+            conditions[i] = WeatherGrid.encode(condition);
+        }
+        return new WeatherGrid(version, SPEC, temperatures, precipitations, conditions);
+    }
+
+    private long snapshotFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(MappedWeatherSnapshot.FILE_SUFFIX))
+                    .count();
+        }
+    }
+
+    @Test
+    void emptyStoreHasNoReadings() {
+        WeatherSnapshotStore store = store(2);
+
+        assertThat(store.currentVersion()).isEqualTo(-1);
+        assertThat(store.find(37.5, 127.0)).isEmpty();
+    }
+
+    @Test
+    void readsInstalledGridByCell() {
+        WeatherSnapshotStore store = store(2);
+        store.install(grid(100, WeatherCondition.RAIN));
+
+        // 2행 3열 중 (1, 2) 셀 = 5번
+        WeatherReading reading = store.find(37.55, 127.05).orElseThrow();
+        assertThat(reading.condition()).isEqualTo(WeatherCondition.RAIN);
+        assertThat(reading.temperature()).isEqualTo(15f);
+        assertThat(reading.precipitation()).isEqualTo(2.5f);
+        assertThat(reading.version()).isEqualTo(100);
+
+        // 격자 밖
+        assertThat(store.find(37.3, 127.0)).isEmpty();
+        assertThat(store.find(37.5, 127.2)).isEmpty();
+    }
+
+    @Test
+    void reopensLatestSnapshotAfterRestart() {
+        store(2).install(grid(100, WeatherCondition.SNOW));
+
+        WeatherSnapshotStore restarted = store(2);
+
+        assertThat(restarted.currentVersion()).isEqualTo(100);
+        assertThat(restarted.find(37.45, 126.85).orElseThrow().condition()).isEqualTo(WeatherCondition.SNOW);
+    }
+
+    @Test
+    void swapsToNewerVersionAndIgnoresOlder() {
+        WeatherSnapshotStore store = store(2);
+        store.install(grid(100, WeatherCondition.RAIN));
+        store.install(grid(200, WeatherCondition.CLEAR));
+        store.install(grid(150, WeatherCondition.SNOW));
+
+        assertThat(store.currentVersion()).isEqualTo(200);
+        assertThat(store.find(37.45, 126.85).orElseThrow().condition()).isEqualTo(WeatherCondition.CLEAR);
+    }
+
+    @Test
+    void prunesOldSnapshotFiles() throws IOException {
+        WeatherSnapshotStore store = store(2);
+        store.install(grid(100, WeatherCondition.RAIN));
+        store.install(grid(200, WeatherCondition.RAIN));
+        store.install(grid(300, WeatherCondition.RAIN));
+
+        assertThat(snapshotFiles()).isEqualTo(2);
+        assertThat(Files.exists(directory.resolve(MappedWeatherSnapshot.fileName(100)))).isFalse();
+        assertThat(store.find(37.45, 126.85)).isPresent();
+    }
+
+    @Test
+    void skipsCorruptedLatestFileOnStartup() throws IOException {
+        store(2).install(grid(100, WeatherCondition.CLOUDY));
+        Files.write(directory.resolve(MappedWeatherSnapshot.fileName(200)), new byte[]{1, 2, 3});
+
+        WeatherSnapshotStore restarted = store(2);
+
+        assertThat(restarted.currentVersion()).isEqualTo(100);
+    }
+
+    @Test
+    void ingestsGridFromProviderFile() throws IOException {
+        Path source = directory.resolve("weather.csv");
+        Files.writeString(source, """
+                300,37.4,126.8,0.1,2,3
+                1.5,0,CLEAR
+                2.5,0,CLEAR
+                3.5,0,CLOUDY
+                4.5,1.2,RAIN
+                5.5,3.4,RAIN
+                -2.0,0.8,SNOW
+                """);
+        WeatherSnapshotStore store = store(2);
+        FileWeatherProvider provider = new FileWeatherProvider(new DefaultResourceLoader(), source.toUri().toString());
+        WeatherIngestor ingestor = new WeatherIngestor(provider, store, new SimpleMeterRegistry(), true,
+                Duration.ofMinutes(10));
+
+        ingestor.ingest().block();
+
+        assertThat(store.currentVersion()).isEqualTo(300);
+        WeatherReading reading = store.find(37.55, 127.05).orElseThrow();
+        assertThat(reading.condition()).isEqualTo(WeatherCondition.SNOW);
+        assertThat(reading.temperature()).isEqualTo(-2.0f);
+        assertThat(store.find(37.45, 126.95).orElseThrow().condition()).isEqualTo(WeatherCondition.CLEAR);
+    }
+
+    @Test
+    void rejectsProviderFileWithMissingCells() throws IOException {
+        Path source = directory.resolve("weather.csv");
+        Files.writeString(source, """
+                300,37.4,126.8,0.1,2,3
+                1.5,0,CLEAR
+                """);
+
+        assertThatThrownBy(() -> FileWeatherProvider.read(new DefaultResourceLoader().getResource(source.toUri().toString())))
+                .isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,74 @@
+package com.odi.apiserver.load;
+
+import com.odi.apiserver.ApiServerApplication;
+import com.odi.apiserver.support.OpenLoadDriver;
+import com.odi.apiserver.support.StubAiServer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * /api/v1/ai/greeting 포화점 탐색 부하 테스트 (Clova Studio 호출 없음)
+ * - api-server를 실제 포트로 띄우고 ai-server 대역(StubAiServer)에 연결한 뒤 도착률을 단계적으로 올림
+ * - 실행: ./gradlew loadTest -Dload.startRate=200 -Dload.step=200 -Dload.maxRate=5000 -Dload.upstreamSigma=0.5
+ * - relay 모드 비교: -Dload.relay=true -Dload.responseChars=4000 (같은 조건으로 false와 번갈아 실행)
+ */
+@Tag("load")
+class GreetingLoadTest {
+    private static final int START_RATE = Integer.getInteger("load.startRate", 200);
+    private static final int STEP = Integer.getInteger("load.step", 200);
+    private static final int MAX_RATE = Integer.getInteger("load.maxRate", 5000);
+    private static final Duration STEP_DURATION = Duration.ofSeconds(Long.getLong("load.stepSeconds", 10));
+    private static final Duration P99_SLO = Duration.ofMillis(Long.getLong("load.p99SloMs", 500));
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("load.maxErrorRate", "0.01"));
+    private static final int MAX_OUTSTANDING = Integer.getInteger("load.maxOutstanding", 10000);
+    private static final boolean RELAY = Boolean.getBoolean("load.relay");
+
+    private static final StubAiServer.Profile UPSTREAM = new StubAiServer.Profile(
+            Duration.ofMillis(Long.getLong("load.upstreamLatencyMs", 50)),
+            Double.parseDouble(System.getProperty("load.upstreamSigma", "0.3")),
+            Double.parseDouble(System.getProperty("load.upstreamErrorRate", "0.0")),
+            Integer.getInteger("load.responseChars", 200));
+
+    @Test
+    void findSaturationPoint() {
+        try (StubAiServer stub = StubAiServer.start(UPSTREAM);
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(ApiServerApplication.class)
+                     .web(WebApplicationType.REACTIVE)
+                     .properties(
+                             "server.port=0",
+                             "external.chat.base-url=" + stub.baseUrl(),
+                             "external.chat.cache.enabled=false",
+                             "external.chat.similarity-cache.enabled=false",
+                             "external.chat.coalescing.enabled=false",
+                             "external.chat.relay.enabled=" + RELAY,
+                             "access-log.sample-rate=0.0",
+                             "rate-limit.enabled=false",
+                             "logging.level.com.odi=WARN")
+                     .run();
+             OpenLoadDriver driver = new OpenLoadDriver(
+                     "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port"), MAX_OUTSTANDING)) {
+
+            // 워밍업 (JIT, 커넥션 풀)
+            driver.runStep(START_RATE, Duration.ofSeconds(5));
+
+            System.out.printf("%n=== Greeting saturation search (relay=%s, upstream median=%dms sigma=%.2f errorRate=%.3f, p99 SLO=%dms) ===%n",
+                    RELAY, UPSTREAM.medianLatency().toMillis(), UPSTREAM.latencySigma(), UPSTREAM.errorRate(), P99_SLO.toMillis());
+            List<OpenLoadDriver.StepResult> results = driver.findSaturation(
+                    START_RATE, STEP, MAX_RATE, STEP_DURATION, P99_SLO, MAX_ERROR_RATE);
+
+            OpenLoadDriver.StepResult last = results.getLast();
+            if (last.saturated(P99_SLO, MAX_ERROR_RATE)) {
+                System.out.printf("Saturated at %d req/s (last sustainable: %s)%n", last.targetRate(),
+                        results.size() > 1 ? results.get(results.size() - 2).targetRate() + " req/s" : "none");
+            } else {
+                System.out.printf("Not saturated up to %d req/s%n", last.targetRate());
+            }
+        }
+    }
+}
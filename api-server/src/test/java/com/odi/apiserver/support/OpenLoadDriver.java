@@ -0,0 +1,194 @@
+package com.odi.apiserver.support;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufMono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 고정 도착률(open model) 부하 드라이버 - POST /api/v1/ai/greeting
+ * - 응답을 기다리지 않고 예정된 시각마다 요청을 보내므로, 서버가 느려져도 부하가 줄지 않음
+ * - 지연은 예정 발송 시각부터 측정 (coordinated omission 보정), HdrHistogram으로 p50/p99/p999 집계
+ * - 도착률을 단계적으로 올리며 SLO(p99, 오류율)를 처음 넘는 지점을 포화점으로 보고
+ */
+public final class OpenLoadDriver implements AutoCloseable {
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(2);
+
+    private final HttpClient httpClient;
+    private final ConnectionProvider connectionProvider;
+    private final int maxOutstanding;
+
+    public OpenLoadDriver(String baseUrl, int maxOutstanding) {
+        this.maxOutstanding = maxOutstanding;
+        this.connectionProvider = ConnectionProvider.builder("load-driver")
+                .maxConnections(maxOutstanding)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        this.httpClient = HttpClient.create(connectionProvider)
+                .baseUrl(baseUrl)
+                .headers(headers -> headers.set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON));
+    }
+
+    /**
+     * ratePerSecond로 duration 동안 요청을 보내고 결과를 집계
+     */
+    public StepResult runStep(int ratePerSecond, Duration duration) {
+        Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        AtomicInteger outstanding = new AtomicInteger();
+        AtomicLong errors = new AtomicLong();
+        AtomicLong dropped = new AtomicLong();
+        long total = (long) ratePerSecond * duration.toSeconds();
+        long intervalNanos = 1_000_000_000L / ratePerSecond;
+        CountDownLatch completed = new CountDownLatch((int) total);
+        GcSnapshot gcBefore = GcSnapshot.take();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long peakHeap = 0;
+
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long intended = start + i * intervalNanos;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if ((i & 1023) == 0) {
+                peakHeap = Math.max(peakHeap, memory.getHeapMemoryUsage().getUsed());
+            }
+            // 드라이버 자체가 무한히 쌓이지 않도록 상한 초과분은 보내지 않고 실패로 집계
+            if (outstanding.incrementAndGet() > maxOutstanding) {
+                outstanding.decrementAndGet();
+                dropped.incrementAndGet();
+                completed.countDown();
+                continue;
+            }
+            send(i).subscribe(status -> {
+                        if (status >= 400) {
+                            errors.incrementAndGet();
+                        }
+                    },
+                    error -> {
+                        errors.incrementAndGet();
+                        finish(histogram, outstanding, completed, intended);
+                    },
+                    () -> finish(histogram, outstanding, completed, intended));
+        }
+        long sendElapsed = System.nanoTime() - start;
+        awaitQuietly(completed);
+        long elapsed = System.nanoTime() - start;
+
+        GcSnapshot gcAfter = GcSnapshot.take();
+        return new StepResult(ratePerSecond,
+                (total - dropped.get()) / (elapsed / 1_000_000_000.0),
+                total / (sendElapsed / 1_000_000_000.0),
+                histogram.getValueAtPercentile(50) / 1_000_000.0,
+                histogram.getValueAtPercentile(99) / 1_000_000.0,
+                histogram.getValueAtPercentile(99.9) / 1_000_000.0,
+                histogram.getTotalCount(),
+                errors.get(),
+                dropped.get(),
+                peakHeap / (1024 * 1024),
+                gcAfter.count() - gcBefore.count(),
+                gcAfter.millis() - gcBefore.millis());
+    }
+
+    /**
+     * startRate부터 step씩 올리며 SLO를 넘는 첫 단계까지 실행
+     */
+    public List<StepResult> findSaturation(int startRate, int step, int maxRate, Duration stepDuration,
+                                           Duration p99Slo, double maxErrorRate) {
+        List<StepResult> results = new ArrayList<>();
+        for (int rate = startRate; rate <= maxRate; rate += step) {
+            StepResult result = runStep(rate, stepDuration);
+            results.add(result);
+            System.out.println(result);
+            if (result.saturated(p99Slo, maxErrorRate)) {
+                break;
+            }
+        }
+        return results;
+    }
+
+    private Mono<Integer> send(long sequence) {
+        String body = "{\"message\":\"부하 테스트 요청 " + sequence + "\",\"maxTokens\":100}";
+        return httpClient.post()
+                .uri("/api/v1/ai/greeting")
+                .send(ByteBufMono.fromString(Mono.just(body)))
+                .responseSingle((response, content) -> content.asString(StandardCharsets.UTF_8)
+                        .defaultIfEmpty("")
+                        .thenReturn(response.status().code()));
+    }
+
+    private void finish(Histogram histogram, AtomicInteger outstanding, CountDownLatch completed, long intended) {
+        histogram.recordValue(Math.min(System.nanoTime() - intended, HIGHEST_TRACKABLE_NANOS));
+        outstanding.decrementAndGet();
+        completed.countDown();
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        connectionProvider.disposeLater().block(Duration.ofSeconds(10));
+    }
+
+    private record GcSnapshot(long count, long millis) {
+        static GcSnapshot take() {
+            long count = 0;
+            long millis = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                count += Math.max(0, gc.getCollectionCount());
+                millis += Math.max(0, gc.getCollectionTime());
+            }
+            return new GcSnapshot(count, millis);
+        }
+    }
+
+    public record StepResult(int targetRate, double throughput, double offeredRate,
+                             double p50Millis, double p99Millis, double p999Millis,
+                             long completed, long errors, long dropped,
+                             long peakHeapMb, long gcCount, long gcMillis) {
+
+        public double errorRate() {
+            long attempted = completed + dropped;
+            return attempted == 0 ? 0.0 : (double) (errors + dropped) / attempted;
+        }
+
+        /**
+         * p99가 SLO를 넘거나, 오류율이 한도를 넘거나, 목표 도착률의 95%도 처리하지 못하면 포화
+         */
+        public boolean saturated(Duration p99Slo, double maxErrorRate) {
+            return p99Millis > p99Slo.toMillis()
+                    || errorRate() > maxErrorRate
+                    || throughput < targetRate * 0.95;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("rate=%5d/s  throughput=%8.1f req/s  p50=%8.1f ms  p99=%8.1f ms  p999=%8.1f ms  errors=%d  dropped=%d  peakHeap=%4d MB  gc=%d (%d ms)",
+                    targetRate, throughput, p50Millis, p99Millis, p999Millis, errors, dropped, peakHeapMb, gcCount, gcMillis);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.odi.apiserver.support;
+
+import com.odi.apiserver.application.port.out.ExternalChatPort;
+import com.odi.apiserver.domain.ai.ChatMessage;
+import com.sun.management.OperatingSystemMXBean;
+import reactor.core.publisher.Flux;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ExternalChatPort에 고정 동시성으로 부하를 걸고 처리량/지연/힙/스레드 수/CPU 시간을 측정 (벤치마크 하네스 공용)
+ * - 요청마다 메시지를 달리해 캐시/합치기가 결과에 섞이지 않게 함
+ */
+public final class PortLoadRunner {
+
+    private PortLoadRunner() {
+    }
+
+    public static Result run(String label, ExternalChatPort port, int requests, int concurrency) {
+        // 워밍업 (커넥션/JIT)
+        int warmup = Math.min(requests, 200);
+        drive(port, warmup, concurrency, new long[warmup], "warmup");
+
+        System.gc();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        OperatingSystemMXBean os = (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+        long cpuStart = os.getProcessCpuTime();
+        AtomicLong peakHeap = new AtomicLong();
+        Thread sampler = Thread.ofPlatform().daemon().start(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+
+        long[] latencies = new long[requests];
+        long start = System.nanoTime();
+        drive(port, requests, concurrency, latencies, label);
+        long elapsed = System.nanoTime() - start;
+        long cpuNanos = os.getProcessCpuTime() - cpuStart;
+        sampler.interrupt();
+
+        Arrays.sort(latencies);
+        return new Result(label,
+                requests / (elapsed / 1_000_000_000.0),
+                percentile(latencies, 0.50),
+                percentile(latencies, 0.99),
+                peakHeap.get() / (1024 * 1024),
+                threads.getPeakThreadCount(),
+                cpuNanos / 1_000_000);
+    }
+
+    private static void drive(ExternalChatPort port, int requests, int concurrency, long[] latencies, String prefix) {
+        Flux.range(0, requests)
+                .flatMap(i -> {
+                    long requestStart = System.nanoTime();
+                    return port.sendMessage(ChatMessage.createRequest(prefix + " 요청 " + i, 100))
+                            .doOnSuccess(message -> latencies[i] = System.nanoTime() - requestStart);
+                }, concurrency)
+                .blockLast();
+    }
+
+    private static double percentile(long[] sortedLatencies, double quantile) {
+        int index = Math.max(0, (int) Math.ceil(sortedLatencies.length * quantile) - 1);
+        return sortedLatencies[index] / 1_000_000.0;
+    }
+
+    public record Result(String label, double throughput, double p50Millis, double p99Millis,
+                         long peakHeapMb, int peakThreads, long cpuMillis) {
+        @Override
+        public String toString() {
+            return String.format("%-15s throughput=%8.1f req/s  p50=%8.1f ms  p99=%8.1f ms  peakHeap=%5d MB  peakThreads=%d  cpu=%d ms",
+                    label, throughput, p50Millis, p99Millis, peakHeapMb, peakThreads, cpuMillis);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.odi.apiserver.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트/벤치마크용 ai-server 대역 (Reactor Netty)
+ * - Clova Studio를 호출하지 않고 Profile에 따른 지연(고정 또는 log-normal 분포), 오류율, 응답 크기로 응답
+ * - failNext()로 다음 N건을 지정한 상태 코드(와 ai-server error_code)로 실패시킬 수 있음
+ * - /api/v1/chat/batch: 항목 수와 관계없이 한 번의 지연 후 응답 (ai-server의 동시 fan-out 모사)
+ * - /api/v1/chat/simple/stream: token 이벤트 몇 개 후 done (truncateNextStream()이면 done 없이 끊음)
+ * - HTTP/1.1과 h2c(prior knowledge/upgrade)를 함께 서비스하고, 수락한 TCP 커넥션 수를 집계
+ */
+public final class StubAiServer implements AutoCloseable {
+    private static final String RESPONSE_TEXT = "상쾌한 아침이야, 가볍게 시작해보자! ☀️";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int DEFAULT_STREAM_TOKENS = 3;
+    private static final Duration DEFAULT_STREAM_TOKEN_INTERVAL = Duration.ofMillis(10);
+
+    private final AtomicInteger chatRequests = new AtomicInteger();
+    private final AtomicInteger batchRequests = new AtomicInteger();
+    private final AtomicInteger batchItems = new AtomicInteger();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger remainingFailures = new AtomicInteger();
+    private final AtomicInteger streamCancellations = new AtomicInteger();
+    private final AtomicBoolean truncateNextStream = new AtomicBoolean();
+    private volatile int streamTokens = DEFAULT_STREAM_TOKENS;
+    private volatile Duration streamTokenInterval = DEFAULT_STREAM_TOKEN_INTERVAL;
+    private volatile int failureStatus = 500;
+    private volatile String failureBody;
+    private final Profile profile;
+    private final String chatResponse;
+    private final DisposableServer server;
+
+    /**
+     * 대역 응답 특성
+     *
+     * @param medianLatency 지연 중앙값
+     * @param latencySigma  log-normal 분포의 sigma (0이면 고정 지연, 0.5 전후면 p99가 중앙값의 약 3배)
+     * @param errorRate     무작위로 500을 돌려줄 비율 (0.0 ~ 1.0)
+     * @param responseChars 응답 텍스트 길이 (0이면 기본 문구)
+     */
+    public record Profile(Duration medianLatency, double latencySigma, double errorRate, int responseChars) {
+        public static Profile fixed(Duration latency) {
+            return new Profile(latency, 0.0, 0.0, 0);
+        }
+
+        Duration sampleLatency() {
+            if (latencySigma <= 0) {
+                return medianLatency;
+            }
+            double factor = Math.exp(latencySigma * ThreadLocalRandom.current().nextGaussian());
+            return Duration.ofNanos((long) (medianLatency.toNanos() * factor));
+        }
+
+        boolean sampleFailure() {
+            return errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+        }
+    }
+
+    private StubAiServer(Profile profile) {
+        this.profile = profile;
+        this.chatResponse = chatResponse(profile.responseChars());
+        this.server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .protocol(HttpProtocol.HTTP11, HttpProtocol.H2C)
+                .doOnChannelInit((observer, channel, address) -> connections.incrementAndGet())
+                .route(routes -> routes
+                        .post("/api/v1/chat/simple", (request, response) -> request.receive().aggregate()
+                                .then(Mono.delay(this.profile.sampleLatency()))
+                                .then(Mono.defer(() -> {
+                                    chatRequests.incrementAndGet();
+                                    if (remainingFailures.getAndUpdate(n -> Math.max(0, n - 1)) > 0 || this.profile.sampleFailure()) {
+                                        return response.status(HttpResponseStatus.valueOf(failureStatus))
+                                                .header("Content-Type", "application/json")
+                                                .sendString(Mono.just(failureBody))
+                                                .then();
+                                    }
+                                    return response.header("Content-Type", "application/json")
+                                            .header("Server-Timing", "app;dur=" + this.profile.medianLatency().toMillis())
+                                            .sendString(Mono.just(chatResponse))
+                                            .then();
+                                })))
+                        .post("/api/v1/chat/simple/stream", (request, response) -> request.receive().aggregate()
+                                .then(Mono.defer(() -> {
+                                    chatRequests.incrementAndGet();
+                                    return response.header("Content-Type", "text/event-stream")
+                                            .sendString(streamEvents(truncateNextStream.getAndSet(false)))
+                                            .then();
+                                })))
+                        .post("/api/v1/chat/batch", (request, response) -> request.receive().aggregate().asString()
+                                .flatMap(body -> Mono.delay(this.profile.sampleLatency()).thenReturn(body))
+                                .flatMap(body -> response.header("Content-Type", "application/json")
+                                        .sendString(Mono.just(batchResponse(body)))
+                                        .then()))
+                        .get("/api/v1/health/", (request, response) -> response.sendString(Mono.just("{\"success\":true}"))))
+                .bindNow();
+    }
+
+    public static StubAiServer start(Duration latency) {
+        return new StubAiServer(Profile.fixed(latency));
+    }
+
+    public static StubAiServer start(Profile profile) {
+        return new StubAiServer(profile);
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.port();
+    }
+
+    /**
+     * 다음 count건의 채팅 요청을 status로 실패시킴
+     */
+    public void failNext(int count, int status) {
+        failNext(count, status, null);
+    }
+
+    /**
+     * 다음 count건의 채팅 요청을 status와 error_code(ai-server ErrorResponse)로 실패시킴
+     */
+    public void failNext(int count, int status, String errorCode) {
+        this.failureStatus = status;
+        this.failureBody = errorCode == null
+                ? "{\"success\":false,\"message\":\"stub failure\"}"
+                : "{\"success\":false,\"message\":\"stub failure\",\"error_code\":\"" + errorCode + "\"}";
+        this.remainingFailures.set(count);
+    }
+
+    /**
+     * 다음 스트리밍 응답을 token 이벤트만 보내고 done 없이 끝냄
+     */
+    public void truncateNextStream() {
+        truncateNextStream.set(true);
+    }
+
+    /**
+     * 스트리밍 응답의 token 이벤트 수와 간격 (클라이언트 이탈 테스트용으로 길게)
+     */
+    public void streamTokens(int count, Duration interval) {
+        this.streamTokens = count;
+        this.streamTokenInterval = interval;
+    }
+
+    /**
+     * 끝까지 보내기 전에 클라이언트가 끊어 취소된 스트리밍 응답 수
+     */
+    public int streamCancellationCount() {
+        return streamCancellations.get();
+    }
+
+    public int chatRequestCount() {
+        return chatRequests.get();
+    }
+
+    public int batchRequestCount() {
+        return batchRequests.get();
+    }
+
+    public int batchItemCount() {
+        return batchItems.get();
+    }
+
+    /**
+     * 지금까지 수락한 TCP 커넥션 수
+     */
+    public int connectionCount() {
+        return connections.get();
+    }
+
+    public void reset() {
+        connections.set(0);
+        chatRequests.set(0);
+        batchRequests.set(0);
+        batchItems.set(0);
+        remainingFailures.set(0);
+        streamCancellations.set(0);
+        truncateNextStream.set(false);
+        streamTokens = DEFAULT_STREAM_TOKENS;
+        streamTokenInterval = DEFAULT_STREAM_TOKEN_INTERVAL;
+    }
+
+    private Flux<String> streamEvents(boolean truncate) {
+        Flux<String> tokens = Flux.range(0, streamTokens)
+                .delayElements(streamTokenInterval)
+                .map(i -> "event: token\ndata: {\"content\":\"토큰" + i + "\"}\n\n");
+        return (truncate ? tokens : tokens.concatWith(Mono.just("event: done\ndata: {}\n\n")))
+                .doOnCancel(streamCancellations::incrementAndGet);
+    }
+
+    private String batchResponse(String body) {
+        try {
+            batchRequests.incrementAndGet();
+            ObjectNode result = OBJECT_MAPPER.createObjectNode();
+            ArrayNode results = result.putArray("results");
+            for (JsonNode item : OBJECT_MAPPER.readTree(body).path("items")) {
+                batchItems.incrementAndGet();
+                results.addObject()
+                        .put("request_id", item.path("request_id").asText())
+                        .put("response", RESPONSE_TEXT)
+                        .putObject("usage")
+                        .put("prompt_tokens", 32)
+                        .put("completion_tokens", 18)
+                        .put("total_tokens", 50);
+            }
+            return OBJECT_MAPPER.writeValueAsString(result);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String chatResponse(int responseChars) {
+        String text = responseChars <= 0 ? RESPONSE_TEXT : "가".repeat(responseChars);
+        return "{\"response\":\"" + text + "\",\"usage\":{\"prompt_tokens\":32,\"completion_tokens\":18,\"total_tokens\":50}}";
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+}